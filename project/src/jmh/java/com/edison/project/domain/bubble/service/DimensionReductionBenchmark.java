@@ -0,0 +1,73 @@
+package com.edison.project.domain.bubble.service;
+
+import org.openjdk.jmh.annotations.*;
+import smile.feature.extraction.PCA;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 Smile 경로(float[][] → double[n][d] 복사 → PCA.fit)와 FloatPcaEngine 경로 비교
+ * 할당량 비교는 gc 프로파일러로 확인: ./gradlew jmh (build.gradle의 jmh 블록에서 -prof gc 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DimensionReductionBenchmark {
+
+    @Param({"500", "2000"})
+    private int bubbleCount;
+
+    @Param({"1536"})
+    private int dimension;
+
+    private float[][] vectors;
+    private DimensionReductionService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 몇 개의 주제 중심 주변에 흩어진 임베딩과 비슷한 분포
+        SplittableRandom random = new SplittableRandom(7L);
+        int topics = 8;
+        float[][] centers = new float[topics][dimension];
+        for (float[] center : centers) {
+            for (int j = 0; j < dimension; j++) {
+                center[j] = (float) (random.nextDouble() - 0.5) * 0.1f;
+            }
+        }
+
+        vectors = new float[bubbleCount][dimension];
+        for (int i = 0; i < bubbleCount; i++) {
+            float[] center = centers[i % topics];
+            for (int j = 0; j < dimension; j++) {
+                vectors[i][j] = center[j] + (float) (random.nextDouble() - 0.5) * 0.02f;
+            }
+        }
+        service = new DimensionReductionService();
+    }
+
+    @Benchmark
+    public double[][] legacySmilePca() {
+        double[][] data = new double[vectors.length][dimension];
+        for (int i = 0; i < vectors.length; i++) {
+            for (int j = 0; j < dimension; j++) {
+                data[i][j] = vectors[i][j];
+            }
+        }
+
+        PCA pca = PCA.fit(data).getProjection(2);
+        double[][] result = new double[data.length][];
+        for (int i = 0; i < data.length; i++) {
+            result[i] = pca.apply(data[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public DimensionReductionService.ProjectionResult floatPcaEngine() {
+        return service.fit(vectors);
+    }
+}
@@ -51,6 +51,13 @@ public enum ErrorStatus {
     LABELS_TOO_MANY(HttpStatus.BAD_REQUEST, "BUBBLE_LABEL4001", "라벨 개수는 최대 3개까지 가능합니다."),
     BACKLINK_FORBIDDEN(HttpStatus.FORBIDDEN, "BUBBLE4005", "권한이 없는 백링크 버블입니다."),
     BUBBLE_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "BUBBLE4006", "이미 존재하는 localIdx 버블입니다."),
+    BUBBLE_NOT_VECTORIZED(HttpStatus.BAD_REQUEST, "BUBBLE4007", "벡터화되지 않은 버블입니다."),
+    VECTORIZE_JOB_NOT_FOUND(HttpStatus.BAD_REQUEST, "BUBBLE4008", "벡터화 작업을 찾을 수 없습니다."),
+    BUBBLE_TITLE_REQUIRED(HttpStatus.BAD_REQUEST, "BUBBLE4009", "버블 제목은 필수입니다."),
+    INVALID_BUBBLE_CURSOR(HttpStatus.BAD_REQUEST, "BUBBLE4010", "유효하지 않은 버블 목록 커서입니다."),
+    INVALID_LIST_VIEW(HttpStatus.BAD_REQUEST, "BUBBLE4011", "view는 full 또는 summary만 가능합니다."),
+    EMBEDDING_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "BUBBLE5001", "임베딩을 생성할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    VECTORIZE_JOB_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "BUBBLE5002", "벡터화 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."),
 
     // 라벨 관련 에러
     LABELS_NOT_FOUND(HttpStatus.BAD_REQUEST, "LABEL4001", "라벨을 찾을 수 없습니다."),
@@ -85,6 +92,12 @@ public enum ErrorStatus {
     NO_BUBBLES_FOUND(HttpStatus.BAD_REQUEST,"SPACE4001", "작성된 버블이 없습니다."),
     NO_SPACES_FOUND(HttpStatus.BAD_REQUEST, "SPACE4002", "스페이스를 찾을 수 없습니다."),
     SIMILAR_BUBBLE_NOT_FOUND(HttpStatus.BAD_REQUEST, "SPACE4003", "이 키워드와 유사한 버블이 없습니다."),
+    AI_SERVER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SPACE5001", "AI 서버에 연결할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    AI_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SPACE5002", "AI 서버 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    // 증분 sync 관련 에러
+    INVALID_SYNC_CURSOR(HttpStatus.BAD_REQUEST, "SYNC4001", "유효하지 않은 sync 커서입니다."),
+    SYNC_CURSOR_EXPIRED(HttpStatus.GONE, "SYNC4101", "sync 커서가 만료되었습니다. 전체 데이터를 다시 받아 주세요."),
 
     // 페이징 관련 에러
     INVALID_PAGE_REQUEST(HttpStatus.BAD_REQUEST, "PAGENATION4001", "page는 음수일 수 없고, size는 100 이하의 양수여야 합니다.");
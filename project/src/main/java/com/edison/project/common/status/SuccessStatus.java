@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 @AllArgsConstructor
 public enum SuccessStatus {
 
-    _OK(HttpStatus.OK, "COMMON200", "성공입니다.");
+    _OK(HttpStatus.OK, "COMMON200", "성공입니다."),
+    _ACCEPTED(HttpStatus.ACCEPTED, "COMMON202", "요청이 접수되었습니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -19,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 @Tag(name = "Bubble", description = "버블 도메인 API")
 @RestController
 @RequestMapping("/bubbles")
@@ -26,32 +28,76 @@ import org.springframework.data.domain.Pageable;
 public class BubbleRestController {
     private final BubbleService bubbleService;
 
-    @Operation(summary = "삭제되지 않은 버블 전체 목록 조회", description = "soft delete된 버블을 제외한 전체 목록을 조회하는 기능입니다.")
+    @Operation(summary = "삭제되지 않은 버블 전체 목록 조회", description = "soft delete된 버블을 제외한 전체 목록을 조회하는 기능입니다. view=summary면 본문은 앞부분만 내려주고 백링크는 생략합니다.")
     @GetMapping("/space")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Response> getBubblesByMember(
             @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "full") String view) {
 
         // 최신순 정렬
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        if (BubbleRequestDto.ListView.from(view) == BubbleRequestDto.ListView.SUMMARY) {
+            return bubbleService.getBubbleSummaries(userPrincipal, BubbleRequestDto.ListScope.SPACE, pageable);
+        }
         ResponseEntity<Response> response = bubbleService.getBubblesByMember(userPrincipal, pageable);
         return response;
     }
 
-    @Operation(summary = "soft delete된 버블 전체 목록 조회", description = "soft delete된 버블 전체 목록을 조회하는 기능입니다.")
+    @Operation(summary = "삭제되지 않은 버블 목록 커서 조회", description = "soft delete된 버블을 제외한 목록을 수정 시각 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하고, 전체 개수가 필요할 때만 includeTotal=true로 요청합니다. view=summary면 본문은 앞부분만 내려주고 백링크는 생략합니다.")
+    @GetMapping("/space/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getBubblesByMemberCursor(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(defaultValue = "full") String view) {
+        if (BubbleRequestDto.ListView.from(view) == BubbleRequestDto.ListView.SUMMARY) {
+            return Response.onSuccess(SuccessStatus._OK,
+                    bubbleService.getBubbleSummaries(userPrincipal, BubbleRequestDto.ListScope.SPACE, cursor, size, includeTotal));
+        }
+        BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SyncResultDto> result =
+                bubbleService.getBubblesByMember(userPrincipal, cursor, size, includeTotal);
+        return Response.onSuccess(SuccessStatus._OK, result);
+    }
+
+    @Operation(summary = "soft delete된 버블 전체 목록 조회", description = "soft delete된 버블 전체 목록을 조회하는 기능입니다. view=summary면 본문은 앞부분만 내려주고 백링크는 생략합니다.")
     @GetMapping("/deleted")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Response> getDeletedBubbles(
         @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "20") int size) {
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "full") String view) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "deletedAt"));
+        if (BubbleRequestDto.ListView.from(view) == BubbleRequestDto.ListView.SUMMARY) {
+            return bubbleService.getBubbleSummaries(userPrincipal, BubbleRequestDto.ListScope.DELETED, pageable);
+        }
         return bubbleService.getDeletedBubbles(userPrincipal, pageable);
     }
 
+    @Operation(summary = "soft delete된 버블 목록 커서 조회", description = "soft delete된 버블 목록을 수정 시각 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. view=summary면 본문은 앞부분만 내려주고 백링크는 생략합니다.")
+    @GetMapping("/deleted/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getDeletedBubblesCursor(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(defaultValue = "full") String view) {
+        if (BubbleRequestDto.ListView.from(view) == BubbleRequestDto.ListView.SUMMARY) {
+            return Response.onSuccess(SuccessStatus._OK,
+                    bubbleService.getBubbleSummaries(userPrincipal, BubbleRequestDto.ListScope.DELETED, cursor, size, includeTotal));
+        }
+        BubbleResponseDto.CursorListResultDto<BubbleResponseDto.TrashedListResultDto> result =
+                bubbleService.getDeletedBubbles(userPrincipal, cursor, size, includeTotal);
+        return Response.onSuccess(SuccessStatus._OK, result);
+    }
+
 
     @Operation(summary = "버블 상세 조회", description = "localIdx로 버블 상세 정보를 조회하는 기능입니다.")
     @GetMapping("/{localIdx}")
@@ -64,19 +110,41 @@ public class BubbleRestController {
     }
 
 
-    @Operation(summary = "최근 버블 목록 조회", description = "7일 내 작성된 버블 목록을 조회하는 기능입니다.")
+    @Operation(summary = "최근 버블 목록 조회", description = "7일 내 작성된 버블 목록을 조회하는 기능입니다. view=summary면 본문은 앞부분만 내려주고 백링크는 생략합니다.")
     @GetMapping("/recent")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Response> getRecentBubblesByMember(
             @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "full") String view) {
         // 최신순 정렬
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        if (BubbleRequestDto.ListView.from(view) == BubbleRequestDto.ListView.SUMMARY) {
+            return bubbleService.getBubbleSummaries(userPrincipal, BubbleRequestDto.ListScope.RECENT, pageable);
+        }
         return bubbleService.getRecentBubblesByMember(userPrincipal, pageable);
 
     }
 
+    @Operation(summary = "최근 버블 목록 커서 조회", description = "7일 내 수정된 버블 목록을 수정 시각 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. view=summary면 본문은 앞부분만 내려주고 백링크는 생략합니다.")
+    @GetMapping("/recent/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getRecentBubblesByMemberCursor(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(defaultValue = "full") String view) {
+        if (BubbleRequestDto.ListView.from(view) == BubbleRequestDto.ListView.SUMMARY) {
+            return Response.onSuccess(SuccessStatus._OK,
+                    bubbleService.getBubbleSummaries(userPrincipal, BubbleRequestDto.ListScope.RECENT, cursor, size, includeTotal));
+        }
+        BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SyncResultDto> result =
+                bubbleService.getRecentBubblesByMember(userPrincipal, cursor, size, includeTotal);
+        return Response.onSuccess(SuccessStatus._OK, result);
+    }
+
 
     @Operation(summary = "버블 sync", description = "로컬 버블을 서버로 보내 로컬과 서버를 sync하는 기능입니다.")
     @PostMapping("/sync")
@@ -88,6 +156,16 @@ public class BubbleRestController {
         return Response.onSuccess(SuccessStatus._OK, response);
     }
 
+    @Operation(summary = "버블 일괄 sync", description = "오프라인 동안 쌓인 로컬 버블 변경분(최대 500개)을 한 번에 서버에 반영합니다. 항목별 결과(CREATED, UPDATED, DELETED, SKIPPED, FAILED)를 요청 순서대로 반환합니다.")
+    @PostMapping("/sync/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> syncBubbles(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestBody @Valid BubbleRequestDto.BatchSyncDto request) {
+        BubbleResponseDto.BatchSyncResultDto response = bubbleService.syncBubbles(userPrincipal, request);
+        return Response.onSuccess(SuccessStatus._OK, response);
+    }
+
 
     @Operation(summary = "버블 생성", description = "버블을 생성하는 기능입니다.")
     @PostMapping
@@ -142,18 +220,40 @@ public class BubbleRestController {
     }
 
 
-    @Operation(summary = "전체 버블 목록 조회", description = "소프트딜리트 된 버블을 포함한 모든 버블 목록을 조회하는 기능입니다.")
+    @Operation(summary = "전체 버블 목록 조회", description = "소프트딜리트 된 버블을 포함한 모든 버블 목록을 조회하는 기능입니다. view=summary면 본문은 앞부분만 내려주고 백링크는 생략합니다.")
     @GetMapping
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Response> getAllBubbles(
             @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "full") String view) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        if (BubbleRequestDto.ListView.from(view) == BubbleRequestDto.ListView.SUMMARY) {
+            return bubbleService.getBubbleSummaries(userPrincipal, BubbleRequestDto.ListScope.ALL, pageable);
+        }
         return bubbleService.getAllBubbles(userPrincipal, pageable);
     }
 
+    @Operation(summary = "전체 버블 목록 커서 조회", description = "soft delete된 버블을 포함한 모든 버블을 수정 시각 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. view=summary면 본문은 앞부분만 내려주고 백링크는 생략합니다.")
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getAllBubblesCursor(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(defaultValue = "full") String view) {
+        if (BubbleRequestDto.ListView.from(view) == BubbleRequestDto.ListView.SUMMARY) {
+            return Response.onSuccess(SuccessStatus._OK,
+                    bubbleService.getBubbleSummaries(userPrincipal, BubbleRequestDto.ListScope.ALL, cursor, size, includeTotal));
+        }
+        BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SyncResultDto> result =
+                bubbleService.getAllBubbles(userPrincipal, cursor, size, includeTotal);
+        return Response.onSuccess(SuccessStatus._OK, result);
+    }
+
 
     @Operation(summary = "단일 버블 벡터화", description = "localIdx로 soft delete되지 않은 버블을 벡터화하는 기능입니다.")
     @PostMapping("/{localIdx}/vectorize")
@@ -166,14 +266,35 @@ public class BubbleRestController {
     }
 
 
-    @Operation(summary = "모든 버블 벡터화", description = "soft delete되지 않은 모든 버블을 벡터화하는 기능입니다.")
+    @Operation(summary = "모든 버블 벡터화", description = "내용이 바뀌었거나 임베딩이 없는 버블을 벡터화하는 작업을 접수하고 작업 id를 반환합니다. force=true면 soft delete되지 않은 모든 버블을 다시 벡터화합니다. 진행 상황은 /bubbles/vectorize-jobs/{jobId}로 조회합니다.")
     @PostMapping("/vectorize-all")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Response> vectorizeAllBubbles(
-            @AuthenticationPrincipal CustomUserPrincipal userPrincipal) {
-        return bubbleService.vectorizeAllBubbles(userPrincipal);
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "false") boolean force) {
+        BubbleResponseDto.VectorizeJobDto job = bubbleService.vectorizeAllBubbles(userPrincipal, force);
+        return Response.onSuccess(SuccessStatus._ACCEPTED, job);
     }
 
+    @Operation(summary = "전체 벡터화 작업 조회", description = "전체 벡터화 작업의 진행 상황과 실패한 버블 목록을 조회하는 기능입니다.")
+    @GetMapping("/vectorize-jobs/{jobId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getVectorizeJob(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @PathVariable String jobId) {
+        BubbleResponseDto.VectorizeJobDto job = bubbleService.getVectorizeJob(userPrincipal, jobId);
+        return Response.onSuccess(SuccessStatus._OK, job);
+    }
+
+
+    @Operation(summary = "버블 임베딩 상태 조회", description = "전체 버블 수, 벡터화된 버블 수, 내용이 바뀌어 다시 벡터화해야 하는 버블 수를 조회하는 기능입니다.")
+    @GetMapping("/embeddings/status")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getEmbeddingStatus(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal) {
+        BubbleResponseDto.EmbeddingStatusDto status = bubbleService.getEmbeddingStatus(userPrincipal);
+        return Response.onSuccess(SuccessStatus._OK, status);
+    }
 
     @Operation(summary = "모든 버블 벡터 조회", description = "soft delete되지 않은 모든 버블의 벡터를 조회하는 기능입니다.")
     @GetMapping("/embeddings")
@@ -187,5 +308,59 @@ public class BubbleRestController {
         return bubbleService.getAllBubbleEmbeddings(userPrincipal, pageable);
     }
 
+    @Operation(summary = "유사 버블 조회", description = "임베딩 코사인 거리가 가까운 순으로 같은 사용자의 다른 버블을 조회하는 기능입니다.")
+    @GetMapping("/{localIdx}/similar")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getSimilarBubbles(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @PathVariable String localIdx,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<BubbleResponseDto.SimilarBubbleDto> result = bubbleService.getSimilarBubbles(userPrincipal, localIdx, limit);
+        return Response.onSuccess(SuccessStatus._OK, result);
+    }
+
+    @Operation(summary = "키워드 유사 버블 조회", description = "키워드를 임베딩하여 코사인 거리가 가까운 순으로 버블을 조회하는 기능입니다.")
+    @GetMapping("/similarity")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> searchSimilarBubbles(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<BubbleResponseDto.SimilarBubbleDto> result = bubbleService.searchSimilarBubbles(userPrincipal, keyword, limit);
+        return Response.onSuccess(SuccessStatus._OK, result);
+    }
+
+    @Operation(summary = "백링크 이웃 버블 조회", description = "백링크를 방향과 관계없이 따라가 depth 홉(최대 3) 이내의 버블을 가까운 순으로 조회하는 기능입니다.")
+    @GetMapping("/{localIdx}/neighbors")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getBubbleNeighbors(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @PathVariable String localIdx,
+            @RequestParam(defaultValue = "2") int depth,
+            @RequestParam(defaultValue = "200") int limit) {
+        List<BubbleResponseDto.GraphNeighborDto> result = bubbleService.getBubbleNeighbors(userPrincipal, localIdx, depth, limit);
+        return Response.onSuccess(SuccessStatus._OK, result);
+    }
+
+    @Operation(summary = "백링크 연결 요소 조회", description = "버블과 백링크로 이어진 모든 버블(연결 요소)을 조회하는 기능입니다.")
+    @GetMapping("/{localIdx}/component")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getBubbleComponent(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @PathVariable String localIdx,
+            @RequestParam(defaultValue = "1000") int limit) {
+        BubbleResponseDto.GraphComponentDto result = bubbleService.getBubbleComponent(userPrincipal, localIdx, limit);
+        return Response.onSuccess(SuccessStatus._OK, result);
+    }
+
+    @Operation(summary = "백링크 그래프 통계", description = "링크 수, 차수, 고립 버블 수, 연결 요소 수와 링크가 많은 버블을 조회하는 기능입니다.")
+    @GetMapping("/graph/stats")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getGraphStats(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal) {
+        BubbleResponseDto.GraphStatsDto result = bubbleService.getGraphStats(userPrincipal);
+        return Response.onSuccess(SuccessStatus._OK, result);
+    }
+
 }
 
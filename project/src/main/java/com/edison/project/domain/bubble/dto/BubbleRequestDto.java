@@ -1,7 +1,12 @@
 package com.edison.project.domain.bubble.dto;
 
+import com.edison.project.common.exception.GeneralException;
+import com.edison.project.common.status.ErrorStatus;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +19,28 @@ import java.util.Set;
 @Getter
 public class BubbleRequestDto {
 
+    // 목록 조회 대상
+    public enum ListScope {
+        SPACE,      // 휴지통 제외
+        DELETED,    // 휴지통
+        RECENT,     // 최근 7일 (휴지통 제외)
+        ALL         // 휴지통 포함
+    }
+
+    // 목록 응답 형태: FULL은 본문 전체와 백링크 포함, SUMMARY는 제목/본문 앞부분/라벨/시각만
+    public enum ListView {
+        FULL, SUMMARY;
+
+        public static ListView from(String value) {
+            for (ListView view : values()) {
+                if (view.name().equalsIgnoreCase(value)) {
+                    return view;
+                }
+            }
+            throw new GeneralException(ErrorStatus.INVALID_LIST_VIEW);
+        }
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -46,6 +73,16 @@ public class BubbleRequestDto {
         }
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchSyncDto {
+        @NotEmpty(message = "(DTO)sync할 버블 목록은 필수입니다.")
+        @Size(max = 500, message = "(DTO)한 번에 sync할 수 있는 버블은 최대 500개입니다.")
+        private List<@Valid SyncDto> bubbles;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -44,6 +44,24 @@ public class BubbleResponseDto {
         private LocalDateTime deletedAt;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SummaryResultDto {
+        private String localIdx;
+        private String title;
+        private String snippet;             // content 앞부분
+        private boolean snippetTruncated;   // 잘렸으면 전체는 GET /bubbles/{localIdx}로 조회
+        private String mainImageUrl;
+        private List<LabelResponseDTO.LabelSimpleInfoDto> labels;
+        private Boolean isTrashed;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private LocalDateTime deletedAt;
+        private Integer remainDay;          // 휴지통 목록에서만
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor
@@ -68,6 +86,60 @@ public class BubbleResponseDto {
         private boolean isTrashed;
     }
 
+    public record CursorListResultDto<T>(
+            List<T> bubbles,
+            String nextCursor,      // 다음 페이지 요청에 그대로 전달, 마지막 페이지면 null
+            boolean hasNext,
+            Long totalElements      // includeTotal=true로 요청했을 때만
+    ) {}
+
+    public record GraphNeighborDto(
+            String localIdx,
+            int distance            // 기준 버블에서의 홉 수 (링크 방향 무시)
+    ) {}
+
+    public record GraphComponentDto(
+            String localIdx,
+            int size,
+            boolean truncated,      // limit을 넘어 잘린 경우
+            List<String> localIdxs
+    ) {}
+
+    public record GraphHubDto(
+            String localIdx,
+            int outDegree,
+            int inDegree
+    ) {}
+
+    public record GraphStatsDto(
+            int nodeCount,
+            int edgeCount,
+            int isolatedCount,
+            int maxDegree,
+            double averageDegree,
+            int componentCount,
+            int largestComponentSize,
+            List<GraphHubDto> hubs
+    ) {}
+
+    public enum SyncItemStatus {
+        CREATED, UPDATED, DELETED, SKIPPED, FAILED
+    }
+
+    public record BatchSyncItemDto(
+            String localIdx,
+            SyncItemStatus status,
+            String code,            // FAILED일 때 에러 코드
+            String message
+    ) {}
+
+    public record BatchSyncResultDto(
+            int totalCount,
+            int successCount,
+            int failureCount,
+            List<BatchSyncItemDto> results     // 요청 순서와 같음
+    ) {}
+
     public record VectorizeResultDto(
             String localIdx,
             String title,
@@ -86,4 +158,35 @@ public class BubbleResponseDto {
             LocalDateTime createdAt
     ) {}
 
+    public record VectorizeJobDto(
+            String jobId,
+            String status,          // QUEUED, RUNNING, COMPLETED, FAILED
+            int totalCount,
+            int processedCount,
+            int successCount,
+            int failureCount,
+            List<VectorizeFailureDto> failures,
+            LocalDateTime createdAt,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            String message
+    ) {}
+
+    public record VectorizeFailureDto(
+            String localIdx,
+            String reason
+    ) {}
+
+    public record EmbeddingStatusDto(
+            long totalCount,
+            long vectorizedCount,
+            long staleCount         // 내용이 바뀌었거나 임베딩이 없어 다시 벡터화해야 하는 버블 수
+    ) {}
+
+    public record SimilarBubbleDto(
+            String localIdx,
+            String title,
+            double similarity   // 코사인 유사도 (1 - 코사인 거리)
+    ) {}
+
 }
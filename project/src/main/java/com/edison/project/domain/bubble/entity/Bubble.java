@@ -2,13 +2,16 @@ package com.edison.project.domain.bubble.entity;
 
 import com.edison.project.domain.label.entity.Label;
 import com.edison.project.domain.member.entity.Member;
+import com.edison.project.global.util.HashUtil;
 import com.pgvector.PGvector;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -16,9 +19,11 @@ import java.util.Set;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Setter
+// 유니크/부분 인덱스는 ddl-auto가 만들지 못하므로 BubbleQueryIndexManager에서 관리
 @Table(name = "Bubble", indexes = {
-        @Index(name = "idx_bubble_member_id", columnList = "member_id"),
-        @Index(name = "idx_bubble_local_idx", columnList = "local_idx")})
+        @Index(name = "idx_bubble_member_server_updated", columnList = "member_id, server_updated_at, bubble_id"),
+        @Index(name = "idx_bubble_member_trashed_updated", columnList = "member_id, is_trashed, updated_at, bubble_id"),
+        @Index(name = "idx_bubble_member_updated", columnList = "member_id, updated_at, bubble_id")})
 public class Bubble {
 
     @Id
@@ -76,6 +81,20 @@ public class Bubble {
     @Column(name = "embedding_2d_y")
     private Double embedding2dY;
 
+    // 제목 + 본문 지문 (SHA-256), 바뀌면 임베딩을 다시 만들어야 함
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 임베딩이 없거나 현재 내용과 맞지 않으면 true
+    @ColumnDefault("true")
+    @Column(name = "embedding_stale", nullable = false)
+    private boolean embeddingStale = true;
+
+    // 서버가 기록한 마지막 변경 시각 (updated_at은 클라이언트 값이라 증분 sync 커서로 쓸 수 없음)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "server_updated_at", nullable = false)
+    private LocalDateTime serverUpdatedAt;
+
     @Builder
     public Bubble(Member member, String localIdx, String title, String content, String mainImg, Set<BubbleLabel> labels,
                   boolean isTrashed, LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
@@ -103,6 +122,67 @@ public class Bubble {
     }
 
 
+    public static String fingerprint(String title, String content) {
+        return HashUtil.sha256Hex((title != null ? title : "") + "\u0000" + (content != null ? content : ""));
+    }
+
+    // 로딩/저장 시점의 sync 대상 상태 (임베딩, 좌표 같은 서버 내부 쓰기는 serverUpdatedAt을 올리지 않도록 비교용)
+    @Transient
+    private String loadedSyncState;
+
+    // 어떤 쓰기 경로로 내용이 바뀌든 저장 직전에 지문을 다시 계산해 임베딩을 stale로 표시
+    @PrePersist
+    void beforeInsert() {
+        refreshContentHash();
+        markSyncChanged();
+    }
+
+    // 클라이언트에 보이는 상태가 바뀐 경우에만 서버 변경 시각을 갱신
+    @PreUpdate
+    void beforeUpdate() {
+        refreshContentHash();
+        if (!syncState().equals(loadedSyncState)) {
+            markSyncChanged();
+        }
+    }
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberSyncState() {
+        this.loadedSyncState = syncState();
+    }
+
+    /**
+     * 증분 sync에 다시 내려가야 하는 변경 (컬럼 밖의 백링크/라벨 변경도 여기로 알린다)
+     */
+    public void markSyncChanged() {
+        this.serverUpdatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private void refreshContentHash() {
+        String current = fingerprint(title, content);
+        if (!current.equals(contentHash)) {
+            this.contentHash = current;
+            this.embeddingStale = true;
+        }
+    }
+
+    // 제목/본문은 지문으로 대신 비교
+    private String syncState() {
+        return contentHash + "\u0000" + mainImg + "\u0000" + isTrashed + "\u0000" + isDeleted + "\u0000" + deletedAt;
+    }
+
+    /**
+     * 임베딩 저장, 임베딩한 텍스트의 지문이 현재 내용과 같을 때만 stale 해제
+     * (임베딩하는 동안 내용이 수정됐으면 다음 벡터화 대상으로 남김)
+     */
+    public void applyEmbedding(float[] embedding, String embeddedFingerprint) {
+        this.embedding = embedding;
+        this.contentHash = fingerprint(title, content);
+        this.embeddingStale = !contentHash.equals(embeddedFingerprint);
+    }
+
     public void setTrashed (boolean trashed) {
         this.isTrashed = trashed;
     }
@@ -153,6 +233,7 @@ public class Bubble {
         }
 
         this.updatedAt = LocalDateTime.now();
+        markSyncChanged();
     }
 
 
@@ -0,0 +1,79 @@
+package com.edison.project.domain.bubble.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 2차원 PCA 투영 모델
+ * 평균 벡터와 2 x d 기저는 float32 little-endian 바이너리로 저장한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "bubble_projection_model", indexes = {
+        @Index(name = "idx_bubble_projection_model_fitted_at", columnList = "fitted_at")})
+public class BubbleProjectionModel {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "dimension", nullable = false)
+    private int dimension;
+
+    @Column(name = "mean_vector", nullable = false)
+    private byte[] meanVector;
+
+    @Column(name = "basis", nullable = false)
+    private byte[] basis;
+
+    @Column(name = "fitted_count", nullable = false)
+    private int fittedCount;
+
+    @Column(name = "explained_ratio", nullable = false)
+    private double explainedRatio;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "projected_since_fit", nullable = false)
+    private int projectedSinceFit;
+
+    @Column(name = "explained_energy_since_fit", nullable = false)
+    private double explainedEnergySinceFit;
+
+    @Column(name = "total_energy_since_fit", nullable = false)
+    private double totalEnergySinceFit;
+
+    @Column(name = "fitted_at", nullable = false)
+    private LocalDateTime fittedAt;
+
+    @Builder
+    public BubbleProjectionModel(Long memberId, int dimension, byte[] meanVector, byte[] basis, int fittedCount,
+                                 double explainedRatio, long version, LocalDateTime fittedAt) {
+        this.memberId = memberId;
+        this.dimension = dimension;
+        this.meanVector = meanVector;
+        this.basis = basis;
+        this.fittedCount = fittedCount;
+        this.explainedRatio = explainedRatio;
+        this.version = version;
+        this.fittedAt = fittedAt;
+    }
+
+    public void refit(int dimension, byte[] meanVector, byte[] basis, int fittedCount,
+                      double explainedRatio, LocalDateTime fittedAt) {
+        this.dimension = dimension;
+        this.meanVector = meanVector;
+        this.basis = basis;
+        this.fittedCount = fittedCount;
+        this.explainedRatio = explainedRatio;
+        this.fittedAt = fittedAt;
+        this.version++;
+        this.projectedSinceFit = 0;
+        this.explainedEnergySinceFit = 0.0;
+        this.totalEnergySinceFit = 0.0;
+    }
+}
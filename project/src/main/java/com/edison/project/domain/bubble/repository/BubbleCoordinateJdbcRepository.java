@@ -0,0 +1,102 @@
+package com.edison.project.domain.bubble.repository;
+
+import com.pgvector.PGvector;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 전체 재학습용 임베딩 조회와 2D 좌표 일괄 저장
+ * 엔티티를 올리지 않고 필요한 컬럼만 읽고 쓰므로, 학습/배치 계산은 트랜잭션 밖에서 하고 쓰기만 짧게 묶을 수 있다.
+ * 좌표는 클라이언트 sync 대상이 아니므로 server_updated_at은 건드리지 않는다.
+ */
+@Repository
+public class BubbleCoordinateJdbcRepository {
+
+    private static final String FIND_VECTORS_SQL =
+            "SELECT bubble_id, embedding::text AS embedding FROM bubble " +
+                    "WHERE member_id = ? AND is_trashed = false AND embedding IS NOT NULL " +
+                    "ORDER BY bubble_id";
+
+    private static final String FIND_PLACED_VECTORS_SQL =
+            "SELECT bubble_id, embedding::text AS embedding, embedding_2d_x, embedding_2d_y FROM bubble " +
+                    "WHERE member_id = ? AND bubble_id = ANY(?) AND is_trashed = false AND embedding IS NOT NULL " +
+                    "AND embedding_2d_x IS NOT NULL AND embedding_2d_y IS NOT NULL";
+
+    // 읽은 뒤 휴지통으로 간 버블은 건너뜀
+    private static final String UPDATE_COORDINATES_SQL =
+            "UPDATE bubble b SET embedding_2d_x = u.x, embedding_2d_y = u.y " +
+                    "FROM unnest(?::bigint[], ?::float8[], ?::float8[]) AS u(bubble_id, x, y) " +
+                    "WHERE b.bubble_id = u.bubble_id AND b.is_trashed = false";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BubbleCoordinateJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record VectorRow(long bubbleId, float[] embedding) {}
+
+    public record PlacedVectorRow(long bubbleId, float[] embedding, double x, double y) {}
+
+    public List<VectorRow> findVectors(Long memberId) {
+        return jdbcTemplate.query(FIND_VECTORS_SQL, (rs, rowNum) -> new VectorRow(
+                rs.getLong("bubble_id"),
+                parseVector(rs.getLong("bubble_id"), rs.getString("embedding"))), memberId);
+    }
+
+    /**
+     * 주어진 버블 중 임베딩과 좌표가 모두 있는 것 (증분 투영 좌표를 이웃 배치에 맞출 때 사용)
+     */
+    public List<PlacedVectorRow> findPlacedVectors(Long memberId, Collection<Long> bubbleIds) {
+        if (bubbleIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(FIND_PLACED_VECTORS_SQL);
+            ps.setLong(1, memberId);
+            ps.setArray(2, con.createArrayOf("bigint", bubbleIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> new PlacedVectorRow(
+                rs.getLong("bubble_id"),
+                parseVector(rs.getLong("bubble_id"), rs.getString("embedding")),
+                rs.getDouble("embedding_2d_x"),
+                rs.getDouble("embedding_2d_y")));
+    }
+
+    /**
+     * bubbleIds[i]의 좌표를 coordinates[i]로 (호출하는 쪽 트랜잭션에서 실행)
+     */
+    public void updateCoordinates(long[] bubbleIds, double[][] coordinates) {
+        if (bubbleIds.length == 0) {
+            return;
+        }
+        Long[] ids = new Long[bubbleIds.length];
+        Double[] xs = new Double[bubbleIds.length];
+        Double[] ys = new Double[bubbleIds.length];
+        for (int i = 0; i < bubbleIds.length; i++) {
+            ids[i] = bubbleIds[i];
+            xs[i] = coordinates[i][0];
+            ys[i] = coordinates[i][1];
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(UPDATE_COORDINATES_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            ps.setArray(2, con.createArrayOf("float8", xs));
+            ps.setArray(3, con.createArrayOf("float8", ys));
+            return ps;
+        });
+    }
+
+    private static float[] parseVector(long bubbleId, String text) throws SQLException {
+        try {
+            return new PGvector(text).toArray();
+        } catch (RuntimeException e) {
+            throw new SQLException("Unreadable embedding of bubble " + bubbleId, e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.edison.project.domain.bubble.repository;
+
+public interface BubbleEmbeddingSourceProjection {
+    Long getBubbleId();
+    String getLocalIdx();
+    String getTitle();
+    String getContent();
+}
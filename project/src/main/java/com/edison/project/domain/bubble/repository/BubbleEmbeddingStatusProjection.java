@@ -0,0 +1,7 @@
+package com.edison.project.domain.bubble.repository;
+
+public interface BubbleEmbeddingStatusProjection {
+    Long getTotalCount();
+    Long getVectorizedCount();
+    Long getStaleCount();
+}
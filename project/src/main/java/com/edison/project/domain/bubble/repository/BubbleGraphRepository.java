@@ -0,0 +1,53 @@
+package com.edison.project.domain.bubble.repository;
+
+import com.edison.project.domain.bubble.service.BubbleGraph;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 백링크 그래프 적재: 엔티티를 거치지 않고 노드와 링크를 각각 한 번의 쿼리로 읽는다.
+ */
+@Repository
+public class BubbleGraphRepository {
+
+    private static final String NODES_SQL =
+            "SELECT bubble_id, local_idx FROM bubble WHERE member_id = ? AND is_trashed = false";
+
+    private static final String EDGES_SQL =
+            "SELECT bl.bubble_id, bl.backlink_bubble_id FROM bubble_backlink bl " +
+                    "JOIN bubble b ON b.bubble_id = bl.bubble_id " +
+                    "WHERE b.member_id = ? AND bl.is_trashed = false";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BubbleGraphRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public BubbleGraph load(Long memberId) {
+        Map<Long, String> nodes = new HashMap<>();
+        jdbcTemplate.query(NODES_SQL, rs -> {
+            nodes.put(rs.getLong("bubble_id"), rs.getString("local_idx"));
+        }, memberId);
+
+        long[][] edges = {new long[256], new long[256]};
+        int[] size = {0};
+        jdbcTemplate.query(EDGES_SQL, rs -> {
+            if (size[0] == edges[0].length) {
+                edges[0] = Arrays.copyOf(edges[0], size[0] * 2);
+                edges[1] = Arrays.copyOf(edges[1], size[0] * 2);
+            }
+            edges[0][size[0]] = rs.getLong(1);
+            edges[1][size[0]] = rs.getLong(2);
+            size[0]++;
+        }, memberId);
+
+        return BubbleGraph.build(nodes, Arrays.copyOf(edges[0], size[0]), Arrays.copyOf(edges[1], size[0]));
+    }
+}
@@ -0,0 +1,202 @@
+package com.edison.project.domain.bubble.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 버블 목록 읽기 모델
+ * 목록 화면에 필요한 컬럼만 평평한 행으로 읽고, 라벨과 백링크는 페이지의 bubble_id 배열로 한 번씩 조회한다.
+ * 엔티티를 만들지 않으므로 영속성 컨텍스트와 지연 로딩을 거치지 않고, 페이지당 쿼리 수가 3개(+ COUNT)로 고정된다.
+ * snippetLength를 주면 content 전체 대신 앞부분만 SQL에서 잘라 읽는다 (요약 목록).
+ */
+@Repository
+public class BubbleListJdbcRepository {
+
+    private static final String COLUMNS =
+            "SELECT bubble_id, local_idx, title, %s AS content, main_img, is_trashed, is_deleted, " +
+                    "created_at, updated_at, deleted_at FROM bubble ";
+
+    // 커서 (updated_at, bubble_id) 이전, 최신순
+    private static final String KEYSET_CONDITION =
+            "AND (updated_at < ? OR (updated_at = ? AND bubble_id < ?)) " +
+                    "ORDER BY updated_at DESC, bubble_id DESC LIMIT ?";
+
+    private static final String FIND_LABELS_SQL =
+            "SELECT bl.bubble_id, l.local_idx, l.name, l.color " +
+                    "FROM bubble_label bl JOIN label l ON l.label_id = bl.label_id " +
+                    "WHERE bl.bubble_id = ANY(?)";
+
+    private static final String FIND_BACKLINKS_SQL =
+            "SELECT bb.bubble_id, t.local_idx " +
+                    "FROM bubble_backlink bb JOIN bubble t ON t.bubble_id = bb.backlink_bubble_id " +
+                    "WHERE bb.bubble_id = ANY(?)";
+
+    // offset 목록에서 허용하는 정렬 (API 속성명 -> 컬럼)
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "deletedAt", "deleted_at"
+    );
+
+    private static final RowMapper<BubbleListRow> ROW_MAPPER = (rs, rowNum) -> new BubbleListRow(
+            rs.getLong("bubble_id"),
+            rs.getString("local_idx"),
+            rs.getString("title"),
+            rs.getString("content"),
+            rs.getString("main_img"),
+            rs.getBoolean("is_trashed"),
+            rs.getBoolean("is_deleted"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getObject("deleted_at", LocalDateTime.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BubbleListJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record BubbleListRow(
+            Long bubbleId,
+            String localIdx,
+            String title,
+            String content,
+            String mainImg,
+            boolean trashed,
+            boolean deleted,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            LocalDateTime deletedAt
+    ) {}
+
+    public record LabelRow(Long bubbleId, String localIdx, String name, int color) {}
+
+    /**
+     * 목록 필터: trashed가 null이면 휴지통 포함, since가 null이면 기간 제한 없음
+     */
+    public record Filter(Long memberId, Boolean trashed, LocalDateTime since) {}
+
+    /**
+     * @param snippetLength null이면 content 전체, 아니면 앞 snippetLength자만 (잘렸는지 알 수 있도록 한 글자 더 읽음)
+     */
+    public Page<BubbleListRow> findPage(Filter filter, Integer snippetLength, Pageable pageable) {
+        List<Object> params = new ArrayList<>();
+        String where = where(filter, params);
+
+        List<Object> pageParams = new ArrayList<>();
+        String sql = columns(snippetLength, pageParams) + where + orderBy(pageable.getSort()) + " LIMIT ? OFFSET ?";
+        pageParams.addAll(params);
+        pageParams.add(pageable.getPageSize());
+        pageParams.add(pageable.getOffset());
+        List<BubbleListRow> rows = jdbcTemplate.query(sql, ROW_MAPPER, pageParams.toArray());
+
+        // 첫 페이지가 덜 찼거나 마지막 페이지면 COUNT 생략
+        return PageableExecutionUtils.getPage(rows, pageable,
+                () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bubble " + where, Long.class, params.toArray()));
+    }
+
+    public List<BubbleListRow> findPageBefore(Filter filter, Integer snippetLength,
+                                              LocalDateTime beforeTime, long beforeId, int limit) {
+        List<Object> params = new ArrayList<>();
+        String sql = columns(snippetLength, params) + where(filter, params) + KEYSET_CONDITION;
+        params.add(beforeTime);
+        params.add(beforeTime);
+        params.add(beforeId);
+        params.add(limit);
+        return jdbcTemplate.query(sql, ROW_MAPPER, params.toArray());
+    }
+
+    public long count(Filter filter) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT COUNT(*) FROM bubble " + where(filter, params);
+        return Optional.ofNullable(jdbcTemplate.queryForObject(sql, Long.class, params.toArray())).orElse(0L);
+    }
+
+    public Map<Long, List<LabelRow>> findLabelsByBubbleIds(Collection<Long> bubbleIds) {
+        Map<Long, List<LabelRow>> result = new HashMap<>();
+        if (bubbleIds.isEmpty()) {
+            return result;
+        }
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(FIND_LABELS_SQL);
+            ps.setArray(1, bigintArray(con, bubbleIds));
+            return ps;
+        }, rs -> {
+            LabelRow row = new LabelRow(rs.getLong("bubble_id"), rs.getString("local_idx"),
+                    rs.getString("name"), rs.getInt("color"));
+            result.computeIfAbsent(row.bubbleId(), id -> new ArrayList<>()).add(row);
+        });
+        return result;
+    }
+
+    public Map<Long, Set<String>> findBacklinkIdxsByBubbleIds(Collection<Long> bubbleIds) {
+        Map<Long, Set<String>> result = new HashMap<>();
+        if (bubbleIds.isEmpty()) {
+            return result;
+        }
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(FIND_BACKLINKS_SQL);
+            ps.setArray(1, bigintArray(con, bubbleIds));
+            return ps;
+        }, rs -> {
+            result.computeIfAbsent(rs.getLong("bubble_id"), id -> new HashSet<>()).add(rs.getString("local_idx"));
+        });
+        return result;
+    }
+
+    // left()는 TOAST 값을 앞부분만 풀어서 읽는다
+    private static String columns(Integer snippetLength, List<Object> params) {
+        if (snippetLength == null) {
+            return String.format(COLUMNS, "content");
+        }
+        params.add(snippetLength + 1);
+        return String.format(COLUMNS, "left(content, ?)");
+    }
+
+    private static String where(Filter filter, List<Object> params) {
+        StringBuilder where = new StringBuilder("WHERE member_id = ? ");
+        params.add(filter.memberId());
+        if (filter.trashed() != null) {
+            where.append("AND is_trashed = ? ");
+            params.add(filter.trashed());
+        }
+        if (filter.since() != null) {
+            where.append("AND updated_at >= ? ");
+            params.add(filter.since());
+        }
+        return where.toString();
+    }
+
+    // 같은 값이 많은 정렬 키에서도 페이지 경계가 흔들리지 않도록 bubble_id를 마지막 키로 둔다
+    private static String orderBy(Sort sort) {
+        StringJoiner order = new StringJoiner(", ", "ORDER BY ", "");
+        Sort.Direction tieBreak = Sort.Direction.DESC;
+        for (Sort.Order o : sort) {
+            String column = SORT_COLUMNS.get(o.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + o.getProperty());
+            }
+            order.add(column + (o.isAscending() ? " ASC" : " DESC"));
+            tieBreak = o.getDirection();
+        }
+        order.add("bubble_id " + tieBreak.name());
+        return order.toString();
+    }
+
+    private static Array bigintArray(Connection con, Collection<Long> values) throws SQLException {
+        return con.createArrayOf("bigint", values.toArray(new Long[0]));
+    }
+}
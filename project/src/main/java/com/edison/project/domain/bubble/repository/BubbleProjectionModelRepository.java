@@ -0,0 +1,50 @@
+package com.edison.project.domain.bubble.repository;
+
+import com.edison.project.domain.bubble.entity.BubbleProjectionModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BubbleProjectionModelRepository extends JpaRepository<BubbleProjectionModel, Long> {
+
+    // 증분 투영 통계만 갱신 (기저는 그대로)
+    @Modifying
+    @Query("UPDATE BubbleProjectionModel m " +
+            "SET m.projectedSinceFit = :projectedSinceFit, " +
+            "m.explainedEnergySinceFit = :explainedEnergy, " +
+            "m.totalEnergySinceFit = :totalEnergy " +
+            "WHERE m.memberId = :memberId AND m.version = :version")
+    int updateProjectionStats(
+            @Param("memberId") Long memberId,
+            @Param("version") long version,
+            @Param("projectedSinceFit") int projectedSinceFit,
+            @Param("explainedEnergy") double explainedEnergy,
+            @Param("totalEnergy") double totalEnergy
+    );
+
+    // 여러 인스턴스 중 한 곳만 재학습 대상을 고르도록 트랜잭션 단위 advisory lock (잡지 못하면 false)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryRefreshLock(@Param("lockKey") long lockKey);
+
+    // 재학습 대상: 증분 투영 건수 초과, 설명력 drift, 또는 증분 투영이 있었는데 오래된 모델
+    @Query("SELECT m.memberId FROM BubbleProjectionModel m " +
+            "WHERE m.projectedSinceFit > 0 " +
+            "AND (m.projectedSinceFit >= :minCount " +
+            "OR m.fittedAt < :fittedBefore " +
+            "OR (m.projectedSinceFit >= :minDriftSamples AND m.explainedEnergySinceFit < m.explainedRatio * :keepRatio * m.totalEnergySinceFit)) " +
+            "ORDER BY m.fittedAt ASC")
+    List<Long> findStaleMemberIds(
+            @Param("minCount") int minCount,
+            @Param("fittedBefore") LocalDateTime fittedBefore,
+            @Param("keepRatio") double keepRatio,
+            @Param("minDriftSamples") int minDriftSamples,
+            Pageable pageable
+    );
+}
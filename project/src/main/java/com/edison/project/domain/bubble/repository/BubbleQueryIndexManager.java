@@ -0,0 +1,175 @@
+package com.edison.project.domain.bubble.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * bubble 조회용 유니크/부분 인덱스 관리
+ * ddl-auto=update는 @Index로 일반 인덱스만 만들 수 있으므로, 자주 쓰는 조회 조건에 맞춘 부분 인덱스와
+ * (member_id, local_idx) 유니크 인덱스는 기동 시 CONCURRENTLY로 만들고 이 인덱스들로 대체된 예전 인덱스는 지운다.
+ */
+@Component
+@Slf4j
+public class BubbleQueryIndexManager {
+
+    // 단건 조회(local_idx), 배치 조회, 중복 생성 방지
+    public static final String MEMBER_LOCAL_IDX_UNIQUE = "uq_bubble_member_local_idx";
+    // 목록 (휴지통 제외 / 휴지통만), 생성일 최신순
+    public static final String MEMBER_TRASHED_CREATED_INDEX = "idx_bubble_member_trashed_created";
+    // 휴지통 목록, 삭제일 오래된 순
+    public static final String MEMBER_DELETED_INDEX = "idx_bubble_member_deleted";
+    // 임베딩 갱신 대상
+    public static final String MEMBER_STALE_INDEX = "idx_bubble_member_stale";
+    // 2D 좌표가 있는 버블 (지도 화면)
+    public static final String MEMBER_PROJECTED_INDEX = "idx_bubble_member_projected";
+    // 보관 기간이 지난 휴지통 버블 정리
+    public static final String TRASH_EXPIRY_INDEX = "idx_bubble_trash_expiry";
+
+    private static final List<IndexDefinition> INDEXES = List.of(
+            new IndexDefinition(MEMBER_LOCAL_IDX_UNIQUE,
+                    "CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS " + MEMBER_LOCAL_IDX_UNIQUE +
+                            " ON bubble (member_id, local_idx)"),
+            new IndexDefinition(MEMBER_TRASHED_CREATED_INDEX,
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + MEMBER_TRASHED_CREATED_INDEX +
+                            " ON bubble (member_id, is_trashed, created_at, bubble_id)"),
+            new IndexDefinition(MEMBER_DELETED_INDEX,
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + MEMBER_DELETED_INDEX +
+                            " ON bubble (member_id, deleted_at, bubble_id) WHERE is_trashed = true"),
+            new IndexDefinition(MEMBER_STALE_INDEX,
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + MEMBER_STALE_INDEX +
+                            " ON bubble (member_id, bubble_id) WHERE embedding_stale = true AND is_trashed = false"),
+            new IndexDefinition(MEMBER_PROJECTED_INDEX,
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + MEMBER_PROJECTED_INDEX +
+                            " ON bubble (member_id) WHERE embedding_2d_x IS NOT NULL AND embedding_2d_y IS NOT NULL" +
+                            " AND is_trashed = false"),
+            new IndexDefinition(TRASH_EXPIRY_INDEX,
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + TRASH_EXPIRY_INDEX +
+                            " ON bubble (deleted_at, bubble_id) WHERE is_trashed = true")
+    );
+
+    // 예전 @Index로 만들어졌고 위 인덱스로 대체된 것들
+    private static final List<String> SUPERSEDED_INDEXES = List.of(
+            "idx_bubble_member_id",
+            "idx_bubble_local_idx",
+            "idx_bubble_member_embedding_stale",
+            "idx_bubble_trashed_deleted_at"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public BubbleQueryIndexManager(JdbcTemplate jdbcTemplate,
+                                   @Value("${bubble.query-index.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    private record IndexDefinition(String name, String ddl) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("Bubble query index management is disabled");
+            return;
+        }
+        try {
+            ensureIndexes();
+        } catch (Exception e) {
+            log.error("Failed to ensure bubble query indexes", e);
+        }
+    }
+
+    public void ensureIndexes() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass('bubble') IS NOT NULL", Boolean.class))) {
+            log.warn("bubble table not found, skipping query index management");
+            return;
+        }
+
+        for (IndexDefinition index : INDEXES) {
+            if (MEMBER_LOCAL_IDX_UNIQUE.equals(index.name()) && hasDuplicateLocalIdx()) {
+                continue;
+            }
+            createIndex(index.name(), index.ddl());
+        }
+
+        // 대체 인덱스가 모두 만들어진 뒤에만 예전 인덱스를 지운다
+        boolean allValid = INDEXES.stream().allMatch(index -> Boolean.TRUE.equals(findIndexValidity(index.name())));
+        if (allValid) {
+            SUPERSEDED_INDEXES.forEach(this::dropIndex);
+        }
+    }
+
+    /**
+     * 쓰기 실패가 (member_id, local_idx) 유니크 인덱스 위반인지 확인
+     * JPA 저장은 DuplicateKeyException이 아니라 DataIntegrityViolationException으로 번역되므로 원인의 제약 이름으로 구분한다.
+     */
+    public static boolean isDuplicateLocalIdx(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && MEMBER_LOCAL_IDX_UNIQUE.equals(violation.getConstraintName())) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException && sqlException.getMessage() != null
+                    && sqlException.getMessage().contains(MEMBER_LOCAL_IDX_UNIQUE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 유니크 인덱스 이전에 쌓인 중복 (member_id, local_idx)가 있으면 인덱스를 만들 수 없으므로 알리고 건너뜀
+     */
+    private boolean hasDuplicateLocalIdx() {
+        if (Boolean.TRUE.equals(findIndexValidity(MEMBER_LOCAL_IDX_UNIQUE))) {
+            return false;
+        }
+        Long duplicates = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM (SELECT 1 FROM bubble WHERE local_idx IS NOT NULL " +
+                        "GROUP BY member_id, local_idx HAVING count(*) > 1) d",
+                Long.class);
+        if (duplicates != null && duplicates > 0) {
+            log.error("{} duplicated (member_id, local_idx) keys in bubble, cannot create {}",
+                    duplicates, MEMBER_LOCAL_IDX_UNIQUE);
+            return true;
+        }
+        return false;
+    }
+
+    private void createIndex(String indexName, String ddl) {
+        // CONCURRENTLY 생성이 중간에 실패하면 INVALID 인덱스가 남아 IF NOT EXISTS가 건너뛰므로 먼저 정리
+        Boolean valid = findIndexValidity(indexName);
+        if (Boolean.FALSE.equals(valid)) {
+            log.warn("Dropping invalid index {}", indexName);
+            dropIndex(indexName);
+        } else if (Boolean.TRUE.equals(valid)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        jdbcTemplate.execute(ddl);
+        log.info("Created index {} in {} ms", indexName, System.currentTimeMillis() - start);
+    }
+
+    private void dropIndex(String indexName) {
+        if (findIndexValidity(indexName) != null) {
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+            log.info("Dropped index {}", indexName);
+        }
+    }
+
+    private Boolean findIndexValidity(String indexName) {
+        List<Boolean> rows = jdbcTemplate.queryForList(
+                "SELECT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)",
+                Boolean.class, indexName);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -62,12 +63,59 @@ public interface BubbleRepository extends JpaRepository<Bubble, Long> {
     // ============ 벡터 임베딩 조회 ============
     Page<Bubble> findByMember_MemberIdAndIsTrashedFalseAndEmbeddingIsNotNull(Long memberId, Pageable pageable);
 
+    // 벡터화 작업 대상 id (청크 단위로 나누어 처리)
+    @Query("SELECT b.bubbleId FROM Bubble b " +
+            "WHERE b.member.memberId = :memberId " +
+            "AND b.isTrashed = false " +
+            "ORDER BY b.bubbleId")
+    List<Long> findActiveBubbleIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 내용이 바뀌었거나 아직 임베딩이 없는 버블 id
+    @Query("SELECT b.bubbleId FROM Bubble b " +
+            "WHERE b.member.memberId = :memberId " +
+            "AND b.isTrashed = false " +
+            "AND b.embeddingStale = true " +
+            "ORDER BY b.bubbleId")
+    List<Long> findStaleBubbleIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 회원의 임베딩 상태 집계 (휴지통 제외)
+    @Query("SELECT COUNT(b) as totalCount, " +
+            "COALESCE(SUM(CASE WHEN b.embedding IS NOT NULL THEN 1 ELSE 0 END), 0) as vectorizedCount, " +
+            "COALESCE(SUM(CASE WHEN b.embeddingStale = true THEN 1 ELSE 0 END), 0) as staleCount " +
+            "FROM Bubble b " +
+            "WHERE b.member.memberId = :memberId " +
+            "AND b.isTrashed = false")
+    BubbleEmbeddingStatusProjection countEmbeddingStatusByMemberId(@Param("memberId") Long memberId);
+
+    // 임베딩할 텍스트만 조회 (벡터 컬럼은 읽지 않음)
+    @Query("SELECT b.bubbleId as bubbleId, " +
+            "b.localIdx as localIdx, " +
+            "b.title as title, " +
+            "b.content as content " +
+            "FROM Bubble b " +
+            "WHERE b.bubbleId IN :bubbleIds " +
+            "AND b.isTrashed = false")
+    List<BubbleEmbeddingSourceProjection> findEmbeddingSourcesByBubbleIdIn(@Param("bubbleIds") Collection<Long> bubbleIds);
+
+    // ============ 증분 sync ============
+
+    // 커서 (serverUpdatedAt, bubbleId) 이후 변경분, 휴지통 포함
+    @Query("SELECT b FROM Bubble b " +
+            "WHERE b.member.memberId = :memberId " +
+            "AND b.serverUpdatedAt <= :until " +
+            "AND (b.serverUpdatedAt > :afterTime OR (b.serverUpdatedAt = :afterTime AND b.bubbleId > :afterId)) " +
+            "ORDER BY b.serverUpdatedAt, b.bubbleId")
+    List<Bubble> findChangesAfter(
+            @Param("memberId") Long memberId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until,
+            Pageable pageable
+    );
+
     // ============ 배치 조회 ============
     Set<Bubble> findAllByMemberAndLocalIdxIn(Member member, Set<String> localIdxs);
 
-    // ============ 존재 여부 ============
-    Boolean existsByMemberAndLocalIdx(Member member, String localIdx);
-
     @Query("SELECT b.localIdx as localIdx, " +
             "b.title as title, " +
             "b.embedding2dX as embedding2dX, " +
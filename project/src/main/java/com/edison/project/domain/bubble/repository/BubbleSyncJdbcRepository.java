@@ -0,0 +1,401 @@
+package com.edison.project.domain.bubble.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * sync 전용 JDBC 쓰기
+ * 엔티티를 하나씩 로딩/flush하지 않고, 조회는 = ANY(배열) 한 번, 쓰기는 JDBC 배치로 묶어
+ * 요청 건수나 링크 수와 관계없이 왕복 횟수가 일정하도록 한다.
+ * JPA 콜백을 거치지 않으므로 content_hash / embedding_stale은 여기서 직접 유지한다.
+ */
+@Repository
+public class BubbleSyncJdbcRepository {
+
+    private static final String FIND_BUBBLES_SQL =
+            "SELECT bubble_id, local_idx, is_trashed FROM bubble WHERE member_id = ? AND local_idx = ANY(?)";
+
+    private static final String FIND_LABELS_SQL =
+            "SELECT label_id, local_idx FROM label WHERE member_id = ? AND local_idx = ANY(?)";
+
+    private static final String INSERT_BUBBLE_SQL =
+            "INSERT INTO bubble (member_id, local_idx, title, content, main_img, is_deleted, is_trashed, " +
+                    "created_at, updated_at, deleted_at, content_hash, embedding_stale, server_updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, false, ?, ?, ?, ?, ?, true, ?)";
+
+    // 지문이 바뀐 경우에만 stale로 표시 (SET 우변은 모두 갱신 전 값을 참조)
+    private static final String UPDATE_BUBBLE_SQL =
+            "UPDATE bubble SET title = ?, content = ?, main_img = ?, is_trashed = ?, updated_at = ?, deleted_at = ?, " +
+                    "embedding_stale = (embedding_stale OR content_hash IS DISTINCT FROM ?), content_hash = ?, " +
+                    "server_updated_at = ? " +
+                    "WHERE bubble_id = ?";
+
+    // 증분 sync에 삭제를 전달하기 위한 기록
+    private static final String INSERT_TOMBSTONES_SQL =
+            "INSERT INTO sync_tombstone (member_id, entity_type, local_idx, deleted_at) " +
+                    "SELECT member_id, 'BUBBLE', local_idx, ? FROM bubble WHERE bubble_id = ANY(?)";
+
+    // 커밋 직전에 sync 시각을 다시 찍기 위한 갱신 (이번 트랜잭션이 writtenAt으로 쓴 삭제 기록만)
+    private static final String STAMP_BUBBLES_SQL =
+            "UPDATE bubble SET server_updated_at = ? WHERE bubble_id = ANY(?)";
+
+    private static final String STAMP_TOMBSTONES_SQL =
+            "UPDATE sync_tombstone SET deleted_at = ? " +
+                    "WHERE member_id = ? AND entity_type = 'BUBBLE' AND local_idx = ANY(?) AND deleted_at = ?";
+
+    private static final String DELETE_BACKLINKS_OF_BUBBLES_SQL =
+            "DELETE FROM bubble_backlink WHERE bubble_id = ANY(?) OR backlink_bubble_id = ANY(?)";
+
+    private static final String DELETE_LABELS_OF_BUBBLES_SQL =
+            "DELETE FROM bubble_label WHERE bubble_id = ANY(?)";
+
+    private static final String DELETE_SPACES_OF_BUBBLES_SQL =
+            "DELETE FROM spaces WHERE bubble_id = ANY(?)";
+
+    private static final String DELETE_BUBBLES_SQL =
+            "DELETE FROM bubble WHERE bubble_id = ANY(?)";
+
+    private static final String INSERT_LABEL_SQL =
+            "INSERT INTO bubble_label (bubble_id, label_id) VALUES (?, ?)";
+
+    // 버블 하나의 현재 백링크(B)와 라벨 매핑(L)을 한 번에 조회
+    private static final String FIND_LINKS_OF_BUBBLE_SQL =
+            "SELECT 'B' AS kind, id AS row_id, backlink_bubble_id AS target_id FROM bubble_backlink WHERE bubble_id = ? " +
+                    "UNION ALL " +
+                    "SELECT 'L' AS kind, bubble_label_id AS row_id, label_id AS target_id FROM bubble_label WHERE bubble_id = ?";
+
+    private static final String DELETE_BACKLINKS_BY_ID_SQL =
+            "DELETE FROM bubble_backlink WHERE id = ANY(?)";
+
+    private static final String DELETE_LABELS_BY_ID_SQL =
+            "DELETE FROM bubble_label WHERE bubble_label_id = ANY(?)";
+
+    private static final String INSERT_BACKLINK_SQL =
+            "INSERT INTO bubble_backlink (bubble_id, backlink_bubble_id, is_trashed) " +
+                    "SELECT ?, ?, false WHERE NOT EXISTS (" +
+                    "SELECT 1 FROM bubble_backlink WHERE bubble_id = ? AND backlink_bubble_id = ?)";
+
+    // 요청 버블들의 백링크 중 요청에 없는 (bubble_id, 대상) 쌍을 한 번에 삭제
+    private static final String DELETE_BACKLINKS_NOT_IN_SQL =
+            "DELETE FROM bubble_backlink bl WHERE bl.bubble_id = ANY(?) AND NOT EXISTS (" +
+                    "SELECT 1 FROM unnest(?::bigint[], ?::bigint[]) AS k(bubble_id, target_id) " +
+                    "WHERE k.bubble_id = bl.bubble_id AND k.target_id = bl.backlink_bubble_id)";
+
+    // 링크 양 끝 중 하나라도 휴지통에 있으면 링크도 휴지통 상태
+    private static final String REFRESH_BACKLINK_TRASH_SQL =
+            "UPDATE bubble_backlink bl SET is_trashed = (s.is_trashed OR t.is_trashed) " +
+                    "FROM bubble s, bubble t " +
+                    "WHERE s.bubble_id = bl.bubble_id AND t.bubble_id = bl.backlink_bubble_id " +
+                    "AND (bl.bubble_id = ANY(?) OR bl.backlink_bubble_id = ANY(?)) " +
+                    "AND bl.is_trashed IS DISTINCT FROM (s.is_trashed OR t.is_trashed)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BubbleSyncJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record ExistingBubbleRow(Long bubbleId, String localIdx, boolean trashed) {}
+
+    public record BubbleWriteRow(
+            Long bubbleId,          // 신규 INSERT면 null
+            String localIdx,
+            String title,
+            String content,
+            String mainImg,
+            boolean trashed,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            LocalDateTime deletedAt,
+            String contentHash
+    ) {}
+
+    public Map<String, ExistingBubbleRow> findBubblesByLocalIdxIn(Long memberId, Collection<String> localIdxs) {
+        Map<String, ExistingBubbleRow> result = new HashMap<>();
+        if (localIdxs.isEmpty()) {
+            return result;
+        }
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(FIND_BUBBLES_SQL);
+            ps.setLong(1, memberId);
+            ps.setArray(2, varcharArray(con, localIdxs));
+            return ps;
+        }, rs -> {
+            ExistingBubbleRow row = new ExistingBubbleRow(
+                    rs.getLong("bubble_id"), rs.getString("local_idx"), rs.getBoolean("is_trashed"));
+            result.put(row.localIdx(), row);
+        });
+        return result;
+    }
+
+    public Map<String, Long> findLabelIdsByLocalIdxIn(Long memberId, Collection<String> localIdxs) {
+        Map<String, Long> result = new HashMap<>();
+        if (localIdxs.isEmpty()) {
+            return result;
+        }
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(FIND_LABELS_SQL);
+            ps.setLong(1, memberId);
+            ps.setArray(2, varcharArray(con, localIdxs));
+            return ps;
+        }, rs -> {
+            result.put(rs.getString("local_idx"), rs.getLong("label_id"));
+        });
+        return result;
+    }
+
+    public void insertBubbles(Long memberId, List<BubbleWriteRow> rows, LocalDateTime serverUpdatedAt) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_BUBBLE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, memberId);
+            ps.setString(2, row.localIdx());
+            ps.setString(3, row.title());
+            ps.setString(4, row.content());
+            ps.setString(5, row.mainImg());
+            ps.setBoolean(6, row.trashed());
+            ps.setObject(7, row.createdAt());
+            ps.setObject(8, row.updatedAt());
+            ps.setObject(9, row.deletedAt());
+            ps.setString(10, row.contentHash());
+            ps.setObject(11, serverUpdatedAt);
+        });
+    }
+
+    public void updateBubbles(List<BubbleWriteRow> rows, LocalDateTime serverUpdatedAt) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_BUBBLE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.title());
+            ps.setString(2, row.content());
+            ps.setString(3, row.mainImg());
+            ps.setBoolean(4, row.trashed());
+            ps.setObject(5, row.updatedAt());
+            ps.setObject(6, row.deletedAt());
+            ps.setString(7, row.contentHash());
+            ps.setString(8, row.contentHash());
+            ps.setObject(9, serverUpdatedAt);
+            ps.setLong(10, row.bubbleId());
+        });
+    }
+
+    /**
+     * 하드 삭제: 삭제 기록을 남긴 뒤 양방향 백링크, 라벨 매핑, 지도 좌표, 버블 순으로 삭제
+     */
+    public void deleteBubbles(Collection<Long> bubbleIds, LocalDateTime deletedAt) {
+        if (bubbleIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_TOMBSTONES_SQL);
+            ps.setObject(1, deletedAt);
+            ps.setArray(2, bigintArray(con, bubbleIds));
+            return ps;
+        });
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_BACKLINKS_OF_BUBBLES_SQL);
+            ps.setArray(1, bigintArray(con, bubbleIds));
+            ps.setArray(2, bigintArray(con, bubbleIds));
+            return ps;
+        });
+        deleteLabelsOfBubbles(bubbleIds);
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_SPACES_OF_BUBBLES_SQL);
+            ps.setArray(1, bigintArray(con, bubbleIds));
+            return ps;
+        });
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_BUBBLES_SQL);
+            ps.setArray(1, bigintArray(con, bubbleIds));
+            return ps;
+        });
+    }
+
+    /**
+     * 이번 트랜잭션에서 쓴 버블과 삭제 기록의 sync 시각을 committedAt으로 교체
+     * 증분 sync 커서는 이 시각 기준으로 움직이므로, 트랜잭션 시작 시각이 아니라 커밋 직전 시각이어야 한다.
+     */
+    public void stampSyncTime(Long memberId, Collection<Long> bubbleIds, Collection<String> deletedLocalIdxs,
+                              LocalDateTime writtenAt, LocalDateTime committedAt) {
+        if (!bubbleIds.isEmpty()) {
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(STAMP_BUBBLES_SQL);
+                ps.setObject(1, committedAt);
+                ps.setArray(2, bigintArray(con, bubbleIds));
+                return ps;
+            });
+        }
+        if (!deletedLocalIdxs.isEmpty()) {
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(STAMP_TOMBSTONES_SQL);
+                ps.setObject(1, committedAt);
+                ps.setLong(2, memberId);
+                ps.setArray(3, varcharArray(con, deletedLocalIdxs));
+                ps.setObject(4, writtenAt);
+                return ps;
+            });
+        }
+    }
+
+    /**
+     * 버블별 라벨 매핑을 요청 값으로 교체
+     */
+    public void replaceLabels(Map<Long, Set<Long>> labelIdsByBubbleId) {
+        if (labelIdsByBubbleId.isEmpty()) {
+            return;
+        }
+        deleteLabelsOfBubbles(labelIdsByBubbleId.keySet());
+
+        List<long[]> pairs = new ArrayList<>();
+        labelIdsByBubbleId.forEach((bubbleId, labelIds) ->
+                labelIds.forEach(labelId -> pairs.add(new long[]{bubbleId, labelId})));
+        if (pairs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_LABEL_SQL, pairs, pairs.size(), (ps, pair) -> {
+            ps.setLong(1, pair[0]);
+            ps.setLong(2, pair[1]);
+        });
+    }
+
+    /**
+     * 버블 하나의 백링크/라벨을 요청 집합에 맞춤
+     * 현재 상태를 한 번 읽어 추가/삭제 집합을 계산하고, 삭제는 id 배열로, 추가는 배치로 반영한 뒤
+     * 링크 휴지통 상태를 한 문장으로 정리한다. 링크 수와 관계없이 최대 6개 문장.
+     * 버블 행의 is_trashed가 먼저 DB에 반영(flush)되어 있어야 한다.
+     */
+    public void applyLinkDiff(Long bubbleId, Set<Long> backlinkTargetIds, Set<Long> labelIds) {
+        Map<Long, Long> currentBacklinks = new HashMap<>();   // target id -> row id
+        Map<Long, Long> currentLabels = new HashMap<>();      // label id -> row id
+        jdbcTemplate.query(FIND_LINKS_OF_BUBBLE_SQL, rs -> {
+            Map<Long, Long> target = "B".equals(rs.getString("kind")) ? currentBacklinks : currentLabels;
+            target.put(rs.getLong("target_id"), rs.getLong("row_id"));
+        }, bubbleId, bubbleId);
+
+        List<Long> backlinkRowsToRemove = new ArrayList<>();
+        currentBacklinks.forEach((targetId, rowId) -> {
+            if (!backlinkTargetIds.contains(targetId)) {
+                backlinkRowsToRemove.add(rowId);
+            }
+        });
+        List<Long> labelRowsToRemove = new ArrayList<>();
+        currentLabels.forEach((labelId, rowId) -> {
+            if (!labelIds.contains(labelId)) {
+                labelRowsToRemove.add(rowId);
+            }
+        });
+        List<long[]> backlinksToAdd = backlinkTargetIds.stream()
+                .filter(targetId -> !currentBacklinks.containsKey(targetId))
+                .map(targetId -> new long[]{bubbleId, targetId})
+                .toList();
+        List<long[]> labelsToAdd = labelIds.stream()
+                .filter(labelId -> !currentLabels.containsKey(labelId))
+                .map(labelId -> new long[]{bubbleId, labelId})
+                .toList();
+
+        deleteByIds(DELETE_BACKLINKS_BY_ID_SQL, backlinkRowsToRemove);
+        deleteByIds(DELETE_LABELS_BY_ID_SQL, labelRowsToRemove);
+        insertMissingBacklinks(backlinksToAdd);
+        if (!labelsToAdd.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LABEL_SQL, labelsToAdd, labelsToAdd.size(), (ps, pair) -> {
+                ps.setLong(1, pair[0]);
+                ps.setLong(2, pair[1]);
+            });
+        }
+        refreshBacklinkTrashFlags(List.of(bubbleId));
+    }
+
+    /**
+     * 버블별 백링크를 요청 집합으로 맞춤 (단건 sync의 applyLinkDiff와 같은 의미)
+     * 요청에 없는 링크는 문장 하나로 지우고, 없는 링크만 추가한다.
+     */
+    public void replaceBacklinks(Map<Long, Set<Long>> targetIdsByBubbleId) {
+        if (targetIdsByBubbleId.isEmpty()) {
+            return;
+        }
+        List<long[]> pairs = new ArrayList<>();
+        targetIdsByBubbleId.forEach((bubbleId, targetIds) ->
+                targetIds.forEach(targetId -> pairs.add(new long[]{bubbleId, targetId})));
+        Long[] sources = new Long[pairs.size()];
+        Long[] targets = new Long[pairs.size()];
+        for (int i = 0; i < pairs.size(); i++) {
+            sources[i] = pairs.get(i)[0];
+            targets[i] = pairs.get(i)[1];
+        }
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_BACKLINKS_NOT_IN_SQL);
+            ps.setArray(1, bigintArray(con, targetIdsByBubbleId.keySet()));
+            ps.setArray(2, con.createArrayOf("bigint", sources));
+            ps.setArray(3, con.createArrayOf("bigint", targets));
+            return ps;
+        });
+        insertMissingBacklinks(pairs);
+    }
+
+    /**
+     * 없는 백링크만 추가 (기존 링크는 유지)
+     */
+    public void insertMissingBacklinks(List<long[]> pairs) {
+        if (pairs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_BACKLINK_SQL, pairs, pairs.size(), (ps, pair) -> {
+            ps.setLong(1, pair[0]);
+            ps.setLong(2, pair[1]);
+            ps.setLong(3, pair[0]);
+            ps.setLong(4, pair[1]);
+        });
+    }
+
+    /**
+     * 주어진 버블에 걸린 링크의 휴지통 상태를 양 끝 버블 상태에 맞춤
+     */
+    public void refreshBacklinkTrashFlags(Collection<Long> bubbleIds) {
+        if (bubbleIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(REFRESH_BACKLINK_TRASH_SQL);
+            ps.setArray(1, bigintArray(con, bubbleIds));
+            ps.setArray(2, bigintArray(con, bubbleIds));
+            return ps;
+        });
+    }
+
+    private void deleteByIds(String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, bigintArray(con, ids));
+            return ps;
+        });
+    }
+
+    private void deleteLabelsOfBubbles(Collection<Long> bubbleIds) {
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_LABELS_OF_BUBBLES_SQL);
+            ps.setArray(1, bigintArray(con, bubbleIds));
+            return ps;
+        });
+    }
+
+    private static Array varcharArray(Connection con, Collection<String> values) throws SQLException {
+        return con.createArrayOf("varchar", values.toArray(new String[0]));
+    }
+
+    private static Array bigintArray(Connection con, Collection<Long> values) throws SQLException {
+        return con.createArrayOf("bigint", values.toArray(new Long[0]));
+    }
+}
@@ -0,0 +1,65 @@
+package com.edison.project.domain.bubble.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 휴지통 보관 기간이 지난 버블 정리용 조회/잠금
+ * 실제 삭제(삭제 기록, 링크, 라벨, 지도 좌표, 버블)는 BubbleSyncJdbcRepository.deleteBubbles를 그대로 쓴다.
+ * deleteSpacesOfBubbles는 JPA로 버블을 지우는 경로에서 spaces FK를 먼저 풀 때 쓴다.
+ */
+@Repository
+public class BubbleTrashJdbcRepository {
+
+    // 여러 인스턴스 중 한 곳만 정리하도록 트랜잭션 단위 advisory lock
+    private static final String TRY_PURGE_LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?)";
+
+    private static final String FIND_EXPIRED_SQL =
+            "SELECT bubble_id FROM bubble " +
+                    "WHERE is_trashed = true AND deleted_at < ? " +
+                    "ORDER BY deleted_at, bubble_id LIMIT ? " +
+                    "FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_SPACES_OF_BUBBLES_SQL =
+            "DELETE FROM spaces WHERE bubble_id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BubbleTrashJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 잠금, 다른 트랜잭션이 잡고 있으면 false
+     */
+    public boolean tryPurgeLock(long lockKey) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_PURGE_LOCK_SQL, Boolean.class, lockKey));
+    }
+
+    public List<Long> findExpiredTrashedBubbleIds(LocalDateTime deletedBefore, int limit) {
+        return jdbcTemplate.queryForList(FIND_EXPIRED_SQL, Long.class, deletedBefore, limit);
+    }
+
+    public void deleteSpacesOfBubbles(Collection<Long> bubbleIds) {
+        if (bubbleIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_SPACES_OF_BUBBLES_SQL);
+            ps.setArray(1, bigintArray(con, bubbleIds));
+            return ps;
+        });
+    }
+
+    private static Array bigintArray(Connection con, Collection<Long> values) throws SQLException {
+        return con.createArrayOf("bigint", values.toArray(new Long[0]));
+    }
+}
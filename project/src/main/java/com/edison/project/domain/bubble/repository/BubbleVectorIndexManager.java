@@ -0,0 +1,183 @@
+package com.edison.project.domain.bubble.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * bubble.embedding 벡터 인덱스 관리
+ * ddl-auto=update는 ANN 인덱스를 만들지 않으므로 기동 시 HNSW 또는 IVFFlat 인덱스와
+ * 회원 단위 필터용 부분 인덱스를 생성한다. 운영 중 쓰기를 막지 않도록 CONCURRENTLY로 만든다.
+ * embedding 컬럼 타입 변경(ALTER TABLE)은 테이블을 다시 쓰며 쓰기를 막으므로 명시적으로 켠 경우에만 한다.
+ */
+@Component
+@Slf4j
+public class BubbleVectorIndexManager {
+
+    public static final String HNSW_INDEX = "idx_bubble_embedding_hnsw";
+    public static final String IVFFLAT_INDEX = "idx_bubble_embedding_ivfflat";
+    public static final String MEMBER_VECTORIZED_INDEX = "idx_bubble_member_vectorized";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String indexType;
+    private final int dimension;
+    private final boolean alterColumn;
+    private final int hnswM;
+    private final int hnswEfConstruction;
+    private final int ivfflatLists;
+
+    public BubbleVectorIndexManager(JdbcTemplate jdbcTemplate,
+                                    @Value("${bubble.vector-index.enabled:true}") boolean enabled,
+                                    @Value("${bubble.vector-index.type:hnsw}") String indexType,
+                                    @Value("${bubble.vector-index.dimension:1536}") int dimension,
+                                    @Value("${bubble.vector-index.alter-column:false}") boolean alterColumn,
+                                    @Value("${bubble.vector-index.hnsw.m:16}") int hnswM,
+                                    @Value("${bubble.vector-index.hnsw.ef-construction:64}") int hnswEfConstruction,
+                                    @Value("${bubble.vector-index.ivfflat.lists:100}") int ivfflatLists) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.indexType = indexType.trim().toLowerCase();
+        this.dimension = dimension;
+        this.alterColumn = alterColumn;
+        this.hnswM = hnswM;
+        this.hnswEfConstruction = hnswEfConstruction;
+        this.ivfflatLists = ivfflatLists;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("Bubble vector index management is disabled");
+            return;
+        }
+        try {
+            ensureIndexes();
+        } catch (Exception e) {
+            // 인덱스가 없어도 검색은 순차 탐색으로 동작하므로 기동은 계속
+            log.error("Failed to ensure bubble vector indexes", e);
+        }
+    }
+
+    public void ensureIndexes() {
+        if (findEmbeddingTypmod() == null) {
+            log.warn("bubble.embedding column not found, skipping vector index management");
+            return;
+        }
+
+        // 회원 단위 정확 탐색용: 버블 수가 적은 회원은 이 인덱스 + 정렬이 ANN보다 정확하고 빠르다
+        createIndex(MEMBER_VECTORIZED_INDEX,
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + MEMBER_VECTORIZED_INDEX + " ON bubble (member_id) " +
+                        "WHERE embedding IS NOT NULL AND is_trashed = false");
+
+        if (!"none".equals(indexType) && !ensureDimension()) {
+            return;
+        }
+
+        switch (indexType) {
+            case "hnsw" -> {
+                dropIndex(IVFFLAT_INDEX);
+                createIndex(HNSW_INDEX,
+                        "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + HNSW_INDEX + " ON bubble " +
+                                "USING hnsw (embedding vector_cosine_ops) " +
+                                "WITH (m = " + hnswM + ", ef_construction = " + hnswEfConstruction + ")");
+            }
+            case "ivfflat" -> {
+                dropIndex(HNSW_INDEX);
+                Long vectorized = jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM bubble WHERE embedding IS NOT NULL", Long.class);
+                if (vectorized == null || vectorized < (long) ivfflatLists * 10) {
+                    // IVFFlat은 생성 시점 데이터로 중심점을 잡으므로 데이터가 적으면 재현율이 낮다
+                    log.warn("Only {} vectorized bubbles for {} IVFFlat lists; consider HNSW or fewer lists",
+                            vectorized, ivfflatLists);
+                }
+                createIndex(IVFFLAT_INDEX,
+                        "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + IVFFLAT_INDEX + " ON bubble " +
+                                "USING ivfflat (embedding vector_cosine_ops) WITH (lists = " + ivfflatLists + ")");
+            }
+            case "none" -> {
+                dropIndex(HNSW_INDEX);
+                dropIndex(IVFFLAT_INDEX);
+            }
+            default -> log.warn("Unknown bubble vector index type [{}], skipping ANN index", indexType);
+        }
+    }
+
+    /**
+     * ANN 인덱스는 차원이 고정된 vector(n) 컬럼에만 만들 수 있으므로 typmod를 확인
+     * 다르면 ALTER는 ACCESS EXCLUSIVE 잠금으로 테이블 전체를 다시 쓰고 여러 인스턴스가 동시에 기동하면 겹치므로,
+     * bubble.vector-index.alter-column=true일 때만 바꾸고 아니면 ANN 인덱스를 건너뛴다.
+     */
+    private boolean ensureDimension() {
+        Integer typmod = findEmbeddingTypmod();
+        if (typmod != null && typmod == dimension) {
+            return true;
+        }
+
+        String alter = "ALTER TABLE bubble ALTER COLUMN embedding TYPE vector(" + dimension + ")";
+        if (!alterColumn) {
+            log.error("bubble.embedding is not vector({}), skipping ANN index. Run [{}] in a maintenance window " +
+                    "or set bubble.vector-index.alter-column=true on a single instance", dimension, alter);
+            return false;
+        }
+
+        Long mismatched = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM bubble WHERE embedding IS NOT NULL AND vector_dims(embedding) <> ?",
+                Long.class, dimension);
+        if (mismatched != null && mismatched > 0) {
+            log.error("{} bubbles have embeddings that are not {}-dimensional, cannot build vector index",
+                    mismatched, dimension);
+            return false;
+        }
+
+        log.info("Altering bubble.embedding to vector({})", dimension);
+        jdbcTemplate.execute(alter);
+        return true;
+    }
+
+    private Integer findEmbeddingTypmod() {
+        List<Integer> typmods = jdbcTemplate.queryForList(
+                "SELECT a.atttypmod FROM pg_attribute a " +
+                        "WHERE a.attrelid = to_regclass('bubble') AND a.attname = 'embedding' AND NOT a.attisdropped",
+                Integer.class);
+        return typmods.isEmpty() ? null : typmods.get(0);
+    }
+
+    private void createIndex(String indexName, String ddl) {
+        // CONCURRENTLY 생성이 중간에 실패하면 INVALID 인덱스가 남아 IF NOT EXISTS가 건너뛰므로 먼저 정리
+        Boolean valid = findIndexValidity(indexName);
+        if (Boolean.FALSE.equals(valid)) {
+            log.warn("Dropping invalid index {}", indexName);
+            dropIndex(indexName);
+        } else if (Boolean.TRUE.equals(valid)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        jdbcTemplate.execute(ddl);
+        log.info("Created index {} in {} ms", indexName, System.currentTimeMillis() - start);
+    }
+
+    private void dropIndex(String indexName) {
+        if (findIndexValidity(indexName) != null) {
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+            log.info("Dropped index {}", indexName);
+        }
+    }
+
+    private Boolean findIndexValidity(String indexName) {
+        List<Boolean> rows = jdbcTemplate.queryForList(
+                "SELECT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)",
+                Boolean.class, indexName);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public String getIndexType() {
+        return indexType;
+    }
+}
@@ -0,0 +1,151 @@
+package com.edison.project.domain.bubble.repository;
+
+import com.pgvector.PGvector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * pgvector 코사인 거리(<=>) 기반 버블 k-NN 조회
+ * ANN 인덱스 탐색 폭(hnsw.ef_search / ivfflat.probes)은 set_config(..., true)로 쿼리마다 현재 트랜잭션에만 적용한다.
+ * 회원 필터 때문에 인덱스 후보가 모자라지 않도록 pgvector 0.8+에서는 iterative scan을 켠다.
+ */
+@Repository
+@Slf4j
+public class BubbleVectorSearchRepository {
+
+    private static final int MAX_EF_SEARCH = 1000;
+
+    // relaxed_order 반복 탐색은 순서가 약간 어긋날 수 있어 MATERIALIZED CTE로 받은 뒤 다시 정렬한다
+    // 영벡터는 코사인 거리가 NaN이라 맨 뒤로 정렬되면서도 limit 자리를 차지하므로 후보에서 뺀다
+    private static final String NEAREST_BY_VECTOR_SQL =
+            "WITH candidates AS MATERIALIZED (" +
+                    "SELECT b.local_idx, b.title, b.embedding <=> CAST(? AS vector) AS distance " +
+                    "FROM bubble b " +
+                    "WHERE b.member_id = ? AND b.is_trashed = false AND b.embedding IS NOT NULL " +
+                    "AND vector_norm(b.embedding) > 0 " +
+                    "ORDER BY distance LIMIT ?" +
+                    ") SELECT local_idx, title, distance FROM candidates ORDER BY distance";
+
+    private static final String NEAREST_TO_BUBBLE_SQL =
+            "WITH candidates AS MATERIALIZED (" +
+                    "SELECT b.local_idx, b.title, " +
+                    "b.embedding <=> (SELECT t.embedding FROM bubble t WHERE t.bubble_id = ? AND vector_norm(t.embedding) > 0) AS distance " +
+                    "FROM bubble b " +
+                    "WHERE b.member_id = ? AND b.bubble_id <> ? AND b.is_trashed = false AND b.embedding IS NOT NULL " +
+                    "AND vector_norm(b.embedding) > 0 " +
+                    "ORDER BY distance LIMIT ?" +
+                    ") SELECT local_idx, title, distance FROM candidates WHERE distance IS NOT NULL ORDER BY distance";
+
+    private static final RowMapper<BubbleSimilarityRow> ROW_MAPPER = (rs, rowNum) -> new BubbleSimilarityRow(
+            rs.getString("local_idx"),
+            rs.getString("title"),
+            rs.getDouble("distance")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String indexType;
+    private final int efSearch;
+    private final int probes;
+    private final String iterativeScan;
+
+    private volatile Boolean iterativeScanSupported;
+
+    public BubbleVectorSearchRepository(JdbcTemplate jdbcTemplate,
+                                        @Value("${bubble.vector-index.type:hnsw}") String indexType,
+                                        @Value("${bubble.vector-search.ef-search:40}") int efSearch,
+                                        @Value("${bubble.vector-search.probes:10}") int probes,
+                                        @Value("${bubble.vector-search.iterative-scan:relaxed_order}") String iterativeScan) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.indexType = indexType.trim().toLowerCase();
+        this.efSearch = efSearch;
+        this.probes = probes;
+        this.iterativeScan = iterativeScan.trim().toLowerCase();
+    }
+
+    public record BubbleSimilarityRow(String localIdx, String title, double distance) {}
+
+    /**
+     * 쿼리 벡터와 가까운 순으로 회원의 버블 조회
+     */
+    @Transactional(readOnly = true)
+    public List<BubbleSimilarityRow> findNearestByEmbedding(Long memberId, float[] query, int limit) {
+        applySearchSettings(limit);
+        return jdbcTemplate.query(NEAREST_BY_VECTOR_SQL, ROW_MAPPER,
+                new PGvector(query).toString(), memberId, limit);
+    }
+
+    /**
+     * 기준 버블과 가까운 순으로 회원의 다른 버블 조회 (기준 벡터는 DB 안에서 참조)
+     * 기준 버블이 영벡터면 거리를 정의할 수 없으므로 빈 목록
+     */
+    @Transactional(readOnly = true)
+    public List<BubbleSimilarityRow> findNearestToBubble(Long memberId, Long bubbleId, int limit) {
+        applySearchSettings(limit);
+        return jdbcTemplate.query(NEAREST_TO_BUBBLE_SQL, ROW_MAPPER,
+                bubbleId, memberId, bubbleId, limit);
+    }
+
+    /**
+     * 현재 트랜잭션에만 적용되는 탐색 설정
+     * ef_search는 k보다 작으면 k개를 채우지 못하므로 최소 limit으로 올린다.
+     */
+    private void applySearchSettings(int limit) {
+        switch (indexType) {
+            case "hnsw" -> {
+                setLocal("hnsw.ef_search", String.valueOf(Math.min(Math.max(efSearch, limit), MAX_EF_SEARCH)));
+                if (isIterativeScanEnabled()) {
+                    setLocal("hnsw.iterative_scan", iterativeScan);
+                }
+            }
+            case "ivfflat" -> {
+                setLocal("ivfflat.probes", String.valueOf(probes));
+                if (isIterativeScanEnabled()) {
+                    setLocal("ivfflat.iterative_scan", iterativeScan);
+                }
+            }
+            default -> {
+                // 인덱스를 쓰지 않으면 조정할 값이 없음
+            }
+        }
+    }
+
+    private void setLocal(String name, String value) {
+        jdbcTemplate.queryForObject("SELECT set_config(?, ?, true)", String.class, name, value);
+    }
+
+    // iterative_scan 설정은 pgvector 0.8.0부터 존재하며, 이전 버전에서 지정하면 오류가 난다
+    private boolean isIterativeScanEnabled() {
+        if (iterativeScan.isEmpty() || "off".equals(iterativeScan)) {
+            return false;
+        }
+        Boolean supported = iterativeScanSupported;
+        if (supported == null) {
+            List<String> versions = jdbcTemplate.queryForList(
+                    "SELECT extversion FROM pg_extension WHERE extname = 'vector'", String.class);
+            supported = !versions.isEmpty() && isAtLeast(versions.get(0), 0, 8);
+            if (!supported) {
+                log.warn("pgvector {} does not support iterative index scans; member-filtered searches may return fewer rows",
+                        versions.isEmpty() ? "(not installed)" : versions.get(0));
+            }
+            iterativeScanSupported = supported;
+        }
+        return supported;
+    }
+
+    private static boolean isAtLeast(String version, int major, int minor) {
+        String[] parts = version.split("\\.");
+        try {
+            int actualMajor = Integer.parseInt(parts[0]);
+            int actualMinor = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+            return actualMajor > major || (actualMajor == major && actualMinor >= minor);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
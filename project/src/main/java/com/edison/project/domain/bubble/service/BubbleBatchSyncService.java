@@ -0,0 +1,241 @@
+package com.edison.project.domain.bubble.service;
+
+import com.edison.project.common.status.ErrorStatus;
+import com.edison.project.domain.bubble.dto.BubbleRequestDto;
+import com.edison.project.domain.bubble.dto.BubbleResponseDto;
+import com.edison.project.domain.bubble.entity.Bubble;
+import com.edison.project.domain.bubble.repository.BubbleSyncJdbcRepository;
+import com.edison.project.domain.bubble.repository.BubbleSyncJdbcRepository.BubbleWriteRow;
+import com.edison.project.domain.bubble.repository.BubbleSyncJdbcRepository.ExistingBubbleRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 오프라인 클라이언트의 변경분을 한 트랜잭션에서 일괄 반영
+ * 라벨/백링크/기존 버블은 집합 조회로 한 번에 확인하고, 검증에 실패한 항목만 FAILED로 돌려준 뒤 나머지를 배치로 쓴다.
+ * 항목이 많으면 트랜잭션이 commit-lag보다 길어질 수 있으므로 sync 시각(server_updated_at, 삭제 기록)은 커밋 직전에 다시 찍는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BubbleBatchSyncService {
+
+    private static final int MAX_LABELS = 3;
+
+    private final BubbleSyncJdbcRepository bubbleSyncJdbcRepository;
+
+    @Transactional
+    public BubbleResponseDto.BatchSyncResultDto sync(Long memberId, List<BubbleRequestDto.SyncDto> requests) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        BubbleResponseDto.BatchSyncItemDto[] results = new BubbleResponseDto.BatchSyncItemDto[requests.size()];
+
+        // 같은 localIdx가 여러 번 오면 마지막 변경만 반영
+        Map<String, Integer> lastIndexByLocalIdx = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            lastIndexByLocalIdx.put(requests.get(i).getLocalIdx(), i);
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            if (lastIndexByLocalIdx.get(requests.get(i).getLocalIdx()) != i) {
+                results[i] = skipped(requests.get(i).getLocalIdx(), "Superseded by a later change in the same batch");
+            }
+        }
+        List<Integer> effective = new ArrayList<>(lastIndexByLocalIdx.values());
+
+        // 1. 집합 조회: 요청에 등장하는 버블(대상 + 백링크)과 라벨
+        Set<String> bubbleIdxs = new HashSet<>(lastIndexByLocalIdx.keySet());
+        Set<String> labelIdxs = new HashSet<>();
+        for (int i : effective) {
+            BubbleRequestDto.SyncDto request = requests.get(i);
+            bubbleIdxs.addAll(nullToEmpty(request.getBacklinkIds()));
+            labelIdxs.addAll(nullToEmpty(request.getLabelIdxs()));
+        }
+        Map<String, ExistingBubbleRow> existing = bubbleSyncJdbcRepository.findBubblesByLocalIdxIn(memberId, bubbleIdxs);
+        Map<String, Long> labelIds = bubbleSyncJdbcRepository.findLabelIdsByLocalIdxIn(memberId, labelIdxs);
+
+        // 2. 항목별 검증 (라벨, 제목)
+        Set<Integer> writes = new LinkedHashSet<>();
+        List<Long> deleteIds = new ArrayList<>();
+        List<String> deletedLocalIdxs = new ArrayList<>();
+        for (int i : effective) {
+            BubbleRequestDto.SyncDto request = requests.get(i);
+            ExistingBubbleRow row = existing.get(request.getLocalIdx());
+            if (request.isDeleted()) {
+                if (row != null) {
+                    deleteIds.add(row.bubbleId());
+                    deletedLocalIdxs.add(row.localIdx());
+                }
+                results[i] = item(request.getLocalIdx(), BubbleResponseDto.SyncItemStatus.DELETED);
+                continue;
+            }
+            ErrorStatus error = validate(request, labelIds);
+            if (error != null) {
+                results[i] = failed(request.getLocalIdx(), error);
+                continue;
+            }
+            writes.add(i);
+        }
+
+        // 3. 백링크 검증: 대상은 삭제되지 않는 기존 버블이거나 이번에 함께 반영되는 버블
+        //    실패한 신규 버블을 가리키는 항목도 실패하므로 더 이상 바뀌지 않을 때까지 반복
+        Set<String> deletedIdxs = effective.stream()
+                .map(requests::get)
+                .filter(BubbleRequestDto.SyncDto::isDeleted)
+                .map(BubbleRequestDto.SyncDto::getLocalIdx)
+                .collect(Collectors.toSet());
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            Set<String> available = new HashSet<>(existing.keySet());
+            available.removeAll(deletedIdxs);
+            writes.forEach(i -> available.add(requests.get(i).getLocalIdx()));
+
+            for (Iterator<Integer> it = writes.iterator(); it.hasNext(); ) {
+                int i = it.next();
+                if (!available.containsAll(nullToEmpty(requests.get(i).getBacklinkIds()))) {
+                    results[i] = failed(requests.get(i).getLocalIdx(), ErrorStatus.BACKLINK_NOT_FOUND);
+                    it.remove();
+                    changed = true;
+                }
+            }
+        }
+
+        // 4. 쓰기: 삭제 → 신규 INSERT → 수정 UPDATE → 라벨 교체 → 백링크 교체 → 링크 휴지통 상태 정리
+        bubbleSyncJdbcRepository.deleteBubbles(deleteIds, now);
+
+        List<BubbleWriteRow> inserts = new ArrayList<>();
+        List<BubbleWriteRow> updates = new ArrayList<>();
+        for (int i : writes) {
+            BubbleRequestDto.SyncDto request = requests.get(i);
+            ExistingBubbleRow row = existing.get(request.getLocalIdx());
+            BubbleWriteRow write = toWriteRow(row != null ? row.bubbleId() : null, request, now);
+            if (row != null) {
+                updates.add(write);
+                results[i] = item(request.getLocalIdx(), BubbleResponseDto.SyncItemStatus.UPDATED);
+            } else {
+                inserts.add(write);
+                results[i] = item(request.getLocalIdx(), BubbleResponseDto.SyncItemStatus.CREATED);
+            }
+        }
+        bubbleSyncJdbcRepository.insertBubbles(memberId, inserts, now);
+        bubbleSyncJdbcRepository.updateBubbles(updates, now);
+
+        // 신규 버블 id 확보 (백링크 대상 포함, 삭제된 버블은 빠짐)
+        Map<String, Long> bubbleIds = new HashMap<>();
+        if (!inserts.isEmpty()) {
+            bubbleSyncJdbcRepository.findBubblesByLocalIdxIn(memberId, bubbleIdxs)
+                    .forEach((localIdx, row) -> bubbleIds.put(localIdx, row.bubbleId()));
+        } else {
+            existing.forEach((localIdx, row) -> {
+                if (!deletedIdxs.contains(localIdx)) {
+                    bubbleIds.put(localIdx, row.bubbleId());
+                }
+            });
+        }
+
+        Map<Long, Set<Long>> labelsByBubble = new LinkedHashMap<>();
+        Map<Long, Set<Long>> backlinksByBubble = new LinkedHashMap<>();
+        for (int i : writes) {
+            BubbleRequestDto.SyncDto request = requests.get(i);
+            Long bubbleId = bubbleIds.get(request.getLocalIdx());
+            labelsByBubble.put(bubbleId, nullToEmpty(request.getLabelIdxs()).stream()
+                    .map(labelIds::get)
+                    .collect(Collectors.toSet()));
+            backlinksByBubble.put(bubbleId, nullToEmpty(request.getBacklinkIds()).stream()
+                    .map(bubbleIds::get)
+                    .collect(Collectors.toSet()));
+        }
+        bubbleSyncJdbcRepository.replaceLabels(labelsByBubble);
+        // 요청에 없는 백링크는 지움 (단건 sync와 같은 결과)
+        bubbleSyncJdbcRepository.replaceBacklinks(backlinksByBubble);
+        bubbleSyncJdbcRepository.refreshBacklinkTrashFlags(labelsByBubble.keySet());
+        stampBeforeCommit(memberId, new ArrayList<>(labelsByBubble.keySet()), deletedLocalIdxs, now);
+
+        List<BubbleResponseDto.BatchSyncItemDto> items = Arrays.asList(results);
+        int failureCount = (int) items.stream()
+                .filter(result -> result.status() == BubbleResponseDto.SyncItemStatus.FAILED)
+                .count();
+        log.info("Batch sync of member [{}]: {} items, {} created, {} updated, {} deleted, {} failed",
+                memberId, requests.size(), inserts.size(), updates.size(), deleteIds.size(), failureCount);
+
+        return new BubbleResponseDto.BatchSyncResultDto(
+                requests.size(),
+                requests.size() - failureCount,
+                failureCount,
+                items
+        );
+    }
+
+    // 트랜잭션 시작 시각(now)으로 찍으면 커밋이 commit-lag보다 늦을 때 이미 그 시각을 지난 커서가 변경을 놓친다
+    private void stampBeforeCommit(Long memberId, List<Long> bubbleIds, List<String> deletedLocalIdxs, LocalDateTime writtenAt) {
+        if (bubbleIds.isEmpty() && deletedLocalIdxs.isEmpty()) {
+            return;
+        }
+        Runnable stamp = () -> bubbleSyncJdbcRepository.stampSyncTime(memberId, bubbleIds, deletedLocalIdxs,
+                writtenAt, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    stamp.run();
+                }
+            });
+        } else {
+            stamp.run();
+        }
+    }
+
+    private ErrorStatus validate(BubbleRequestDto.SyncDto request, Map<String, Long> labelIds) {
+        if (request.getTitle() == null) {
+            return ErrorStatus.BUBBLE_TITLE_REQUIRED;
+        }
+        Set<String> labels = nullToEmpty(request.getLabelIdxs());
+        if (labels.size() > MAX_LABELS) {
+            return ErrorStatus.LABELS_TOO_MANY;
+        }
+        if (!labelIds.keySet().containsAll(labels)) {
+            return ErrorStatus.LABELS_NOT_FOUND;
+        }
+        return null;
+    }
+
+    private BubbleWriteRow toWriteRow(Long bubbleId, BubbleRequestDto.SyncDto request, LocalDateTime now) {
+        return new BubbleWriteRow(
+                bubbleId,
+                request.getLocalIdx(),
+                request.getTitle(),
+                request.getContent(),
+                request.getMainImageUrl(),
+                request.isTrashed(),
+                Optional.ofNullable(request.getCreatedAt()).orElse(now),
+                Optional.ofNullable(request.getUpdatedAt()).orElse(now),
+                request.getDeletedAt(),
+                Bubble.fingerprint(request.getTitle(), request.getContent())
+        );
+    }
+
+    private static Set<String> nullToEmpty(Set<String> values) {
+        return values != null ? values : Collections.emptySet();
+    }
+
+    private static BubbleResponseDto.BatchSyncItemDto item(String localIdx, BubbleResponseDto.SyncItemStatus status) {
+        return new BubbleResponseDto.BatchSyncItemDto(localIdx, status, null, null);
+    }
+
+    private static BubbleResponseDto.BatchSyncItemDto skipped(String localIdx, String message) {
+        return new BubbleResponseDto.BatchSyncItemDto(localIdx, BubbleResponseDto.SyncItemStatus.SKIPPED, null, message);
+    }
+
+    private static BubbleResponseDto.BatchSyncItemDto failed(String localIdx, ErrorStatus error) {
+        return new BubbleResponseDto.BatchSyncItemDto(localIdx, BubbleResponseDto.SyncItemStatus.FAILED,
+                error.getCode(), error.getMessage());
+    }
+}
@@ -0,0 +1,78 @@
+package com.edison.project.domain.bubble.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 회원별 버블 코퍼스 버전 (Redis 카운터)
+ * 버블 내용/상태가 바뀌는 쓰기마다 커밋 이후 1씩 올리고, 버블 전체로 계산한 결과(스페이스 지도 등)를
+ * 이 버전과 함께 캐시해 두면 버전이 같을 때는 다시 계산하지 않아도 된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BubbleCorpusVersionService {
+
+    private static final String KEY_PREFIX = "bubble:corpus-version:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 버전 키는 이 값을 캐시 TTL보다 길게 유지해야 만료 후 다시 1부터 세어도 예전 캐시와 겹치지 않는다
+    @Value("${bubble.corpus-version.ttl-days:30}")
+    private long ttlDays;
+
+    public static String versionKey(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    /**
+     * 버전 키가 없으면(쓰기 이력 없음 또는 만료) "0"
+     */
+    public static String versionOf(String storedValue) {
+        return storedValue != null ? storedValue : "0";
+    }
+
+    public void bump(Long memberId) {
+        runAfterCommit(() -> {
+            String key = versionKey(memberId);
+            try {
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                        ops.opsForValue().increment(key);
+                        ops.expire(key, Duration.ofDays(ttlDays));
+                        return null;
+                    }
+                });
+            } catch (Exception e) {
+                // 캐시된 결과는 자체 TTL이 지나면 다시 계산된다
+                log.warn("Failed to bump bubble corpus version of member [{}]: {}", memberId, e.getMessage());
+            }
+        });
+    }
+
+    // 커밋 전에 올리면 다른 요청이 이전 내용으로 계산한 결과를 새 버전으로 캐시할 수 있으므로 커밋 이후에 반영
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.edison.project.domain.bubble.service;
+
+/**
+ * 버블을 임베딩할 때 모델에 넘기는 텍스트 (제목 + 본문)
+ */
+public final class BubbleEmbeddingText {
+
+    private BubbleEmbeddingText() {
+    }
+
+    public static String of(String title, String content) {
+        return (title != null ? title : "") + " " + (content != null ? content : "");
+    }
+}
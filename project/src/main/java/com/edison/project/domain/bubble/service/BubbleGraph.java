@@ -0,0 +1,374 @@
+package com.edison.project.domain.bubble.service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회원 한 명의 백링크 그래프 (휴지통에 없는 버블과 링크만)
+ * 노드마다 정렬된 long[] 배열로 나가는/들어오는 링크를 보관하고, 탐색은 방향을 무시한 이웃(out ∪ in) 기준이다.
+ * 노드 하나의 링크가 바뀌면 해당 배열만 새로 만들어 교체한다.
+ */
+public final class BubbleGraph {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<Long, long[]> outLinks = new HashMap<>();
+    private final Map<Long, long[]> inLinks = new HashMap<>();
+    private final Map<Long, String> localIdxById = new HashMap<>();
+    private final Map<String, Long> idByLocalIdx = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Neighbor(long bubbleId, String localIdx, int distance) {}
+
+    public record Component(List<String> localIdxs, int size, boolean truncated) {}
+
+    public record Hub(String localIdx, int outDegree, int inDegree) {}
+
+    public record Stats(
+            int nodeCount,
+            int edgeCount,
+            int isolatedCount,
+            int maxDegree,
+            double averageDegree,
+            int componentCount,
+            int largestComponentSize,
+            List<Hub> hubs
+    ) {}
+
+    private BubbleGraph() {
+    }
+
+    /**
+     * nodes: bubbleId -> localIdx, 링크는 (sources[i] -> targets[i]), 양 끝이 노드에 없는 링크는 무시
+     */
+    public static BubbleGraph build(Map<Long, String> nodes, long[] sources, long[] targets) {
+        BubbleGraph graph = new BubbleGraph();
+        nodes.forEach((id, localIdx) -> {
+            graph.localIdxById.put(id, localIdx);
+            graph.idByLocalIdx.put(localIdx, id);
+        });
+
+        Map<Long, Integer> outCounts = new HashMap<>();
+        Map<Long, Integer> inCounts = new HashMap<>();
+        for (int i = 0; i < sources.length; i++) {
+            if (nodes.containsKey(sources[i]) && nodes.containsKey(targets[i]) && sources[i] != targets[i]) {
+                outCounts.merge(sources[i], 1, Integer::sum);
+                inCounts.merge(targets[i], 1, Integer::sum);
+            }
+        }
+        Map<Long, long[]> outBuffers = new HashMap<>();
+        Map<Long, long[]> inBuffers = new HashMap<>();
+        outCounts.forEach((id, count) -> outBuffers.put(id, new long[count]));
+        inCounts.forEach((id, count) -> inBuffers.put(id, new long[count]));
+
+        Map<Long, Integer> outFill = new HashMap<>();
+        Map<Long, Integer> inFill = new HashMap<>();
+        for (int i = 0; i < sources.length; i++) {
+            if (nodes.containsKey(sources[i]) && nodes.containsKey(targets[i]) && sources[i] != targets[i]) {
+                outBuffers.get(sources[i])[outFill.merge(sources[i], 1, Integer::sum) - 1] = targets[i];
+                inBuffers.get(targets[i])[inFill.merge(targets[i], 1, Integer::sum) - 1] = sources[i];
+            }
+        }
+        outBuffers.forEach((id, links) -> graph.outLinks.put(id, sortedDistinct(links)));
+        inBuffers.forEach((id, links) -> graph.inLinks.put(id, sortedDistinct(links)));
+        return graph;
+    }
+
+    public Optional<Long> findId(String localIdx) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(idByLocalIdx.get(localIdx));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 버블의 나가는 링크를 통째로 교체 (노드가 없으면 추가), 대상 중 그래프에 없는 버블은 무시
+     */
+    public void setOutLinks(long bubbleId, String localIdx, long[] targets) {
+        lock.writeLock().lock();
+        try {
+            String previousIdx = localIdxById.put(bubbleId, localIdx);
+            if (previousIdx != null && !previousIdx.equals(localIdx)) {
+                idByLocalIdx.remove(previousIdx);
+            }
+            idByLocalIdx.put(localIdx, bubbleId);
+
+            long[] previous = outLinks.getOrDefault(bubbleId, EMPTY);
+            long[] next = sortedDistinct(Arrays.stream(targets)
+                    .filter(target -> target != bubbleId && localIdxById.containsKey(target))
+                    .toArray());
+
+            for (long removed : difference(previous, next)) {
+                inLinks.computeIfPresent(removed, (id, links) -> nullIfEmpty(without(links, bubbleId)));
+            }
+            for (long added : difference(next, previous)) {
+                inLinks.put(added, with(inLinks.getOrDefault(added, EMPTY), bubbleId));
+            }
+            if (next.length == 0) {
+                outLinks.remove(bubbleId);
+            } else {
+                outLinks.put(bubbleId, next);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 노드와 양방향 링크 제거 (휴지통 이동, 삭제)
+     */
+    public void removeNode(long bubbleId) {
+        lock.writeLock().lock();
+        try {
+            String localIdx = localIdxById.remove(bubbleId);
+            if (localIdx != null) {
+                idByLocalIdx.remove(localIdx);
+            }
+            for (long target : Optional.ofNullable(outLinks.remove(bubbleId)).orElse(EMPTY)) {
+                inLinks.computeIfPresent(target, (id, links) -> nullIfEmpty(without(links, bubbleId)));
+            }
+            for (long source : Optional.ofNullable(inLinks.remove(bubbleId)).orElse(EMPTY)) {
+                outLinks.computeIfPresent(source, (id, links) -> nullIfEmpty(without(links, bubbleId)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 버블 배열 안에서의 링크를 인덱스 쌍으로 반환 ({sources, targets}), 배열 밖 버블로 가는 링크는 제외
+     */
+    public int[][] edgesAmong(long[] bubbleIds) {
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < bubbleIds.length; i++) {
+            positions.put(bubbleIds[i], i);
+        }
+        lock.readLock().lock();
+        try {
+            int[] sources = new int[16];
+            int[] targets = new int[16];
+            int size = 0;
+            for (int i = 0; i < bubbleIds.length; i++) {
+                for (long target : outLinks.getOrDefault(bubbleIds[i], EMPTY)) {
+                    Integer position = positions.get(target);
+                    if (position == null) {
+                        continue;
+                    }
+                    if (size == sources.length) {
+                        sources = Arrays.copyOf(sources, size * 2);
+                        targets = Arrays.copyOf(targets, size * 2);
+                    }
+                    sources[size] = i;
+                    targets[size++] = position;
+                }
+            }
+            return new int[][]{Arrays.copyOf(sources, size), Arrays.copyOf(targets, size)};
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 시작 버블에서 depth 홉 이내의 버블 (시작 버블 제외, 거리순), 최대 limit개
+     */
+    public List<Neighbor> neighbors(long start, int depth, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Neighbor> result = new ArrayList<>();
+            Set<Long> visited = new HashSet<>();
+            visited.add(start);
+            long[] frontier = {start};
+            for (int distance = 1; distance <= depth && frontier.length > 0; distance++) {
+                long[] next = new long[16];
+                int size = 0;
+                for (long node : frontier) {
+                    for (long neighbor : adjacent(node)) {
+                        if (!visited.add(neighbor)) {
+                            continue;
+                        }
+                        result.add(new Neighbor(neighbor, localIdxById.get(neighbor), distance));
+                        if (result.size() >= limit) {
+                            return result;
+                        }
+                        if (size == next.length) {
+                            next = Arrays.copyOf(next, size * 2);
+                        }
+                        next[size++] = neighbor;
+                    }
+                }
+                frontier = Arrays.copyOf(next, size);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 시작 버블이 속한 연결 요소 (링크 방향 무시), limit개를 넘으면 잘라서 truncated 표시
+     */
+    public Component component(long start, int limit) {
+        lock.readLock().lock();
+        try {
+            Set<Long> visited = new HashSet<>();
+            List<String> members = new ArrayList<>();
+            ArrayDeque<Long> queue = new ArrayDeque<>();
+            visited.add(start);
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                long node = queue.poll();
+                if (members.size() >= limit) {
+                    return new Component(members, members.size(), true);
+                }
+                members.add(localIdxById.get(node));
+                for (long neighbor : adjacent(node)) {
+                    if (visited.add(neighbor)) {
+                        queue.add(neighbor);
+                    }
+                }
+            }
+            return new Component(members, members.size(), false);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats(int hubCount) {
+        lock.readLock().lock();
+        try {
+            int nodeCount = localIdxById.size();
+            int edgeCount = 0;
+            int isolated = 0;
+            int maxDegree = 0;
+            long degreeSum = 0;
+            PriorityQueue<Hub> hubs = new PriorityQueue<>(
+                    Comparator.comparingInt((Hub hub) -> hub.outDegree() + hub.inDegree()));
+
+            for (Map.Entry<Long, String> node : localIdxById.entrySet()) {
+                int out = outLinks.getOrDefault(node.getKey(), EMPTY).length;
+                int in = inLinks.getOrDefault(node.getKey(), EMPTY).length;
+                edgeCount += out;
+                degreeSum += out + in;
+                maxDegree = Math.max(maxDegree, out + in);
+                if (out + in == 0) {
+                    isolated++;
+                    continue;
+                }
+                hubs.add(new Hub(node.getValue(), out, in));
+                if (hubs.size() > hubCount) {
+                    hubs.poll();
+                }
+            }
+
+            // 연결 요소 수와 최대 크기
+            Set<Long> visited = new HashSet<>();
+            ArrayDeque<Long> queue = new ArrayDeque<>();
+            int components = 0;
+            int largest = 0;
+            for (Long root : localIdxById.keySet()) {
+                if (!visited.add(root)) {
+                    continue;
+                }
+                components++;
+                int size = 0;
+                queue.add(root);
+                while (!queue.isEmpty()) {
+                    long node = queue.poll();
+                    size++;
+                    for (long neighbor : adjacent(node)) {
+                        if (visited.add(neighbor)) {
+                            queue.add(neighbor);
+                        }
+                    }
+                }
+                largest = Math.max(largest, size);
+            }
+
+            List<Hub> topHubs = new ArrayList<>(hubs);
+            topHubs.sort(Comparator.comparingInt((Hub hub) -> hub.outDegree() + hub.inDegree()).reversed());
+            return new Stats(nodeCount, edgeCount, isolated, maxDegree,
+                    nodeCount == 0 ? 0.0 : (double) degreeSum / nodeCount,
+                    components, largest, topHubs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 방향을 무시한 이웃 (정렬된 두 배열 병합)
+    private long[] adjacent(long node) {
+        long[] out = outLinks.getOrDefault(node, EMPTY);
+        long[] in = inLinks.getOrDefault(node, EMPTY);
+        if (in.length == 0) {
+            return out;
+        }
+        if (out.length == 0) {
+            return in;
+        }
+        long[] merged = new long[out.length + in.length];
+        int i = 0, j = 0, size = 0;
+        while (i < out.length || j < in.length) {
+            long value;
+            if (j >= in.length || (i < out.length && out[i] < in[j])) {
+                value = out[i++];
+            } else if (i >= out.length || in[j] < out[i]) {
+                value = in[j++];
+            } else {
+                value = out[i++];
+                j++;
+            }
+            merged[size++] = value;
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    private static long[] sortedDistinct(long[] values) {
+        if (values.length == 0) {
+            return EMPTY;
+        }
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    // a에는 있고 b에는 없는 값 (둘 다 정렬됨)
+    private static long[] difference(long[] a, long[] b) {
+        return Arrays.stream(a).filter(value -> Arrays.binarySearch(b, value) < 0).toArray();
+    }
+
+    private static long[] with(long[] sorted, long value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position >= 0) {
+            return sorted;
+        }
+        int insertAt = -position - 1;
+        long[] next = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, next, 0, insertAt);
+        next[insertAt] = value;
+        System.arraycopy(sorted, insertAt, next, insertAt + 1, sorted.length - insertAt);
+        return next;
+    }
+
+    private static long[] without(long[] sorted, long value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position < 0) {
+            return sorted;
+        }
+        long[] next = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, next, 0, position);
+        System.arraycopy(sorted, position + 1, next, position, sorted.length - position - 1);
+        return next;
+    }
+
+    private static long[] nullIfEmpty(long[] links) {
+        return links.length == 0 ? null : links;
+    }
+}
@@ -0,0 +1,119 @@
+package com.edison.project.domain.bubble.service;
+
+import com.edison.project.domain.bubble.repository.BubbleGraphRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 회원별 백링크 그래프 캐시
+ * 처음 조회할 때 DB에서 적재하고, 이후 쓰기 경로에서 커밋 후 해당 버블의 링크만 반영한다.
+ * 다른 인스턴스의 변경은 알 수 없으므로 ttl이 지나면 다시 적재한다.
+ */
+@Service
+@Slf4j
+public class BubbleGraphService {
+
+    private final BubbleGraphRepository bubbleGraphRepository;
+    private final long ttlNanos;
+    private final Map<Long, CachedGraph> cache;
+
+    // 적재 도중 커밋된 변경이 있으면 적재 결과를 캐시하지 않기 위한 회원별 변경 번호
+    private final Map<Long, Long> modifications = new ConcurrentHashMap<>();
+
+    private record CachedGraph(BubbleGraph graph, long loadedAt) {}
+
+    public BubbleGraphService(BubbleGraphRepository bubbleGraphRepository,
+                              @Value("${bubble.graph.cache-size:500}") int cacheSize,
+                              @Value("${bubble.graph.cache-ttl-minutes:30}") long ttlMinutes) {
+        this.bubbleGraphRepository = bubbleGraphRepository;
+        this.ttlNanos = ttlMinutes * 60_000_000_000L;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedGraph> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public BubbleGraph getGraph(Long memberId) {
+        synchronized (cache) {
+            CachedGraph cached = cache.get(memberId);
+            if (cached != null && System.nanoTime() - cached.loadedAt() < ttlNanos) {
+                return cached.graph();
+            }
+        }
+
+        long modification = modifications.getOrDefault(memberId, 0L);
+        long loadedAt = System.nanoTime();
+        BubbleGraph graph = bubbleGraphRepository.load(memberId);
+        synchronized (cache) {
+            if (modifications.getOrDefault(memberId, 0L) == modification) {
+                cache.put(memberId, new CachedGraph(graph, loadedAt));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * 버블의 나가는 링크가 정해졌을 때 (생성, 수정, sync)
+     */
+    public void linksChanged(Long memberId, Long bubbleId, String localIdx, Collection<Long> targetIds) {
+        long[] targets = targetIds.stream().mapToLong(Long::longValue).toArray();
+        afterCommit(memberId, graph -> graph.setOutLinks(bubbleId, localIdx, targets));
+    }
+
+    /**
+     * 버블이 휴지통으로 가거나 삭제되었을 때
+     */
+    public void nodeRemoved(Long memberId, Long bubbleId) {
+        afterCommit(memberId, graph -> graph.removeNode(bubbleId));
+    }
+
+    /**
+     * 증분 반영이 어려운 변경 (복원, 일괄 sync) 후에는 다음 조회 때 다시 적재
+     */
+    public void invalidate(Long memberId) {
+        runAfterCommit(() -> {
+            synchronized (cache) {
+                modifications.merge(memberId, 1L, Long::sum);
+                cache.remove(memberId);
+            }
+        });
+    }
+
+    private void afterCommit(Long memberId, Consumer<BubbleGraph> change) {
+        runAfterCommit(() -> {
+            CachedGraph cached;
+            synchronized (cache) {
+                modifications.merge(memberId, 1L, Long::sum);
+                cached = cache.get(memberId);
+            }
+            if (cached != null) {
+                change.accept(cached.graph());
+            }
+        });
+    }
+
+    // 롤백된 변경이 캐시에 남지 않도록 커밋 이후에 반영
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.edison.project.domain.bubble.service;
+
+import com.edison.project.domain.bubble.entity.Bubble;
+import com.edison.project.domain.bubble.repository.BubbleCoordinateJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 버블 임베딩의 2차원 좌표 관리
+ * 회원별 PCA 기저를 ProjectionModelStore에 보관해 단일 버블은 O(d) 증분 투영하고,
+ * 증분 투영 건수나 drift가 임계치를 넘을 때만 전체 재학습한다.
+ * 전체 재학습 때는 PCA 좌표를 백링크 그래프로 한 번 더 다듬는데 (GraphLayoutService) 수 초까지 걸릴 수 있으므로
+ * 트랜잭션 밖에서 계산하고 좌표 저장만 짧은 트랜잭션으로 묶는다.
+ */
+@Service
+@Slf4j
+public class BubbleProjectionService {
+
+    private final BubbleCoordinateJdbcRepository bubbleCoordinateJdbcRepository;
+    private final DimensionReductionService dimensionReductionService;
+    private final ProjectionModelStore projectionModelStore;
+    private final GraphLayoutService graphLayoutService;
+    private final BubbleGraphService bubbleGraphService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    // 재학습 중인 회원 (같은 회원의 중복 요청은 하나로)
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+
+    // 마지막 학습 이후 최소 이만큼 증분 투영하면 재학습
+    @Value("${bubble.projection.refit-min-count:20}")
+    private int refitMinCount;
+
+    // 학습 데이터 수 대비 증분 투영 비율이 이 값을 넘으면 재학습
+    @Value("${bubble.projection.refit-ratio:0.2}")
+    private double refitRatio;
+
+    // 새 벡터에 대한 설명력이 학습 시점보다 이 비율 이상 떨어지면 재학습
+    @Value("${bubble.projection.drift-threshold:0.3}")
+    private double driftThreshold;
+
+    // 증분 투영 좌표를 링크 배치 좌표계에 맞출 때 참고할 최대 이웃 수 (0이면 PCA 좌표 그대로)
+    @Value("${bubble.projection.anchor-neighbors:16}")
+    private int anchorNeighbors;
+
+    public BubbleProjectionService(BubbleCoordinateJdbcRepository bubbleCoordinateJdbcRepository,
+                                   DimensionReductionService dimensionReductionService,
+                                   ProjectionModelStore projectionModelStore,
+                                   GraphLayoutService graphLayoutService,
+                                   BubbleGraphService bubbleGraphService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Qualifier("projectionRefreshExecutor") ThreadPoolTaskExecutor executor) {
+        this.bubbleCoordinateJdbcRepository = bubbleCoordinateJdbcRepository;
+        this.dimensionReductionService = dimensionReductionService;
+        this.projectionModelStore = projectionModelStore;
+        this.graphLayoutService = graphLayoutService;
+        this.bubbleGraphService = bubbleGraphService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+    }
+
+    /**
+     * 단일 버블 좌표 갱신 (호출하는 쪽 트랜잭션 안)
+     * 유효한 모델이 있으면 해당 버블만 투영하고, 재학습 조건을 넘었으면 좌표는 그대로 쓰되 전체 재학습을 커밋 이후 백그라운드로 넘긴다.
+     * 모델이 없으면 좌표를 비워 둔 채(대기) 재학습에서 채운다. 이 경로에서는 다른 버블을 고치지 않는다.
+     *
+     * 재학습이 저장하는 좌표는 PCA 좌표를 링크 배치로 옮긴 것이고 model.project()는 PCA 좌표를 돌려주므로,
+     * 링크가 있는 버블은 그대로 두면 이미 배치된 이웃과 다른 좌표계에 놓인다. 링크된 이웃들이 배치로 옮겨진 양
+     * (저장 좌표 - PCA 좌표)의 평균만큼 옮겨 맞추고, 링크가 없는 버블은 배치에서도 거의 PCA 자리에 머무므로 그대로 둔다.
+     */
+    public void updateProjection(Long memberId, Bubble target) {
+        float[] embedding = target.getEmbedding();
+        ProjectionModel model = projectionModelStore.find(memberId);
+
+        if (model == null || model.getDimension() != embedding.length) {
+            target.setEmbedding2dX(null);
+            target.setEmbedding2dY(null);
+            runAfterCommit(() -> refreshAsync(memberId));
+            return;
+        }
+
+        double[] point = model.project(embedding);
+        model.recordProjection(embedding, point);
+        double[] placed = alignWithLinkedNeighbors(memberId, target.getBubbleId(), model, point);
+        target.setEmbedding2dX(placed[0]);
+        target.setEmbedding2dY(placed[1]);
+        projectionModelStore.saveStats(memberId, model);
+
+        if (model.needsRefit(refitMinCount, refitRatio, driftThreshold)) {
+            log.info("Projection model of member [{}] is stale, scheduling a refit", memberId);
+            runAfterCommit(() -> refreshAsync(memberId));
+        }
+    }
+
+    /**
+     * 회원의 벡터화된 모든 버블로 PCA를 다시 학습하고 링크 배치로 다듬은 좌표를 일괄 갱신
+     * 트랜잭션 밖에서 호출해야 계산하는 동안 커넥션을 잡지 않는다 (백그라운드 작업용).
+     */
+    public void refresh(Long memberId) {
+        List<BubbleCoordinateJdbcRepository.VectorRow> rows = bubbleCoordinateJdbcRepository.findVectors(memberId);
+        float[][] vectors = new float[rows.size()][];
+        long[] bubbleIds = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            vectors[i] = rows.get(i).embedding();
+            bubbleIds[i] = rows.get(i).bubbleId();
+        }
+
+        DimensionReductionService.ProjectionResult result = dimensionReductionService.fit(vectors);
+        double[][] projection = graphLayoutService.refine(memberId, bubbleIds, result.coordinates());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bubbleCoordinateJdbcRepository.updateCoordinates(bubbleIds, projection);
+            saveModel(memberId, result);
+        });
+    }
+
+    public void refreshAsync(Long memberId) {
+        if (!refreshing.add(memberId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh(memberId);
+                } catch (Exception e) {
+                    // 다음 재학습 조건이나 주기 작업(ProjectionModelRefreshJob)에서 다시 시도된다
+                    log.error("Background projection refresh of member [{}] failed", memberId, e);
+                } finally {
+                    refreshing.remove(memberId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshing.remove(memberId);
+            log.warn("Projection refresh queue is full, skipping member [{}]", memberId);
+        }
+    }
+
+    // 링크된 이웃들의 (저장 좌표 - 현재 모델의 PCA 좌표) 평균만큼 이동
+    private double[] alignWithLinkedNeighbors(Long memberId, Long bubbleId, ProjectionModel model, double[] point) {
+        if (anchorNeighbors <= 0 || bubbleId == null) {
+            return point;
+        }
+        List<Long> neighborIds = bubbleGraphService.getGraph(memberId).neighbors(bubbleId, 1, anchorNeighbors).stream()
+                .map(BubbleGraph.Neighbor::bubbleId)
+                .toList();
+        if (neighborIds.isEmpty()) {
+            return point;
+        }
+
+        double offsetX = 0.0;
+        double offsetY = 0.0;
+        int count = 0;
+        for (BubbleCoordinateJdbcRepository.PlacedVectorRow neighbor :
+                bubbleCoordinateJdbcRepository.findPlacedVectors(memberId, neighborIds)) {
+            if (neighbor.embedding().length != model.getDimension()) {
+                continue;
+            }
+            double[] projected = model.project(neighbor.embedding());
+            offsetX += neighbor.x() - projected[0];
+            offsetY += neighbor.y() - projected[1];
+            count++;
+        }
+        if (count == 0) {
+            return point;
+        }
+        return new double[]{point[0] + offsetX / count, point[1] + offsetY / count};
+    }
+
+    private void saveModel(Long memberId, DimensionReductionService.ProjectionResult result) {
+        if (result.model() != null) {
+            projectionModelStore.save(memberId, result.model());
+        } else {
+            projectionModelStore.delete(memberId);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.http.ResponseEntity;
 
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface BubbleService {
 
     ResponseEntity<Response> getDeletedBubbles(CustomUserPrincipal userPrincipal, Pageable pageable);
@@ -21,6 +23,11 @@ public interface BubbleService {
 
     BubbleResponseDto.SyncResultDto syncBubble(CustomUserPrincipal userPrincipal, BubbleRequestDto.SyncDto requestDto);
 
+    /**
+     * 여러 버블 변경분을 한 트랜잭션에서 일괄 반영, 항목별 결과 반환
+     */
+    BubbleResponseDto.BatchSyncResultDto syncBubbles(CustomUserPrincipal userPrincipal, BubbleRequestDto.BatchSyncDto requestDto);
+
     BubbleResponseDto.CreateResultDto createBubble(CustomUserPrincipal userPrincipal, BubbleRequestDto.CreateDto requestDto);
     BubbleResponseDto.CreateResultDto updateBubble(CustomUserPrincipal userPrincipal, String BubbleLocalIdx, BubbleRequestDto.CreateDto requestDto);
     BubbleResponseDto.DeleteRestoreResultDto deleteBubble(CustomUserPrincipal userPrincipal, String BubbleLocalIdx);
@@ -29,18 +36,71 @@ public interface BubbleService {
 
     ResponseEntity<Response> getAllBubbles(CustomUserPrincipal userPrincipal, Pageable pageable);
 
+    /**
+     * 커서 기반 목록 조회 (updatedAt, bubbleId 최신순), includeTotal이 아니면 COUNT 생략
+     */
+    BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SyncResultDto> getBubblesByMember(CustomUserPrincipal userPrincipal, String cursor, int size, boolean includeTotal);
+
+    BubbleResponseDto.CursorListResultDto<BubbleResponseDto.TrashedListResultDto> getDeletedBubbles(CustomUserPrincipal userPrincipal, String cursor, int size, boolean includeTotal);
+
+    BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SyncResultDto> getRecentBubblesByMember(CustomUserPrincipal userPrincipal, String cursor, int size, boolean includeTotal);
+
+    BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SyncResultDto> getAllBubbles(CustomUserPrincipal userPrincipal, String cursor, int size, boolean includeTotal);
+
+    /**
+     * 요약 목록 (본문은 앞부분만 SQL에서 잘라 읽고, 백링크 제외)
+     */
+    ResponseEntity<Response> getBubbleSummaries(CustomUserPrincipal userPrincipal, BubbleRequestDto.ListScope scope, Pageable pageable);
+
+    BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SummaryResultDto> getBubbleSummaries(CustomUserPrincipal userPrincipal, BubbleRequestDto.ListScope scope, String cursor, int size, boolean includeTotal);
+
     /**
      * Bubble을 벡터화하여 데이터베이스에 저장
      */
     BubbleResponseDto.VectorizeResultDto vectorizeBubble(CustomUserPrincipal userPrincipal, String bubbleLocalIdx);
 
     /**
-     * 사용자의 모든 Bubble을 벡터화
+     * 사용자의 Bubble을 벡터화하는 비동기 작업 접수 (force가 아니면 내용이 바뀐 Bubble만)
      */
-    ResponseEntity<Response> vectorizeAllBubbles(CustomUserPrincipal userPrincipal);
+    BubbleResponseDto.VectorizeJobDto vectorizeAllBubbles(CustomUserPrincipal userPrincipal, boolean force);
+
+    /**
+     * 전체 벡터화 작업 진행 상황 조회
+     */
+    BubbleResponseDto.VectorizeJobDto getVectorizeJob(CustomUserPrincipal userPrincipal, String jobId);
+
+    /**
+     * 사용자의 Bubble 임베딩 상태 (전체 / 벡터화됨 / 다시 임베딩 필요) 집계
+     */
+    BubbleResponseDto.EmbeddingStatusDto getEmbeddingStatus(CustomUserPrincipal userPrincipal);
+
+    /**
+     * 백링크 그래프에서 depth 홉 이내의 Bubble 조회
+     */
+    List<BubbleResponseDto.GraphNeighborDto> getBubbleNeighbors(CustomUserPrincipal userPrincipal, String bubbleLocalIdx, int depth, int limit);
+
+    /**
+     * Bubble이 속한 백링크 연결 요소 조회
+     */
+    BubbleResponseDto.GraphComponentDto getBubbleComponent(CustomUserPrincipal userPrincipal, String bubbleLocalIdx, int limit);
+
+    /**
+     * 사용자 백링크 그래프의 차수/연결 요소 통계
+     */
+    BubbleResponseDto.GraphStatsDto getGraphStats(CustomUserPrincipal userPrincipal);
 
     /**
      * 사용자의 모든 Bubble 2D 임베딩 좌표 조회
      */
     ResponseEntity<Response> getAllBubbleEmbeddings(CustomUserPrincipal userPrincipal, Pageable pageable);
+
+    /**
+     * 임베딩이 가까운 순으로 같은 사용자의 다른 Bubble 조회
+     */
+    List<BubbleResponseDto.SimilarBubbleDto> getSimilarBubbles(CustomUserPrincipal userPrincipal, String bubbleLocalIdx, int limit);
+
+    /**
+     * 키워드를 한 번 임베딩하여 가까운 순으로 사용자의 Bubble 조회
+     */
+    List<BubbleResponseDto.SimilarBubbleDto> searchSimilarBubbles(CustomUserPrincipal userPrincipal, String keyword, int limit);
 }
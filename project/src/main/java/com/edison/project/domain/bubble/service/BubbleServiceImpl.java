@@ -10,19 +10,33 @@ import com.edison.project.domain.bubble.dto.BubbleResponseDto;
 import com.edison.project.domain.bubble.entity.Bubble;
 import com.edison.project.domain.bubble.entity.BubbleBacklink;
 import com.edison.project.domain.bubble.entity.BubbleLabel;
-import com.edison.project.domain.bubble.repository.BubbleBacklinkRepository;
 import com.edison.project.domain.bubble.repository.BubbleEmbeddingProjection;
+import com.edison.project.domain.bubble.repository.BubbleEmbeddingStatusProjection;
 import com.edison.project.domain.bubble.repository.BubbleLabelRepository;
+import com.edison.project.domain.bubble.repository.BubbleListJdbcRepository;
+import com.edison.project.domain.bubble.repository.BubbleListJdbcRepository.BubbleListRow;
+import com.edison.project.domain.bubble.repository.BubbleListJdbcRepository.Filter;
+import com.edison.project.domain.bubble.repository.BubbleQueryIndexManager;
 import com.edison.project.domain.bubble.repository.BubbleRepository;
+import com.edison.project.domain.bubble.repository.BubbleSyncJdbcRepository;
+import com.edison.project.domain.bubble.repository.BubbleTrashJdbcRepository;
+import com.edison.project.domain.bubble.repository.BubbleVectorSearchRepository;
 import com.edison.project.domain.label.dto.LabelResponseDTO;
 import com.edison.project.domain.label.entity.Label;
 import com.edison.project.domain.label.repository.LabelRepository;
 import com.edison.project.domain.member.entity.Member;
 import com.edison.project.domain.member.repository.MemberRepository;
+import com.edison.project.domain.sync.entity.SyncEntityType;
+import com.edison.project.domain.sync.entity.SyncTombstone;
+import com.edison.project.domain.sync.repository.SyncTombstoneRepository;
 import com.edison.project.global.security.CustomUserPrincipal;
+import com.edison.project.global.util.CursorUtil;
+import com.edison.project.global.util.CursorUtil.Position;
 import com.pgvector.PGvector; // Must be imported
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +46,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,9 +59,36 @@ public class BubbleServiceImpl implements BubbleService {
     private final LabelRepository labelRepository;
     private final BubbleLabelRepository bubbleLabelRepository;
     private final MemberRepository memberRepository;
-    private final BubbleBacklinkRepository bubbleBacklinkRepository;
+    private final BubbleSyncJdbcRepository bubbleSyncJdbcRepository;
     private final EmbeddingService embeddingService;
-    private final DimensionReductionService dimensionReductionService;
+    private final BubbleProjectionService bubbleProjectionService;
+    private final BubbleVectorSearchRepository bubbleVectorSearchRepository;
+    private final VectorizeJobService vectorizeJobService;
+    private final BubbleBatchSyncService bubbleBatchSyncService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final BubbleGraphService bubbleGraphService;
+    private final BubbleListJdbcRepository bubbleListJdbcRepository;
+    private final BubbleCorpusVersionService bubbleCorpusVersionService;
+    private final BubbleTrashJdbcRepository bubbleTrashJdbcRepository;
+
+    // 요약 목록에서 내려주는 본문 앞부분 길이 (문자 수)
+    @Value("${bubble.list.snippet-length:200}")
+    private int snippetLength;
+
+    // 휴지통 보관 기간, 지나면 TrashPurgeJob이 영구 삭제
+    @Value("${bubble.trash.retention-days:30}")
+    private long trashRetentionDays;
+
+    private static final int MAX_SIMILAR_LIMIT = 50;
+    private static final int MAX_GRAPH_DEPTH = 3;
+    private static final int MAX_GRAPH_NEIGHBORS = 1000;
+    private static final int MAX_GRAPH_COMPONENT = 10000;
+    private static final int GRAPH_HUB_COUNT = 10;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int RECENT_DAYS = 7;
+
+    // 첫 페이지 커서: 모든 (updatedAt, bubbleId)보다 뒤
+    private static final Position LIST_START = new Position(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
 
     private BubbleResponseDto.SyncResultDto convertToBubbleResponseDto(Bubble bubble) {
         return BubbleResponseDto.SyncResultDto.builder()
@@ -71,11 +113,10 @@ public class BubbleServiceImpl implements BubbleService {
 
     @Override
     public ResponseEntity<Response> getBubblesByMember(CustomUserPrincipal userPrincipal, Pageable pageable) {
-        Page<Bubble> bubblePage = bubbleRepository.findByMember_MemberIdAndIsTrashedFalse(userPrincipal.getMemberId(), pageable);
+        Page<BubbleListRow> bubblePage = bubbleListJdbcRepository.findPage(
+                new Filter(userPrincipal.getMemberId(), false, null), null, pageable);
 
-        List<BubbleResponseDto.SyncResultDto> bubbles = bubblePage.getContent().stream()
-                .map(this::convertToBubbleResponseDto)
-                .collect(Collectors.toList());
+        List<BubbleResponseDto.SyncResultDto> bubbles = toSyncResultDtos(bubblePage.getContent());
 
         PageInfo pageInfo = new PageInfo(bubblePage.getNumber(), bubblePage.getSize(), bubblePage.hasNext(),
                 bubblePage.getTotalElements(), bubblePage.getTotalPages());
@@ -85,12 +126,10 @@ public class BubbleServiceImpl implements BubbleService {
 
     @Override
     public ResponseEntity<Response> getDeletedBubbles(CustomUserPrincipal userPrincipal, Pageable pageable) {
-        Page<Bubble> bubblePage = bubbleRepository.findByMember_MemberIdAndIsTrashedTrue(userPrincipal.getMemberId(), pageable);
-        LocalDateTime now = LocalDateTime.now();
+        Page<BubbleListRow> bubblePage = bubbleListJdbcRepository.findPage(
+                new Filter(userPrincipal.getMemberId(), true, null), null, pageable);
 
-        List<BubbleResponseDto.TrashedListResultDto> bubbles = bubblePage.getContent().stream()
-                .map(bubble -> convertToTrashedDto(bubble, now))
-                .collect(Collectors.toList());
+        List<BubbleResponseDto.TrashedListResultDto> bubbles = toTrashedDtos(bubblePage.getContent());
 
         PageInfo pageInfo = new PageInfo(bubblePage.getNumber(), bubblePage.getSize(), bubblePage.hasNext(),
                 bubblePage.getTotalElements(), bubblePage.getTotalPages());
@@ -100,12 +139,11 @@ public class BubbleServiceImpl implements BubbleService {
 
     @Override
     public ResponseEntity<Response> getRecentBubblesByMember(CustomUserPrincipal userPrincipal, Pageable pageable) {
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        Page<Bubble> bubblePage = bubbleRepository.findRecentByMember(userPrincipal.getMemberId(), sevenDaysAgo, pageable);
+        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(RECENT_DAYS);
+        Page<BubbleListRow> bubblePage = bubbleListJdbcRepository.findPage(
+                new Filter(userPrincipal.getMemberId(), false, sevenDaysAgo), null, pageable);
 
-        List<BubbleResponseDto.SyncResultDto> bubbles = bubblePage.getContent().stream()
-                .map(this::convertToBubbleResponseDto)
-                .collect(Collectors.toList());
+        List<BubbleResponseDto.SyncResultDto> bubbles = toSyncResultDtos(bubblePage.getContent());
 
         PageInfo pageInfo = new PageInfo(bubblePage.getNumber(), bubblePage.getSize(), bubblePage.hasNext(),
                 bubblePage.getTotalElements(), bubblePage.getTotalPages());
@@ -130,18 +168,27 @@ public class BubbleServiceImpl implements BubbleService {
         Set<Label> labels = validateLabels(request.getLabelIdxs(), member);
 
         Bubble bubble = processBubble(request, member, backlinks, labels);
+        bubbleCorpusVersionService.bump(member.getMemberId());
         return buildSyncResultDto(request, bubble, member);
     }
 
     @Override
     @Transactional
-    public BubbleResponseDto.CreateResultDto createBubble(CustomUserPrincipal userPrincipal, BubbleRequestDto.CreateDto requestDto) {
+    public BubbleResponseDto.BatchSyncResultDto syncBubbles(CustomUserPrincipal userPrincipal, BubbleRequestDto.BatchSyncDto request) {
         Member member = memberRepository.findById(userPrincipal.getMemberId())
                 .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
 
-        if (bubbleRepository.existsByMemberAndLocalIdx(member, requestDto.getLocalIdx())) {
-            throw new GeneralException(ErrorStatus.BUBBLE_ALREADY_EXISTS);
-        }
+        BubbleResponseDto.BatchSyncResultDto result = bubbleBatchSyncService.sync(member.getMemberId(), request.getBubbles());
+        bubbleGraphService.invalidate(member.getMemberId());
+        bubbleCorpusVersionService.bump(member.getMemberId());
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public BubbleResponseDto.CreateResultDto createBubble(CustomUserPrincipal userPrincipal, BubbleRequestDto.CreateDto requestDto) {
+        Member member = memberRepository.findById(userPrincipal.getMemberId())
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
 
         Set<Bubble> backlinks = validateBacklinks(requestDto.getBacklinkIds(), member);
         Set<Label> labels = validateLabels(requestDto.getLabelIdxs(), member);
@@ -166,7 +213,18 @@ public class BubbleServiceImpl implements BubbleService {
                 .collect(Collectors.toSet());
         bubble.getLabels().addAll(labelEntities);
 
-        Bubble savedBubble = bubbleRepository.save(bubble);
+        // 중복 여부는 (member_id, local_idx) 유니크 인덱스로 판단 (IDENTITY라 save 시점에 INSERT)
+        Bubble savedBubble;
+        try {
+            savedBubble = bubbleRepository.save(bubble);
+        } catch (DataIntegrityViolationException e) {
+            if (BubbleQueryIndexManager.isDuplicateLocalIdx(e)) {
+                throw new GeneralException(ErrorStatus.BUBBLE_ALREADY_EXISTS);
+            }
+            throw e;
+        }
+        bubbleGraphService.linksChanged(member.getMemberId(), savedBubble.getBubbleId(), savedBubble.getLocalIdx(), bubbleIds(backlinks));
+        bubbleCorpusVersionService.bump(member.getMemberId());
 
         return BubbleResponseDto.CreateResultDto.builder()
                 .localIdx(savedBubble.getLocalIdx())
@@ -197,6 +255,8 @@ public class BubbleServiceImpl implements BubbleService {
 
         bubble.update(requestDto.getTitle(), requestDto.getContent(), requestDto.getMainImageUrl(), labels, backlinks);
         bubbleRepository.save(bubble);
+        bubbleGraphService.linksChanged(member.getMemberId(), bubble.getBubbleId(), bubble.getLocalIdx(), bubbleIds(backlinks));
+        bubbleCorpusVersionService.bump(member.getMemberId());
 
         return BubbleResponseDto.CreateResultDto.builder()
                 .localIdx(bubble.getLocalIdx())
@@ -221,6 +281,8 @@ public class BubbleServiceImpl implements BubbleService {
         Bubble bubble = bubbleRepository.findByMember_MemberIdAndLocalIdxAndIsTrashedFalse(member.getMemberId(), BubbleLocalIdx)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.BUBBLE_NOT_FOUND));
         bubble.softDelete();
+        bubbleGraphService.nodeRemoved(member.getMemberId(), bubble.getBubbleId());
+        bubbleCorpusVersionService.bump(member.getMemberId());
         return BubbleResponseDto.DeleteRestoreResultDto.builder().localIdx(bubble.getLocalIdx()).isTrashed(bubble.isTrashed()).build();
     }
 
@@ -232,6 +294,8 @@ public class BubbleServiceImpl implements BubbleService {
         Bubble bubble = bubbleRepository.findByMember_MemberIdAndLocalIdxAndIsTrashedTrue(member.getMemberId(), BubbleLocalIdx)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.BUBBLE_NOT_FOUND));
         bubble.restore();
+        bubbleGraphService.invalidate(member.getMemberId());
+        bubbleCorpusVersionService.bump(member.getMemberId());
         return BubbleResponseDto.DeleteRestoreResultDto.builder().localIdx(bubble.getLocalIdx()).isTrashed(bubble.isTrashed()).build();
     }
 
@@ -242,20 +306,209 @@ public class BubbleServiceImpl implements BubbleService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
         Bubble bubble = bubbleRepository.findByMember_MemberIdAndLocalIdxAndIsTrashedTrue(member.getMemberId(), bubbleId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.BUBBLE_NOT_FOUND));
+        bubbleTrashJdbcRepository.deleteSpacesOfBubbles(List.of(bubble.getBubbleId()));
         bubbleRepository.delete(bubble);
+        syncTombstoneRepository.save(SyncTombstone.of(member.getMemberId(), SyncEntityType.BUBBLE, bubble.getLocalIdx()));
+        bubbleGraphService.nodeRemoved(member.getMemberId(), bubble.getBubbleId());
     }
 
     @Override
     public ResponseEntity<Response> getAllBubbles(CustomUserPrincipal userPrincipal, Pageable pageable){
-        Page<Bubble> bubblePage = bubbleRepository.findByMember_MemberId(userPrincipal.getMemberId(), pageable);
+        Page<BubbleListRow> bubblePage = bubbleListJdbcRepository.findPage(
+                new Filter(userPrincipal.getMemberId(), null, null), null, pageable);
         PageInfo pageInfo = new PageInfo(bubblePage.getNumber(), bubblePage.getSize(), bubblePage.hasNext(),
                 bubblePage.getTotalElements(), bubblePage.getTotalPages());
-        List<BubbleResponseDto.SyncResultDto> bubbles = bubblePage.getContent().stream()
-                .map(this::convertToBubbleResponseDto)
-                .collect(Collectors.toList());
+        List<BubbleResponseDto.SyncResultDto> bubbles = toSyncResultDtos(bubblePage.getContent());
+        return Response.onSuccess(SuccessStatus._OK, pageInfo, bubbles);
+    }
+
+    @Override
+    public BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SyncResultDto> getBubblesByMember(
+            CustomUserPrincipal userPrincipal, String cursor, int size, boolean includeTotal) {
+        return findCursorPage(new Filter(userPrincipal.getMemberId(), false, null), cursor, size, includeTotal,
+                null, this::toSyncResultDtos);
+    }
+
+    @Override
+    public BubbleResponseDto.CursorListResultDto<BubbleResponseDto.TrashedListResultDto> getDeletedBubbles(
+            CustomUserPrincipal userPrincipal, String cursor, int size, boolean includeTotal) {
+        return findCursorPage(new Filter(userPrincipal.getMemberId(), true, null), cursor, size, includeTotal,
+                null, this::toTrashedDtos);
+    }
+
+    @Override
+    public BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SyncResultDto> getRecentBubblesByMember(
+            CustomUserPrincipal userPrincipal, String cursor, int size, boolean includeTotal) {
+        LocalDateTime since = LocalDateTime.now().minusDays(RECENT_DAYS);
+        return findCursorPage(new Filter(userPrincipal.getMemberId(), false, since), cursor, size, includeTotal,
+                null, this::toSyncResultDtos);
+    }
+
+    @Override
+    public BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SyncResultDto> getAllBubbles(
+            CustomUserPrincipal userPrincipal, String cursor, int size, boolean includeTotal) {
+        return findCursorPage(new Filter(userPrincipal.getMemberId(), null, null), cursor, size, includeTotal,
+                null, this::toSyncResultDtos);
+    }
+
+    @Override
+    public ResponseEntity<Response> getBubbleSummaries(CustomUserPrincipal userPrincipal,
+                                                       BubbleRequestDto.ListScope scope, Pageable pageable) {
+        Page<BubbleListRow> bubblePage = bubbleListJdbcRepository.findPage(
+                filterOf(userPrincipal.getMemberId(), scope), snippetLength, pageable);
+
+        List<BubbleResponseDto.SummaryResultDto> bubbles = toSummaryDtos(bubblePage.getContent());
+
+        PageInfo pageInfo = new PageInfo(bubblePage.getNumber(), bubblePage.getSize(), bubblePage.hasNext(),
+                bubblePage.getTotalElements(), bubblePage.getTotalPages());
+
         return Response.onSuccess(SuccessStatus._OK, pageInfo, bubbles);
     }
 
+    @Override
+    public BubbleResponseDto.CursorListResultDto<BubbleResponseDto.SummaryResultDto> getBubbleSummaries(
+            CustomUserPrincipal userPrincipal, BubbleRequestDto.ListScope scope,
+            String cursor, int size, boolean includeTotal) {
+        return findCursorPage(filterOf(userPrincipal.getMemberId(), scope), cursor, size, includeTotal,
+                snippetLength, this::toSummaryDtos);
+    }
+
+    private Filter filterOf(Long memberId, BubbleRequestDto.ListScope scope) {
+        return switch (scope) {
+            case SPACE -> new Filter(memberId, false, null);
+            case DELETED -> new Filter(memberId, true, null);
+            case RECENT -> new Filter(memberId, false, LocalDateTime.now().minusDays(RECENT_DAYS));
+            case ALL -> new Filter(memberId, null, null);
+        };
+    }
+
+    // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 조회
+    private <T> BubbleResponseDto.CursorListResultDto<T> findCursorPage(
+            Filter filter, String cursor, int size, boolean includeTotal,
+            Integer snippetLength, Function<List<BubbleListRow>, List<T>> assembler) {
+        Position position = decodeListCursor(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        List<BubbleListRow> rows = bubbleListJdbcRepository.findPageBefore(
+                filter, snippetLength, position.time(), position.id(), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<BubbleListRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BubbleListRow last = page.get(page.size() - 1);
+            nextCursor = CursorUtil.encode(new Position(last.updatedAt(), last.bubbleId()));
+        }
+        return new BubbleResponseDto.CursorListResultDto<>(
+                assembler.apply(page),
+                nextCursor,
+                hasNext,
+                includeTotal ? bubbleListJdbcRepository.count(filter) : null
+        );
+    }
+
+    private Position decodeListCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return LIST_START;
+        }
+        try {
+            return CursorUtil.decode(cursor, 1).get(0);
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(ErrorStatus.INVALID_BUBBLE_CURSOR);
+        }
+    }
+
+    /**
+     * 목록 행 + 라벨/백링크 일괄 조회로 DTO 조립 (엔티티 로딩 없음)
+     */
+    private List<BubbleResponseDto.SyncResultDto> toSyncResultDtos(List<BubbleListRow> rows) {
+        List<Long> ids = rows.stream().map(BubbleListRow::bubbleId).collect(Collectors.toList());
+        Map<Long, List<BubbleListJdbcRepository.LabelRow>> labels = bubbleListJdbcRepository.findLabelsByBubbleIds(ids);
+        Map<Long, Set<String>> backlinks = bubbleListJdbcRepository.findBacklinkIdxsByBubbleIds(ids);
+
+        return rows.stream()
+                .map(row -> BubbleResponseDto.SyncResultDto.builder()
+                        .localIdx(row.localIdx())
+                        .title(row.title())
+                        .content(row.content())
+                        .mainImageUrl(row.mainImg())
+                        .labels(toLabelDtos(labels.get(row.bubbleId())))
+                        .backlinkIdxs(backlinks.getOrDefault(row.bubbleId(), new HashSet<>()))
+                        .isTrashed(row.trashed())
+                        .isDeleted(row.deleted())
+                        .createdAt(row.createdAt())
+                        .updatedAt(row.updatedAt())
+                        .deletedAt(row.deletedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<BubbleResponseDto.TrashedListResultDto> toTrashedDtos(List<BubbleListRow> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<BubbleListJdbcRepository.LabelRow>> labels = bubbleListJdbcRepository.findLabelsByBubbleIds(
+                rows.stream().map(BubbleListRow::bubbleId).collect(Collectors.toList()));
+
+        return rows.stream()
+                .map(row -> {
+                    LocalDateTime deletedAt = Optional.ofNullable(row.deletedAt()).orElse(now);
+                    long remainDays = trashRetentionDays - ChronoUnit.DAYS.between(deletedAt, now);
+                    return BubbleResponseDto.TrashedListResultDto.builder()
+                            .localIdx(row.localIdx())
+                            .title(row.title())
+                            .content(row.content())
+                            .labels(toLabelDtos(labels.get(row.bubbleId())))
+                            .createdAt(row.createdAt())
+                            .updatedAt(row.updatedAt())
+                            .deletedAt(row.deletedAt())
+                            .remainDay((int) Math.max(remainDays, 0))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 요약 목록: 행의 content는 snippetLength + 1자까지만 읽혀 있으므로 여기서 잘림 여부를 판단, 백링크는 조회하지 않음
+     */
+    private List<BubbleResponseDto.SummaryResultDto> toSummaryDtos(List<BubbleListRow> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<BubbleListJdbcRepository.LabelRow>> labels = bubbleListJdbcRepository.findLabelsByBubbleIds(
+                rows.stream().map(BubbleListRow::bubbleId).collect(Collectors.toList()));
+
+        return rows.stream()
+                .map(row -> {
+                    String snippet = row.content();
+                    boolean truncated = snippet != null && snippet.codePointCount(0, snippet.length()) > snippetLength;
+                    Integer remainDay = null;
+                    if (row.trashed()) {
+                        LocalDateTime deletedAt = Optional.ofNullable(row.deletedAt()).orElse(now);
+                        remainDay = (int) Math.max(trashRetentionDays - ChronoUnit.DAYS.between(deletedAt, now), 0);
+                    }
+                    return BubbleResponseDto.SummaryResultDto.builder()
+                            .localIdx(row.localIdx())
+                            .title(row.title())
+                            .snippet(truncated ? snippet.substring(0, snippet.offsetByCodePoints(0, snippetLength)) : snippet)
+                            .snippetTruncated(truncated)
+                            .mainImageUrl(row.mainImg())
+                            .labels(toLabelDtos(labels.get(row.bubbleId())))
+                            .isTrashed(row.trashed())
+                            .createdAt(row.createdAt())
+                            .updatedAt(row.updatedAt())
+                            .deletedAt(row.deletedAt())
+                            .remainDay(remainDay)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private List<LabelResponseDTO.LabelSimpleInfoDto> toLabelDtos(List<BubbleListJdbcRepository.LabelRow> labels) {
+        if (labels == null) {
+            return new ArrayList<>();
+        }
+        return labels.stream()
+                .map(l -> LabelResponseDTO.LabelSimpleInfoDto.builder().localIdx(l.localIdx()).name(l.name()).color(l.color()).build())
+                .collect(Collectors.toList());
+    }
+
     /**
      * Vectorize a single Bubble
      */
@@ -270,55 +523,18 @@ public class BubbleServiceImpl implements BubbleService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.BUBBLE_NOT_FOUND));
 
         // 1. 현재 버블의 임베딩 생성 및 저장
-        String textToEmbed = (targetBubble.getTitle() != null ? targetBubble.getTitle() : "") + " " +
-                (targetBubble.getContent() != null ? targetBubble.getContent() : "");
-
-        PGvector embedding = embeddingService.embed(textToEmbed);
-        targetBubble.setEmbedding(embedding.toArray());
+        PGvector embedding = embeddingService.embed(buildEmbeddingText(targetBubble));
+        float[] vector = embedding != null ? embedding.toArray() : null;
+        if (vector == null || isZeroVector(vector)) {
+            // 제공자가 실패 시 0 벡터를 돌려주므로 저장하지 않음 (저장하면 stale 표시가 풀려 전체 벡터화에서도 빠지고 투영/검색이 깨짐)
+            throw new GeneralException(ErrorStatus.EMBEDDING_UNAVAILABLE);
+        }
+        targetBubble.applyEmbedding(vector, Bubble.fingerprint(targetBubble.getTitle(), targetBubble.getContent()));
         targetBubble.setUpdatedAt(LocalDateTime.now());
 
-        bubbleRepository.saveAndFlush(targetBubble);
-
-        // 2. [핵심 수정] 내 모든 버블을 가져와서 함께 좌표를 계산해야 함
-        // 좌표는 "상대적"이기 때문에 혼자서는 계산할 수 없음
-        List<Bubble> allBubbles = bubbleRepository.findByMember_MemberIdAndIsTrashedFalse(member.getMemberId());
-
-        // 임베딩이 있는 버블만 필터링
-        List<Bubble> vectorizedBubbles = allBubbles.stream()
-                .filter(b -> b.getEmbedding() != null)
-                .collect(Collectors.toList());
-
-        if (vectorizedBubbles.size() > 1) {
-            // 전체 벡터 배열 생성
-            float[][] vectors = new float[vectorizedBubbles.size()][];
-            for (int i = 0; i < vectorizedBubbles.size(); i++) {
-                vectors[i] = vectorizedBubbles.get(i).getEmbedding();
-            }
-
-            double[][] projection = dimensionReductionService.reduceTo2D(vectors);
-
-            // 계산된 좌표를 각 버블에 업데이트
-            for (int i = 0; i < vectorizedBubbles.size(); i++) {
-                Bubble b = vectorizedBubbles.get(i);
-                b.setEmbedding2dX(projection[i][0]);
-                b.setEmbedding2dY(projection[i][1]);
-            }
-
-            // 변경된 좌표들 일괄 저장
-            bubbleRepository.saveAll(vectorizedBubbles);
-
-            Bubble updatedTarget = vectorizedBubbles.stream()
-                    .filter(b -> b.getLocalIdx().equals(bubbleLocalIdx))
-                    .findFirst()
-                    .orElse(targetBubble);
-
-            targetBubble = updatedTarget;
-
-        } else {
-            targetBubble.setEmbedding2dX(0.0);
-            targetBubble.setEmbedding2dY(0.0);
-            bubbleRepository.save(targetBubble);
-        }
+        // 2. 저장된 투영 모델로 이 버블만 좌표 계산 (모델이 없거나 오래되면 커밋 후 백그라운드 재학습)
+        bubbleProjectionService.updateProjection(member.getMemberId(), targetBubble);
+        bubbleRepository.save(targetBubble);
 
         return new BubbleResponseDto.VectorizeResultDto(
                 targetBubble.getLocalIdx(),
@@ -332,78 +548,29 @@ public class BubbleServiceImpl implements BubbleService {
     }
 
     /**
-     * Vectorize All Bubbles
+     * Vectorize All Bubbles (비동기 작업으로 접수)
      */
     @Override
-    @Transactional
-    public ResponseEntity<Response> vectorizeAllBubbles(CustomUserPrincipal userPrincipal) {
+    public BubbleResponseDto.VectorizeJobDto vectorizeAllBubbles(CustomUserPrincipal userPrincipal, boolean force) {
         Member member = memberRepository.findById(userPrincipal.getMemberId())
                 .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
 
-        List<Bubble> bubbles = bubbleRepository.findByMember_MemberIdAndIsTrashedFalse(member.getMemberId());
-
-        if (bubbles.isEmpty()) {
-            return Response.onSuccess(SuccessStatus._OK, null, "No bubbles found");
-        }
-
-        List<BubbleResponseDto.VectorizeResultDto> results = new ArrayList<>();
-        List<Bubble> embeddedBubbles = new ArrayList<>();
-        List<float[]> tempEmbeddingsList = new ArrayList<>();
-
-        for (Bubble bubble : bubbles) {
-            try {
-                String textToEmbed = (bubble.getTitle() != null ? bubble.getTitle() : "") + " " +
-                        (bubble.getContent() != null ? bubble.getContent() : "");
-
-                PGvector embedding = embeddingService.embed(textToEmbed);
-
-                bubble.setEmbedding(embedding.toArray());
-                bubble.setUpdatedAt(LocalDateTime.now());
-
-                embeddedBubbles.add(bubble);
-                tempEmbeddingsList.add(embedding.toArray());
-
-            } catch (Exception e) {
-                log.error("Failed to vectorize bubble [{}]: {}", bubble.getLocalIdx(), e.getMessage());
-                results.add(new BubbleResponseDto.VectorizeResultDto(
-                        bubble.getLocalIdx(),
-                        null,
-                        false,
-                        null,
-                        null,
-                        null,
-                        "Failed: " + e.getMessage()
-                ));
-            }
-        }
-
-        if (!embeddedBubbles.isEmpty()) {
-            float[][] successfulEmbeddings = tempEmbeddingsList.toArray(new float[0][]);
-            double[][] projection = dimensionReductionService.reduceTo2D(successfulEmbeddings);
-
-            for (int i = 0; i < embeddedBubbles.size(); i++) {
-                Bubble bubble = embeddedBubbles.get(i);
-                bubble.setEmbedding2dX(projection[i][0]);
-                bubble.setEmbedding2dY(projection[i][1]);
-                results.add(new BubbleResponseDto.VectorizeResultDto(
-                        bubble.getLocalIdx(),
-                        bubble.getTitle(),
-                        true,
-                        bubble.getEmbedding2dX(),
-                        bubble.getEmbedding2dY(),
-                        LocalDateTime.now(),
-                        "Success"
-                ));
-            }
-            bubbleRepository.saveAll(embeddedBubbles);
-        }
+        return vectorizeJobService.submit(member.getMemberId(), force).toDto();
+    }
 
-        Map<String, Object> responseData = new HashMap<>();
-        responseData.put("totalRequest", bubbles.size());
-        responseData.put("successCount", embeddedBubbles.size());
-        responseData.put("results", results);
+    @Override
+    public BubbleResponseDto.VectorizeJobDto getVectorizeJob(CustomUserPrincipal userPrincipal, String jobId) {
+        return vectorizeJobService.getJob(userPrincipal.getMemberId(), jobId).toDto();
+    }
 
-        return Response.onSuccess(SuccessStatus._OK, responseData);
+    @Override
+    public BubbleResponseDto.EmbeddingStatusDto getEmbeddingStatus(CustomUserPrincipal userPrincipal) {
+        BubbleEmbeddingStatusProjection status = bubbleRepository.countEmbeddingStatusByMemberId(userPrincipal.getMemberId());
+        return new BubbleResponseDto.EmbeddingStatusDto(
+                status.getTotalCount(),
+                status.getVectorizedCount(),
+                status.getStaleCount()
+        );
     }
 
     // Service에서 사용
@@ -436,87 +603,163 @@ public class BubbleServiceImpl implements BubbleService {
         return Response.onSuccess(SuccessStatus._OK, pageInfo, dtos.getContent());
     }
 
-    private Bubble processBubble(BubbleRequestDto.SyncDto request, Member member, Set<Bubble> backlinks, Set<Label> labels) {
-        if (request.isDeleted()){
-            return bubbleRepository.existsByMemberAndLocalIdx(member, request.getLocalIdx()) ? hardDeleteBubble(request, member) : null;
-        }
-        return bubbleRepository.existsByMemberAndLocalIdx(member, request.getLocalIdx())
-                ? updateExistingBubble(request, member, backlinks, labels)
-                : createNewBubble(request, member, backlinks, labels);
-    }
+    /**
+     * 유사 버블 조회 (pgvector 코사인 거리)
+     */
+    @Override
+    public List<BubbleResponseDto.SimilarBubbleDto> getSimilarBubbles(CustomUserPrincipal userPrincipal, String bubbleLocalIdx, int limit) {
+        Long memberId = userPrincipal.getMemberId();
 
-    private Bubble updateExistingBubble(BubbleRequestDto.SyncDto request, Member member, Set<Bubble> backlinks, Set<Label> labels) {
-        Bubble bubble = bubbleRepository.findByMemberAndLocalIdx(member, request.getLocalIdx())
+        Bubble targetBubble = bubbleRepository.findByMember_MemberIdAndLocalIdxAndIsTrashedFalse(memberId, bubbleLocalIdx)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.BUBBLE_NOT_FOUND));
+        if (targetBubble.getEmbedding() == null) {
+            throw new GeneralException(ErrorStatus.BUBBLE_NOT_VECTORIZED);
+        }
 
-        List<BubbleBacklink> backlinksFromBubble = bubbleBacklinkRepository.findByBubble_BubbleId(bubble.getBubbleId());
-        List<BubbleBacklink> backlinksToBubble = bubbleBacklinkRepository.findByBacklinkBubble_BubbleId(bubble.getBubbleId());
-
-        Set<BubbleBacklink> allBacklinks = new HashSet<>();
-        allBacklinks.addAll(backlinksFromBubble);
-        allBacklinks.addAll(backlinksToBubble);
+        return bubbleVectorSearchRepository.findNearestToBubble(memberId, targetBubble.getBubbleId(), clampSimilarLimit(limit)).stream()
+                .map(this::toSimilarBubbleDto)
+                .collect(Collectors.toList());
+    }
 
-        if (request.isTrashed() && request.isDeleted()) {
-            bubbleBacklinkRepository.deleteAll(allBacklinks);
-            return bubble;
+    /**
+     * 키워드 유사도 검색: 키워드만 임베딩하고 순위는 DB에서 계산
+     */
+    @Override
+    public List<BubbleResponseDto.SimilarBubbleDto> searchSimilarBubbles(CustomUserPrincipal userPrincipal, String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new GeneralException(ErrorStatus.INVALID_KEYWORD);
         }
 
-        // Logic to update backlinks trash status...
-        for (BubbleBacklink link : backlinksFromBubble) {
-            Bubble target = link.getBacklinkBubble();
-            if(target.isDeleted()||request.isDeleted()) {
-                bubbleBacklinkRepository.delete(link);
-            } else {
-                boolean shouldBeTrashed = request.isTrashed() || target.isTrashed();
-                link.setTrashed(shouldBeTrashed);
-            }
+        float[] query = embeddingService.embed(keyword.trim()).toArray();
+        if (isZeroVector(query)) {
+            // 임베딩 실패 시 0 벡터가 오며, 0 벡터와의 코사인 거리는 정의되지 않음
+            throw new GeneralException(ErrorStatus.EMBEDDING_UNAVAILABLE);
         }
-        for (BubbleBacklink link : backlinksToBubble) {
-            Bubble target = link.getBacklinkBubble();
-            if(request.isDeleted()||target.isDeleted()) {
-                bubbleBacklinkRepository.delete(link);
-            } else {
-                boolean shouldBeTrashed = request.isTrashed() || link.getBubble().isTrashed() || target.isTrashed();
-                if(!request.isTrashed() && !link.getBubble().isTrashed()){
-                    shouldBeTrashed = false;
-                }
-                link.setTrashed(shouldBeTrashed);
-            }
+
+        List<BubbleResponseDto.SimilarBubbleDto> result = bubbleVectorSearchRepository.findNearestByEmbedding(
+                        userPrincipal.getMemberId(), query, clampSimilarLimit(limit)).stream()
+                .map(this::toSimilarBubbleDto)
+                .collect(Collectors.toList());
+
+        if (result.isEmpty()) {
+            throw new GeneralException(ErrorStatus.SIMILAR_BUBBLE_NOT_FOUND);
         }
-        bubbleBacklinkRepository.saveAll(backlinksFromBubble);
-        bubbleBacklinkRepository.saveAll(backlinksToBubble);
+        return result;
+    }
 
-        Set<BubbleLabel> bubbleLabels = labels.stream()
-                .map(label -> BubbleLabel.builder().bubble(bubble).label(label).build())
-                .collect(Collectors.toSet());
-        bubble.update(request.getTitle(), request.getContent(), request.getMainImageUrl(), bubbleLabels);
+    /**
+     * 백링크 그래프 k-hop 이웃 (회원 그래프 캐시에서 계산)
+     */
+    @Override
+    public List<BubbleResponseDto.GraphNeighborDto> getBubbleNeighbors(CustomUserPrincipal userPrincipal, String bubbleLocalIdx, int depth, int limit) {
+        BubbleGraph graph = bubbleGraphService.getGraph(userPrincipal.getMemberId());
+        long bubbleId = graph.findId(bubbleLocalIdx)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.BUBBLE_NOT_FOUND));
 
-        Set<Bubble> existingBacklinks = bubble.getBacklinks().stream()
-                .map(BubbleBacklink::getBacklinkBubble)
-                .collect(Collectors.toSet());
+        return graph.neighbors(bubbleId, Math.max(1, Math.min(depth, MAX_GRAPH_DEPTH)), Math.max(1, Math.min(limit, MAX_GRAPH_NEIGHBORS))).stream()
+                .map(neighbor -> new BubbleResponseDto.GraphNeighborDto(neighbor.localIdx(), neighbor.distance()))
+                .collect(Collectors.toList());
+    }
 
-        for (Bubble backlink : backlinks) {
-            if (!existingBacklinks.contains(backlink)) {
-                BubbleBacklink newBacklink = BubbleBacklink.builder()
-                        .bubble(bubble)
-                        .backlinkBubble(backlink)
-                        .isTrashed(request.isTrashed())
-                        .build();
-                bubble.getBacklinks().add(newBacklink);
+    @Override
+    public BubbleResponseDto.GraphComponentDto getBubbleComponent(CustomUserPrincipal userPrincipal, String bubbleLocalIdx, int limit) {
+        BubbleGraph graph = bubbleGraphService.getGraph(userPrincipal.getMemberId());
+        long bubbleId = graph.findId(bubbleLocalIdx)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.BUBBLE_NOT_FOUND));
+
+        BubbleGraph.Component component = graph.component(bubbleId, Math.max(1, Math.min(limit, MAX_GRAPH_COMPONENT)));
+        return new BubbleResponseDto.GraphComponentDto(bubbleLocalIdx, component.size(), component.truncated(), component.localIdxs());
+    }
+
+    @Override
+    public BubbleResponseDto.GraphStatsDto getGraphStats(CustomUserPrincipal userPrincipal) {
+        BubbleGraph.Stats stats = bubbleGraphService.getGraph(userPrincipal.getMemberId()).stats(GRAPH_HUB_COUNT);
+        return new BubbleResponseDto.GraphStatsDto(
+                stats.nodeCount(),
+                stats.edgeCount(),
+                stats.isolatedCount(),
+                stats.maxDegree(),
+                stats.averageDegree(),
+                stats.componentCount(),
+                stats.largestComponentSize(),
+                stats.hubs().stream()
+                        .map(hub -> new BubbleResponseDto.GraphHubDto(hub.localIdx(), hub.outDegree(), hub.inDegree()))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    private Set<Long> bubbleIds(Set<Bubble> bubbles) {
+        return bubbles.stream().map(Bubble::getBubbleId).collect(Collectors.toSet());
+    }
+
+    private BubbleResponseDto.SimilarBubbleDto toSimilarBubbleDto(BubbleVectorSearchRepository.BubbleSimilarityRow row) {
+        return new BubbleResponseDto.SimilarBubbleDto(row.localIdx(), row.title(), 1.0 - row.distance());
+    }
+
+    private int clampSimilarLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_SIMILAR_LIMIT));
+    }
+
+    private boolean isZeroVector(float[] vector) {
+        for (float v : vector) {
+            if (v != 0.0f) {
+                return false;
             }
         }
+        return true;
+    }
 
+    private String buildEmbeddingText(Bubble bubble) {
+        return BubbleEmbeddingText.of(bubble.getTitle(), bubble.getContent());
+    }
+
+    private Bubble processBubble(BubbleRequestDto.SyncDto request, Member member, Set<Bubble> backlinks, Set<Label> labels) {
+        Optional<Bubble> existing = bubbleRepository.findByMemberAndLocalIdx(member, request.getLocalIdx());
+        if (request.isDeleted()){
+            return existing.map(bubble -> hardDeleteBubble(bubble, member)).orElse(null);
+        }
+        return existing.isPresent()
+                ? updateExistingBubble(existing.get(), request, member, backlinks, labels)
+                : createNewBubble(request, member, backlinks, labels);
+    }
+
+    private Bubble updateExistingBubble(Bubble bubble, BubbleRequestDto.SyncDto request, Member member, Set<Bubble> backlinks, Set<Label> labels) {
+        boolean restored = bubble.isTrashed() && !request.isTrashed();
+
+        // 연관 컬렉션은 건드리지 않고 버블 행만 갱신 (응답 생성 시 DB에서 새로 로딩됨)
+        bubble.setTitle(request.getTitle());
+        bubble.setContent(request.getContent());
+        bubble.setMainImg(request.getMainImageUrl());
         bubble.setTrashed(request.isTrashed());
         bubble.setUpdatedAt(request.getUpdatedAt());
         bubble.setDeletedAt(request.getDeletedAt());
+        // 백링크/라벨만 바뀌어도 증분 sync에 다시 내려가도록
+        bubble.markSyncChanged();
+        bubbleRepository.flush();
+
+        // 백링크/라벨은 현재 상태와의 차이만 반영, 링크 휴지통 상태는 양 끝 버블 기준으로 한 번에 정리
+        bubbleSyncJdbcRepository.applyLinkDiff(
+                bubble.getBubbleId(),
+                backlinks.stream().map(Bubble::getBubbleId).collect(Collectors.toSet()),
+                labels.stream().map(Label::getLabelId).collect(Collectors.toSet())
+        );
 
-        return bubbleRepository.saveAndFlush(bubble);
+        if (restored) {
+            // 복원되면 다른 버블에서 들어오는 링크도 살아나므로 다시 적재
+            bubbleGraphService.invalidate(member.getMemberId());
+        } else if (request.isTrashed()) {
+            bubbleGraphService.nodeRemoved(member.getMemberId(), bubble.getBubbleId());
+        } else {
+            bubbleGraphService.linksChanged(member.getMemberId(), bubble.getBubbleId(), bubble.getLocalIdx(), bubbleIds(backlinks));
+        }
+        return bubble;
     }
 
-    private Bubble hardDeleteBubble(BubbleRequestDto.SyncDto request, Member member) {
-        Bubble bubble = bubbleRepository.findByMemberAndLocalIdx(member, request.getLocalIdx())
-                .orElseThrow(() -> new GeneralException(ErrorStatus.BUBBLE_NOT_FOUND));
+    private Bubble hardDeleteBubble(Bubble bubble, Member member) {
+        bubbleTrashJdbcRepository.deleteSpacesOfBubbles(List.of(bubble.getBubbleId()));
         bubbleRepository.delete(bubble);
+        syncTombstoneRepository.save(SyncTombstone.of(member.getMemberId(), SyncEntityType.BUBBLE, bubble.getLocalIdx()));
+        bubbleGraphService.nodeRemoved(member.getMemberId(), bubble.getBubbleId());
         return null;
     }
 
@@ -551,6 +794,9 @@ public class BubbleServiceImpl implements BubbleService {
                 .collect(Collectors.toSet());
         savedBubble.getBacklinks().addAll(newbacklinks);
 
+        if (!request.isTrashed()) {
+            bubbleGraphService.linksChanged(member.getMemberId(), savedBubble.getBubbleId(), savedBubble.getLocalIdx(), bubbleIds(backlinks));
+        }
         return savedBubble;
     }
 
@@ -629,22 +875,4 @@ public class BubbleServiceImpl implements BubbleService {
     public List<LabelResponseDTO.LabelSimpleInfoDto> mapLabelsToDto(Set<Label> labels) {
         return labels.stream().map(l -> LabelResponseDTO.LabelSimpleInfoDto.builder().localIdx(l.getLocalIdx()).name(l.getName()).color(l.getColor()).build()).collect(Collectors.toList());
     }
-
-    private BubbleResponseDto.TrashedListResultDto convertToTrashedDto(Bubble bubble, LocalDateTime now) {
-        LocalDateTime deletedAt = Optional.ofNullable(bubble.getDeletedAt()).orElse(now);
-        long remainDays = 30 - ChronoUnit.DAYS.between(deletedAt, now);
-        List<LabelResponseDTO.LabelSimpleInfoDto> labelDtos = bubble.getLabels().stream()
-                .map(bl -> LabelResponseDTO.LabelSimpleInfoDto.builder().localIdx(bl.getLabel().getLocalIdx()).name(bl.getLabel().getName()).color(bl.getLabel().getColor()).build())
-                .collect(Collectors.toList());
-        return BubbleResponseDto.TrashedListResultDto.builder()
-                .localIdx(bubble.getLocalIdx())
-                .title(bubble.getTitle())
-                .content(bubble.getContent())
-                .labels(labelDtos)
-                .createdAt(bubble.getCreatedAt())
-                .updatedAt(bubble.getUpdatedAt())
-                .deletedAt(bubble.getDeletedAt())
-                .remainDay((int) Math.max(remainDays, 0))
-                .build();
-    }
 }
\ No newline at end of file
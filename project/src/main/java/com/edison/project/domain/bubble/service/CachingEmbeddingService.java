@@ -0,0 +1,231 @@
+package com.edison.project.domain.bubble.service;
+
+import com.edison.project.global.util.HashUtil;
+import com.pgvector.PGvector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * EmbeddingService 캐싱 데코레이터
+ * 정규화한 텍스트 + 모델 이름의 해시를 키로 로컬(LRU) -> Redis(선택) 순서로 조회하고,
+ * 모두 없는 텍스트만 실제 임베딩 서비스로 요청한다.
+ */
+@Slf4j
+public class CachingEmbeddingService implements EmbeddingService {
+
+    private static final String REDIS_KEY_PREFIX = "embedding:";
+
+    private final EmbeddingService delegate;
+    private final RedisTemplate<String, String> redisTemplate; // null이면 Redis 캐시 미사용
+    private final Duration redisTtl;
+    private final Map<String, float[]> localCache;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public CachingEmbeddingService(EmbeddingService delegate, int localMaxEntries,
+                                   RedisTemplate<String, String> redisTemplate, Duration redisTtl,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = redisTtl;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                return size() > localMaxEntries;
+            }
+        });
+
+        this.localHits = cacheCounter(meterRegistry, "local", "hit");
+        this.localMisses = cacheCounter(meterRegistry, "local", "miss");
+        this.redisHits = cacheCounter(meterRegistry, "redis", "hit");
+        this.redisMisses = cacheCounter(meterRegistry, "redis", "miss");
+        meterRegistry.gauge("embedding.cache.local.size", localCache, Map::size);
+    }
+
+    @Override
+    public PGvector embed(String text) {
+        return embedBatch(new String[]{text})[0];
+    }
+
+    @Override
+    public PGvector[] embedBatch(String[] texts) {
+        PGvector[] results = new PGvector[texts.length];
+        String[] keys = new String[texts.length];
+
+        // 1. 로컬 캐시 조회
+        Map<String, List<Integer>> localMissed = new LinkedHashMap<>();
+        for (int i = 0; i < texts.length; i++) {
+            if (texts[i] == null || texts[i].isBlank()) {
+                continue;
+            }
+            keys[i] = cacheKey(texts[i]);
+            float[] cached = localCache.get(keys[i]);
+            if (cached != null) {
+                localHits.increment();
+                // PGvector는 배열을 복사하지 않으므로 캐시 원본이 호출자에게 새지 않게 복사
+                results[i] = new PGvector(cached.clone());
+            } else {
+                localMisses.increment();
+                localMissed.computeIfAbsent(keys[i], k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // 2. Redis 캐시 조회
+        Map<String, List<Integer>> missed = lookupRedis(localMissed, results);
+
+        // 3. 캐시에 없는 텍스트(+ 빈 텍스트)만 실제 임베딩 요청, 동일 텍스트는 한 번만 요청
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < texts.length; i++) {
+            if (keys[i] == null) {
+                pending.add(i);
+            }
+        }
+        for (List<Integer> positions : missed.values()) {
+            pending.add(positions.get(0));
+        }
+        if (pending.isEmpty()) {
+            return results;
+        }
+
+        String[] requestTexts = pending.stream().map(i -> texts[i]).toArray(String[]::new);
+        PGvector[] embedded = delegate.embedBatch(requestTexts);
+
+        Map<String, String> redisEntries = new HashMap<>();
+        for (int p = 0; p < pending.size(); p++) {
+            int index = pending.get(p);
+            PGvector vector = embedded[p];
+            if (keys[index] == null) {
+                results[index] = vector;
+                continue;
+            }
+
+            List<Integer> positions = missed.get(keys[index]);
+            results[positions.get(0)] = vector;
+            // 같은 텍스트가 여러 번 들어온 경우에도 결과마다 별도 배열
+            for (int position : positions.subList(1, positions.size())) {
+                results[position] = vector == null ? null : new PGvector(vector.toArray().clone());
+            }
+            // 실패 시 반환되는 zero vector는 캐시하지 않음
+            // toArray()는 내부 배열을 그대로 돌려주므로 호출자가 결과를 고쳐도 캐시가 바뀌지 않게 복사본을 저장
+            float[] values = vector == null ? null : vector.toArray();
+            if (values != null && !isZeroVector(values)) {
+                localCache.put(keys[index], values.clone());
+                redisEntries.put(REDIS_KEY_PREFIX + keys[index], encode(values));
+            }
+        }
+        storeRedis(redisEntries);
+        return results;
+    }
+
+    @Override
+    public String getModelName() {
+        return delegate.getModelName();
+    }
+
+    private Map<String, List<Integer>> lookupRedis(Map<String, List<Integer>> localMissed, PGvector[] results) {
+        if (redisTemplate == null || localMissed.isEmpty()) {
+            return localMissed;
+        }
+
+        List<String> keys = new ArrayList<>(localMissed.keySet());
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys.stream().map(k -> REDIS_KEY_PREFIX + k).toList());
+        } catch (Exception e) {
+            log.warn("Embedding cache lookup on Redis failed: {}", e.getMessage());
+            return localMissed;
+        }
+        if (values == null) {
+            return localMissed;
+        }
+
+        Map<String, List<Integer>> missed = new LinkedHashMap<>();
+        for (int k = 0; k < keys.size(); k++) {
+            String key = keys.get(k);
+            String value = values.get(k);
+            if (value == null) {
+                redisMisses.increment();
+                missed.put(key, localMissed.get(key));
+                continue;
+            }
+            redisHits.increment();
+            float[] vector = decode(value);
+            localCache.put(key, vector);
+            for (int position : localMissed.get(key)) {
+                results[position] = new PGvector(vector.clone());
+            }
+        }
+        return missed;
+    }
+
+    private void storeRedis(Map<String, String> entries) {
+        if (redisTemplate == null || entries.isEmpty()) {
+            return;
+        }
+        try {
+            // 키마다 왕복하지 않도록 파이프라인으로 한 번에 저장
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    entries.forEach((key, value) -> ops.opsForValue().set(key, value, redisTtl));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Embedding cache store on Redis failed: {}", e.getMessage());
+        }
+    }
+
+    // 공백/유니코드 정규화 후 모델 이름과 함께 해시
+    private String cacheKey(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ");
+        return HashUtil.sha256Hex(delegate.getModelName() + "\n" + normalized);
+    }
+
+    private static boolean isZeroVector(float[] vector) {
+        for (float v : vector) {
+            if (v != 0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private static float[] decode(String value) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(value)).order(ByteOrder.LITTLE_ENDIAN);
+        float[] vector = new float[buffer.remaining() / Float.BYTES];
+        buffer.asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("embedding.cache.requests")
+                .description("Embedding cache lookups by tier and result")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
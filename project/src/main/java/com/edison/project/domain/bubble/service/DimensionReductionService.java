@@ -2,7 +2,8 @@ package com.edison.project.domain.bubble.service;
 
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
-import smile.feature.extraction.PCA;
+
+import java.time.LocalDateTime;
 
 @Service
 @Slf4j
@@ -11,57 +12,61 @@ public class DimensionReductionService {
     private static final int EXPECTED_EMBEDDING_DIM = 1536; // OpenAI text-embedding-3-small
 
     /**
-     * PCA를 사용하여 고차원 벡터를 2차원으로 축소 (Smile 라이브러리)
+     * PCA 학습 결과: 재사용 가능한 투영 모델 + 학습 데이터의 2차원 좌표
+     * 벡터가 3개 미만이거나 학습에 실패하면 model은 null
+     */
+    public record ProjectionResult(ProjectionModel model, double[][] coordinates) {}
+
+    /**
+     * PCA를 사용하여 고차원 벡터를 2차원으로 축소
      */
     public double[][] reduceTo2D(float[][] vectors) {
+        return fit(vectors).coordinates();
+    }
+
+    /**
+     * PCA를 학습하고 평균/기저를 투영 모델로 보관하여 이후 새 벡터를 재학습 없이 투영할 수 있게 함
+     * 벡터를 하나의 연속 float 버퍼로 모아 FloatPcaEngine에 넘기므로 double 행렬은 만들지 않는다.
+     */
+    public ProjectionResult fit(float[][] vectors) {
         if (vectors == null || vectors.length == 0) {
-            return new double[0][2];
+            return new ProjectionResult(null, new double[0][2]);
         }
         if (vectors.length == 1) {
-            return new double[][]{{0.0, 0.0}};
+            return new ProjectionResult(null, new double[][]{{0.0, 0.0}});
         }
         if (vectors.length == 2) {
-            return new double[][]{{-0.5, 0.0}, {0.5, 0.0}};
+            return new ProjectionResult(null, new double[][]{{-0.5, 0.0}, {0.5, 0.0}});
         }
 
         try {
-            double[][] data = toDoubleArray(vectors);
+            int n = vectors.length;
+            int d = vectors[0].length;
+            float[] data = toContiguousBuffer(vectors, d);
 
-            // Smile PCA: 2차원으로 축소
-            PCA pca = PCA.fit(data).getProjection(2);
-            double[][] result = new double[data.length][2];
-
-            for (int i = 0; i < data.length; i++) {
-                result[i] = pca.apply(data[i]);
-            }
-
-            return result;
+            FloatPcaEngine.Result pca = FloatPcaEngine.fit(data, n, d);
+            ProjectionModel model = new ProjectionModel(pca.mean(), pca.basis(), n, pca.explainedRatio(), LocalDateTime.now());
+            return new ProjectionResult(model, pca.coordinates());
 
         } catch (Exception e) {
             log.error("PCA reduction failed, falling back to random projection", e);
-            return createRandomProjection(vectors.length);
+            return new ProjectionResult(null, createRandomProjection(vectors.length));
         }
     }
 
-    private double[][] toDoubleArray(float[][] vectors) {
-        if (vectors == null || vectors.length == 0) {
-            return new double[0][0];
-        }
-
-        int n = vectors.length;
-        int d = vectors[0].length;
-
-        // 간단한 검증만 추가 (선택사항)
+    private float[] toContiguousBuffer(float[][] vectors, int d) {
         if (d != EXPECTED_EMBEDDING_DIM) {
             log.warn("Unexpected embedding dimension: expected {}, got {}",
                     EXPECTED_EMBEDDING_DIM, d);
         }
 
-        double[][] data = new double[n][d];
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < d; j++) {
-                data[i][j] = vectors[i][j];
+        float[] data = new float[vectors.length * d];
+        for (int i = 0; i < vectors.length; i++) {
+            if (vectors[i].length != d) {
+                throw new IllegalArgumentException("Inconsistent embedding dimension at row " + i
+                        + ": expected " + d + ", got " + vectors[i].length);
             }
+            System.arraycopy(vectors[i], 0, data, i * d, d);
         }
         return data;
     }
@@ -74,4 +79,4 @@ public class DimensionReductionService {
         }
         return projection;
     }
-}
\ No newline at end of file
+}
@@ -16,4 +16,10 @@ public interface EmbeddingService {
      * @return PGvector 배열
      */
     PGvector[] embedBatch(String[] texts);
+
+    /**
+     * 임베딩에 사용하는 모델 이름 (캐시 키 구분용)
+     * @return 모델 이름
+     */
+    String getModelName();
 }
@@ -0,0 +1,233 @@
+package com.edison.project.domain.bubble.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 연속된 float 버퍼(row-major, n x d) 위에서 상위 2개 주성분을 구하는 PCA 엔진
+ * 공분산 행렬이나 double[n][d] 복사본을 만들지 않고, 블록 거듭제곱법(subspace iteration)으로
+ * C·V = Xcᵀ(Xc·V) 를 데이터 두 번 훑기로 계산한다. 추가 메모리는 O(n + d).
+ */
+public final class FloatPcaEngine {
+
+    private static final int COMPONENTS = 2;
+    private static final int DEFAULT_MAX_ITERATIONS = 100;
+    private static final double DEFAULT_TOLERANCE = 1e-6;
+    private static final long SEED = 42L;
+
+    /**
+     * @param mean           평균 벡터 (d)
+     * @param basis          단위 주성분 2개 (2 x d), 분산이 큰 순서
+     * @param coordinates    학습 데이터의 2차원 좌표 (n x 2)
+     * @param explainedRatio 2개 성분이 설명한 에너지 비율
+     * @param iterations     수렴까지 걸린 반복 횟수
+     */
+    public record Result(double[] mean, double[][] basis, double[][] coordinates,
+                         double explainedRatio, int iterations) {}
+
+    private FloatPcaEngine() {
+    }
+
+    public static Result fit(float[] data, int n, int d) {
+        return fit(data, n, d, DEFAULT_MAX_ITERATIONS, DEFAULT_TOLERANCE);
+    }
+
+    public static Result fit(float[] data, int n, int d, int maxIterations, double tolerance) {
+        if (n < 1 || d < 1 || data.length < (long) n * d) {
+            throw new IllegalArgumentException("Invalid PCA input: n=" + n + ", d=" + d + ", length=" + data.length);
+        }
+
+        double[] mean = computeMean(data, n, d);
+        double[][] basis = initialBasis(d);
+        double[][] next = new double[COMPONENTS][d];
+
+        int iteration = 0;
+        while (iteration < maxIterations) {
+            iteration++;
+            multiplyCovariance(data, n, d, mean, basis, next);
+            orthonormalize(next, basis);
+
+            double change = 0.0;
+            for (int k = 0; k < COMPONENTS; k++) {
+                change = Math.max(change, 1.0 - Math.abs(dot(basis[k], next[k])));
+            }
+
+            double[][] swap = basis;
+            basis = next;
+            next = swap;
+
+            if (change < tolerance) {
+                break;
+            }
+        }
+        alignSigns(basis);
+
+        // 최종 좌표와 설명력 계산
+        double[][] coordinates = new double[n][COMPONENTS];
+        double meanDot0 = dot(mean, basis[0]);
+        double meanDot1 = dot(mean, basis[1]);
+        double explainedEnergy = 0.0;
+        double totalEnergy = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            int offset = i * d;
+            double x = 0.0;
+            double y = 0.0;
+            double norm = 0.0;
+            for (int j = 0; j < d; j++) {
+                float v = data[offset + j];
+                x += v * basis[0][j];
+                y += v * basis[1][j];
+                double centered = v - mean[j];
+                norm += centered * centered;
+            }
+            x -= meanDot0;
+            y -= meanDot1;
+            coordinates[i][0] = x;
+            coordinates[i][1] = y;
+            explainedEnergy += x * x + y * y;
+            totalEnergy += norm;
+        }
+
+        double explainedRatio = totalEnergy > 0.0 ? Math.min(1.0, explainedEnergy / totalEnergy) : 1.0;
+        return new Result(mean, basis, coordinates, explainedRatio, iteration);
+    }
+
+    private static double[] computeMean(float[] data, int n, int d) {
+        double[] mean = new double[d];
+        for (int i = 0; i < n; i++) {
+            int offset = i * d;
+            for (int j = 0; j < d; j++) {
+                mean[j] += data[offset + j];
+            }
+        }
+        for (int j = 0; j < d; j++) {
+            mean[j] /= n;
+        }
+        return mean;
+    }
+
+    /**
+     * out = Xcᵀ(Xc·V), Xc = X - 1·meanᵀ 를 만들지 않고 계산
+     * s_ik = x_i·v_k - mean·v_k,  out_k = Σ s_ik·x_i - (Σ s_ik)·mean
+     */
+    private static void multiplyCovariance(float[] data, int n, int d, double[] mean,
+                                           double[][] basis, double[][] out) {
+        double[] v0 = basis[0];
+        double[] v1 = basis[1];
+        double[] o0 = out[0];
+        double[] o1 = out[1];
+        Arrays.fill(o0, 0.0);
+        Arrays.fill(o1, 0.0);
+
+        double meanDot0 = dot(mean, v0);
+        double meanDot1 = dot(mean, v1);
+        double sum0 = 0.0;
+        double sum1 = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            int offset = i * d;
+            double s0 = 0.0;
+            double s1 = 0.0;
+            for (int j = 0; j < d; j++) {
+                float v = data[offset + j];
+                s0 += v * v0[j];
+                s1 += v * v1[j];
+            }
+            s0 -= meanDot0;
+            s1 -= meanDot1;
+            for (int j = 0; j < d; j++) {
+                float v = data[offset + j];
+                o0[j] += s0 * v;
+                o1[j] += s1 * v;
+            }
+            sum0 += s0;
+            sum1 += s1;
+        }
+
+        for (int j = 0; j < d; j++) {
+            o0[j] -= sum0 * mean[j];
+            o1[j] -= sum1 * mean[j];
+        }
+    }
+
+    /**
+     * Gram-Schmidt 정규직교화, 영벡터가 되면(분산이 없는 방향) 이전 벡터를 유지
+     */
+    private static void orthonormalize(double[][] vectors, double[][] previous) {
+        if (!normalize(vectors[0])) {
+            System.arraycopy(previous[0], 0, vectors[0], 0, vectors[0].length);
+        }
+
+        double projection = dot(vectors[0], vectors[1]);
+        for (int j = 0; j < vectors[1].length; j++) {
+            vectors[1][j] -= projection * vectors[0][j];
+        }
+        if (!normalize(vectors[1])) {
+            System.arraycopy(previous[1], 0, vectors[1], 0, vectors[1].length);
+            projection = dot(vectors[0], vectors[1]);
+            for (int j = 0; j < vectors[1].length; j++) {
+                vectors[1][j] -= projection * vectors[0][j];
+            }
+            normalize(vectors[1]);
+        }
+    }
+
+    private static boolean normalize(double[] v) {
+        double norm = Math.sqrt(dot(v, v));
+        if (norm < 1e-12) {
+            return false;
+        }
+        for (int j = 0; j < v.length; j++) {
+            v[j] /= norm;
+        }
+        return true;
+    }
+
+    // 고정 시드로 초기화해 같은 입력이면 항상 같은 기저를 얻음
+    private static double[][] initialBasis(int d) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[][] basis = new double[COMPONENTS][d];
+        for (int k = 0; k < COMPONENTS; k++) {
+            for (int j = 0; j < d; j++) {
+                basis[k][j] = random.nextDouble() - 0.5;
+            }
+        }
+        if (d == 1) {
+            // 1차원이면 두 번째 성분은 의미가 없으므로 0으로 둠
+            basis[0][0] = 1.0;
+            basis[1][0] = 0.0;
+            return basis;
+        }
+        double[][] previous = new double[COMPONENTS][d];
+        previous[0][0] = 1.0;
+        previous[1][1] = 1.0;
+        orthonormalize(basis, previous);
+        return basis;
+    }
+
+    // 부호는 임의이므로 절댓값이 가장 큰 원소가 양수가 되도록 고정
+    private static void alignSigns(double[][] basis) {
+        for (double[] v : basis) {
+            int maxIndex = 0;
+            for (int j = 1; j < v.length; j++) {
+                if (Math.abs(v[j]) > Math.abs(v[maxIndex])) {
+                    maxIndex = j;
+                }
+            }
+            if (v[maxIndex] < 0) {
+                for (int j = 0; j < v.length; j++) {
+                    v[j] = -v[j];
+                }
+            }
+        }
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int j = 0; j < a.length; j++) {
+            sum += a[j] * b[j];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,389 @@
+package com.edison.project.domain.bubble.service;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * PCA 좌표를 초기값으로 백링크 그래프 위에서 force-directed 배치를 다듬는 엔진
+ * 반발력은 매 반복 쿼드트리를 새로 만들어 Barnes–Hut 근사(O(n log n))로 계산하고,
+ * 링크 인력과 초기 좌표로 당기는 앵커 힘은 노드별 인접 배열(CSR)로 합산한다.
+ * 노드별 힘 계산은 서로 독립이라 노드가 많으면 병렬로 처리한다.
+ */
+public final class ForceLayoutEngine {
+
+    private static final int PARALLEL_THRESHOLD = 2000;
+    private static final double INITIAL_TEMPERATURE = 0.1;    // 정규화 좌표(RMS 반지름 1) 기준 최대 이동 거리
+    private static final double MIN_DISTANCE_SQUARED = 1e-12;
+
+    /**
+     * @param maxIterations 최대 반복 횟수
+     * @param timeBudgetMs  이 시간을 넘기면 현재 좌표로 종료
+     * @param theta         Barnes–Hut 근사 기준 (셀 크기 / 거리), 클수록 빠르고 거칠다
+     * @param anchor        초기(PCA) 좌표로 당기는 힘의 세기, 링크 하나의 인력이 1
+     * @param tolerance     한 반복의 최대 이동이 이보다 작으면 수렴으로 보고 종료
+     */
+    public record Options(int maxIterations, long timeBudgetMs, double theta, double anchor, double tolerance) {}
+
+    /**
+     * @param coordinates 배치 결과 (n x 2), 입력 좌표계와 같은 스케일
+     * @param iterations  실제 수행한 반복 횟수
+     * @param converged   tolerance로 종료했는지 (false면 반복/시간 예산 소진)
+     */
+    public record Result(double[][] coordinates, int iterations, boolean converged) {}
+
+    private ForceLayoutEngine() {
+    }
+
+    /**
+     * @param seeds   초기 좌표 (n x 2), 보통 PCA 결과
+     * @param sources 링크 시작 노드 인덱스
+     * @param targets 링크 대상 노드 인덱스 (sources와 같은 길이)
+     */
+    public static Result layout(double[][] seeds, int[] sources, int[] targets, Options options) {
+        int n = seeds.length;
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException("Edge arrays differ in length: " + sources.length + " != " + targets.length);
+        }
+        if (n < 2 || sources.length == 0) {
+            return new Result(copy(seeds), 0, true);
+        }
+
+        // 정규화: 중심 0, RMS 반지름 1
+        double centerX = 0.0;
+        double centerY = 0.0;
+        for (double[] seed : seeds) {
+            centerX += seed[0];
+            centerY += seed[1];
+        }
+        centerX /= n;
+        centerY /= n;
+        double radius = 0.0;
+        for (double[] seed : seeds) {
+            radius += square(seed[0] - centerX) + square(seed[1] - centerY);
+        }
+        radius = Math.sqrt(radius / n);
+        if (radius == 0.0) {
+            radius = 1.0;
+        }
+
+        double[] anchorX = new double[n];
+        double[] anchorY = new double[n];
+        for (int i = 0; i < n; i++) {
+            anchorX[i] = (seeds[i][0] - centerX) / radius;
+            anchorY[i] = (seeds[i][1] - centerY) / radius;
+        }
+        double[] x = anchorX.clone();
+        double[] y = anchorY.clone();
+        separateDuplicates(x, y);
+
+        int[][] adjacency = toAdjacency(n, sources, targets);
+        int[] offsets = adjacency[0];
+        int[] neighbors = adjacency[1];
+
+        // 이상적인 링크 길이: 반지름 1 원 안에 n개를 고르게 놓았을 때의 간격
+        double k = Math.sqrt(Math.PI / n);
+        double k2 = k * k;
+        double theta2 = options.theta() * options.theta();
+        double[] dx = new double[n];
+        double[] dy = new double[n];
+        QuadTree tree = new QuadTree(n);
+
+        long startedAt = System.nanoTime();
+        long budgetNanos = Math.max(1L, options.timeBudgetMs() * 1_000_000L);
+        int iteration = 0;
+        boolean converged = false;
+        while (iteration < options.maxIterations()) {
+            // 반복/시간 예산 중 먼저 닳는 쪽 기준으로 식혀서, 시간으로 끊겨도 마지막 반복은 작게 움직인다
+            double progress = Math.max((double) iteration / options.maxIterations(),
+                    (double) (System.nanoTime() - startedAt) / budgetNanos);
+            if (progress >= 1.0) {
+                break;
+            }
+            double temperature = INITIAL_TEMPERATURE * (1.0 - progress);
+            iteration++;
+            tree.build(x, y);
+
+            IntStream nodes = IntStream.range(0, n);
+            if (n >= PARALLEL_THRESHOLD) {
+                nodes = nodes.parallel();
+            }
+            nodes.forEach(i -> {
+                double[] force = tree.repulsion(i, x[i], y[i], k2, theta2);
+                double fx = force[0];
+                double fy = force[1];
+
+                // 링크 인력 d²/k
+                for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+                    int j = neighbors[e];
+                    double ex = x[i] - x[j];
+                    double ey = y[i] - y[j];
+                    double distance = Math.sqrt(ex * ex + ey * ey);
+                    fx -= ex * distance / k;
+                    fy -= ey * distance / k;
+                }
+
+                // 초기 좌표로 당기는 힘 (의미 배치 유지)
+                double ax = x[i] - anchorX[i];
+                double ay = y[i] - anchorY[i];
+                double drift = Math.sqrt(ax * ax + ay * ay);
+                fx -= options.anchor() * ax * drift / k;
+                fy -= options.anchor() * ay * drift / k;
+
+                dx[i] = fx;
+                dy[i] = fy;
+            });
+
+            // 온도만큼만 이동 (반복이 진행될수록 감소)
+            double maxMove = 0.0;
+            for (int i = 0; i < n; i++) {
+                double length = Math.sqrt(dx[i] * dx[i] + dy[i] * dy[i]);
+                if (length == 0.0) {
+                    continue;
+                }
+                double move = Math.min(length, temperature);
+                x[i] += dx[i] / length * move;
+                y[i] += dy[i] / length * move;
+                maxMove = Math.max(maxMove, move);
+            }
+            if (maxMove < options.tolerance()) {
+                converged = true;
+                break;
+            }
+        }
+
+        double[][] coordinates = new double[n][2];
+        for (int i = 0; i < n; i++) {
+            coordinates[i][0] = centerX + x[i] * radius;
+            coordinates[i][1] = centerY + y[i] * radius;
+        }
+        return new Result(coordinates, iteration, converged);
+    }
+
+    // 무방향 인접 배열 (offsets[i]..offsets[i+1] 구간이 i의 이웃), 범위 밖 인덱스와 자기 링크는 무시
+    private static int[][] toAdjacency(int n, int[] sources, int[] targets) {
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < sources.length; e++) {
+            if (isValidEdge(n, sources[e], targets[e])) {
+                offsets[sources[e] + 1]++;
+                offsets[targets[e] + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] neighbors = new int[offsets[n]];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < sources.length; e++) {
+            if (isValidEdge(n, sources[e], targets[e])) {
+                neighbors[fill[sources[e]]++] = targets[e];
+                neighbors[fill[targets[e]]++] = sources[e];
+            }
+        }
+        return new int[][]{offsets, neighbors};
+    }
+
+    private static boolean isValidEdge(int n, int source, int target) {
+        return source != target && source >= 0 && target >= 0 && source < n && target < n;
+    }
+
+    // 같은 좌표에 겹친 노드는 반발력 방향이 없으므로 인덱스 기반으로 조금씩 벌려 둔다
+    private static void separateDuplicates(double[] x, double[] y) {
+        Integer[] order = new Integer[x.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> x[a] != x[b] ? Double.compare(x[a], x[b]) : Double.compare(y[a], y[b]));
+        for (int i = 1; i < order.length; i++) {
+            int previous = order[i - 1];
+            int current = order[i];
+            if (x[current] == x[previous] && y[current] == y[previous]) {
+                double angle = current * 2.399963;  // golden angle
+                x[current] += 1e-4 * Math.cos(angle);
+                y[current] += 1e-4 * Math.sin(angle);
+            }
+        }
+    }
+
+    private static double[][] copy(double[][] coordinates) {
+        double[][] copied = new double[coordinates.length][];
+        for (int i = 0; i < coordinates.length; i++) {
+            copied[i] = coordinates[i].clone();
+        }
+        return copied;
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    /**
+     * 배열 기반 쿼드트리, 노드마다 질량과 질량 중심 합을 보관
+     * 최대 깊이에 닿으면 더 나누지 않고 잎에 질량만 합친다.
+     */
+    private static final class QuadTree {
+
+        private static final int MAX_DEPTH = 40;
+        private static final int EMPTY = -1;
+        private static final int INTERNAL = -2;
+
+        private double[] sumX;
+        private double[] sumY;
+        private int[] mass;
+        private double[] minX;
+        private double[] minY;
+        private double[] size;
+        private int[] body;
+        private int[] firstChild;
+        private int count;
+
+        QuadTree(int n) {
+            allocate(Math.max(16, 4 * n));
+        }
+
+        void build(double[] x, double[] y) {
+            double lowX = Double.POSITIVE_INFINITY;
+            double lowY = Double.POSITIVE_INFINITY;
+            double highX = Double.NEGATIVE_INFINITY;
+            double highY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < x.length; i++) {
+                lowX = Math.min(lowX, x[i]);
+                lowY = Math.min(lowY, y[i]);
+                highX = Math.max(highX, x[i]);
+                highY = Math.max(highY, y[i]);
+            }
+            double extent = Math.max(highX - lowX, highY - lowY) * 1.0001 + 1e-9;
+
+            count = 0;
+            newNode(lowX, lowY, extent);
+            for (int i = 0; i < x.length; i++) {
+                insert(i, x, y);
+            }
+        }
+
+        /**
+         * 노드 i가 받는 반발력 합 (k²/d, 멀리 있는 셀은 질량 중심 하나로 근사)
+         */
+        double[] repulsion(int i, double xi, double yi, double k2, double theta2) {
+            double fx = 0.0;
+            double fy = 0.0;
+            int[] stack = new int[MAX_DEPTH * 4 + 4];
+            int top = 0;
+            stack[top++] = 0;
+            while (top > 0) {
+                int node = stack[--top];
+                if (mass[node] == 0 || (body[node] == i && mass[node] == 1)) {
+                    continue;
+                }
+                double cx = sumX[node] / mass[node];
+                double cy = sumY[node] / mass[node];
+                double ex = xi - cx;
+                double ey = yi - cy;
+                double d2 = ex * ex + ey * ey;
+
+                if (body[node] != INTERNAL || size[node] * size[node] < theta2 * d2) {
+                    if (d2 > MIN_DISTANCE_SQUARED) {
+                        double f = k2 * mass[node] / d2;
+                        fx += ex * f;
+                        fy += ey * f;
+                    }
+                    continue;
+                }
+                int child = firstChild[node];
+                for (int q = 0; q < 4; q++) {
+                    stack[top++] = child + q;
+                }
+            }
+            return new double[]{fx, fy};
+        }
+
+        private void insert(int i, double[] x, double[] y) {
+            int node = 0;
+            int depth = 0;
+            while (true) {
+                if (body[node] == EMPTY && mass[node] == 0) {
+                    body[node] = i;
+                    addMass(node, x[i], y[i]);
+                    return;
+                }
+                if (body[node] != INTERNAL) {
+                    if (depth >= MAX_DEPTH) {
+                        addMass(node, x[i], y[i]);
+                        return;
+                    }
+                    // 잎 분할: 기존 노드를 자식으로 내린다
+                    int existing = body[node];
+                    split(node);
+                    int child = childFor(node, x[existing], y[existing]);
+                    body[child] = existing;
+                    addMass(child, x[existing], y[existing]);
+                }
+                addMass(node, x[i], y[i]);
+                node = childFor(node, x[i], y[i]);
+                depth++;
+            }
+        }
+
+        private void split(int node) {
+            double half = size[node] / 2;
+            double left = minX[node];
+            double bottom = minY[node];
+            int child = newNode(left, bottom, half);
+            newNode(left + half, bottom, half);
+            newNode(left, bottom + half, half);
+            newNode(left + half, bottom + half, half);
+            firstChild[node] = child;
+            body[node] = INTERNAL;
+        }
+
+        private int childFor(int node, double px, double py) {
+            double half = size[node] / 2;
+            int quadrant = (px >= minX[node] + half ? 1 : 0) + (py >= minY[node] + half ? 2 : 0);
+            return firstChild[node] + quadrant;
+        }
+
+        private void addMass(int node, double px, double py) {
+            sumX[node] += px;
+            sumY[node] += py;
+            mass[node]++;
+        }
+
+        private int newNode(double left, double bottom, double extent) {
+            if (count == body.length) {
+                grow();
+            }
+            int node = count++;
+            sumX[node] = 0.0;
+            sumY[node] = 0.0;
+            mass[node] = 0;
+            minX[node] = left;
+            minY[node] = bottom;
+            size[node] = extent;
+            body[node] = EMPTY;
+            firstChild[node] = EMPTY;
+            return node;
+        }
+
+        private void allocate(int capacity) {
+            sumX = new double[capacity];
+            sumY = new double[capacity];
+            mass = new int[capacity];
+            minX = new double[capacity];
+            minY = new double[capacity];
+            size = new double[capacity];
+            body = new int[capacity];
+            firstChild = new int[capacity];
+        }
+
+        private void grow() {
+            int capacity = body.length * 2;
+            sumX = Arrays.copyOf(sumX, capacity);
+            sumY = Arrays.copyOf(sumY, capacity);
+            mass = Arrays.copyOf(mass, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            size = Arrays.copyOf(size, capacity);
+            body = Arrays.copyOf(body, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+        }
+    }
+}
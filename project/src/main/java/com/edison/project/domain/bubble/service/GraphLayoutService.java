@@ -0,0 +1,59 @@
+package com.edison.project.domain.bubble.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * PCA 좌표를 백링크 그래프로 다듬는 배치 단계
+ * 의미(임베딩)상 가까운 버블과 직접 링크된 버블이 함께 모이도록 ForceLayoutEngine으로 좌표를 조정한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GraphLayoutService {
+
+    private final BubbleGraphService bubbleGraphService;
+
+    @Value("${bubble.layout.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bubble.layout.max-iterations:300}")
+    private int maxIterations;
+
+    @Value("${bubble.layout.time-budget-ms:2000}")
+    private long timeBudgetMs;
+
+    @Value("${bubble.layout.theta:0.8}")
+    private double theta;
+
+    // 초기(PCA) 좌표를 지키려는 힘, 0이면 링크만으로 배치
+    @Value("${bubble.layout.anchor-strength:0.5}")
+    private double anchorStrength;
+
+    @Value("${bubble.layout.tolerance:0.0001}")
+    private double tolerance;
+
+    /**
+     * bubbleIds[i]의 초기 좌표가 seeds[i]일 때 링크를 반영한 좌표 반환, 링크가 없으면 seeds 그대로
+     */
+    public double[][] refine(Long memberId, long[] bubbleIds, double[][] seeds) {
+        if (!enabled || bubbleIds.length < 2) {
+            return seeds;
+        }
+
+        int[][] edges = bubbleGraphService.getGraph(memberId).edgesAmong(bubbleIds);
+        if (edges[0].length == 0) {
+            return seeds;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        ForceLayoutEngine.Result result = ForceLayoutEngine.layout(seeds, edges[0], edges[1],
+                new ForceLayoutEngine.Options(maxIterations, timeBudgetMs, theta, anchorStrength, tolerance));
+        log.info("Graph layout of member [{}]: {} bubbles, {} links, {} iterations, converged={}, {}ms",
+                memberId, bubbleIds.length, edges[0].length, result.iterations(), result.converged(),
+                System.currentTimeMillis() - startedAt);
+        return result.coordinates();
+    }
+}
@@ -0,0 +1,218 @@
+package com.edison.project.domain.bubble.service;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import com.pgvector.PGvector;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * ONNX Runtime으로 문장 임베딩 모델(예: all-MiniLM-L6-v2)을 JVM 안에서 CPU로 실행하는 EmbeddingService
+ * 토큰 임베딩을 attention mask로 평균 풀링한 뒤 L2 정규화하고, bubble.embedding 컬럼 차원(1536)에 맞게 0으로 채운다.
+ * 0 패딩은 코사인 거리에 영향을 주지 않지만, OpenAI 임베딩과는 같은 공간이 아니므로 제공자를 바꾸면 전체 재벡터화가 필요하다.
+ */
+@Service
+@Qualifier("embeddingProvider")
+@ConditionalOnProperty(name = "embedding.provider", havingValue = "local")
+@Slf4j
+public class LocalOnnxEmbeddingService implements EmbeddingService {
+
+    static final int EMBEDDING_DIM = 1536;
+
+    private final String modelName;
+    private final int batchSize;
+    private final OrtEnvironment environment;
+    private final OrtSession session;
+    private final HuggingFaceTokenizer tokenizer;
+    private final boolean needsTokenTypeIds;
+
+    // 세션 하나가 코어 수만큼 스레드를 쓰므로 동시 실행은 1개로 제한해 과다 구독을 막는다
+    private final Semaphore inferencePermit = new Semaphore(1, true);
+
+    public LocalOnnxEmbeddingService(@Value("${embedding.local.model-name:all-MiniLM-L6-v2}") String modelName,
+                                     @Value("${embedding.local.model-path}") String modelPath,
+                                     @Value("${embedding.local.tokenizer-path}") String tokenizerPath,
+                                     @Value("${embedding.local.max-length:256}") int maxLength,
+                                     @Value("${embedding.local.batch-size:32}") int batchSize,
+                                     @Value("${embedding.local.intra-op-threads:0}") int intraOpThreads) throws OrtException, IOException {
+        Path model = Path.of(modelPath);
+        Path tokenizerFile = Path.of(tokenizerPath);
+        if (!Files.isReadable(model) || !Files.isReadable(tokenizerFile)) {
+            throw new IllegalStateException("Local embedding model files not found: model=" + model + ", tokenizer=" + tokenizerFile);
+        }
+
+        int threads = intraOpThreads > 0 ? intraOpThreads : Runtime.getRuntime().availableProcessors();
+
+        this.modelName = modelName;
+        this.batchSize = Math.max(1, batchSize);
+        this.environment = OrtEnvironment.getEnvironment();
+
+        OrtSession.SessionOptions options = new OrtSession.SessionOptions();
+        options.setIntraOpNumThreads(threads);
+        options.setInterOpNumThreads(1);
+        options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+        this.session = environment.createSession(model.toString(), options);
+        this.needsTokenTypeIds = session.getInputNames().contains("token_type_ids");
+
+        this.tokenizer = HuggingFaceTokenizer.builder()
+                .optTokenizerPath(tokenizerFile)
+                .optMaxLength(maxLength)
+                .optTruncation(true)
+                .optPadding(true)
+                .build();
+
+        log.info("Local embedding model [{}] loaded with {} intra-op threads", modelName, threads);
+    }
+
+    @Override
+    public PGvector embed(String text) {
+        return embedBatch(new String[]{text})[0];
+    }
+
+    /**
+     * batch-size 단위로 나누어 추론, 결과는 입력 순서를 유지
+     */
+    @Override
+    public PGvector[] embedBatch(String[] texts) {
+        PGvector[] results = new PGvector[texts.length];
+
+        List<Integer> chunk = new ArrayList<>(batchSize);
+        for (int i = 0; i < texts.length; i++) {
+            if (texts[i] == null || texts[i].isBlank()) {
+                results[i] = new PGvector(new float[EMBEDDING_DIM]);
+                continue;
+            }
+            chunk.add(i);
+            if (chunk.size() == batchSize) {
+                embedChunk(texts, chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            embedChunk(texts, chunk, results);
+        }
+        return results;
+    }
+
+    @Override
+    public String getModelName() {
+        return "local:" + modelName;
+    }
+
+    private void embedChunk(String[] texts, List<Integer> chunk, PGvector[] results) {
+        String[] inputs = new String[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            inputs[i] = texts[chunk.get(i)];
+        }
+
+        Encoding[] encodings = tokenizer.batchEncode(inputs);
+        int batch = encodings.length;
+        int sequenceLength = encodings[0].getIds().length;
+
+        long[] inputIds = new long[batch * sequenceLength];
+        long[] attentionMask = new long[batch * sequenceLength];
+        long[] tokenTypeIds = new long[batch * sequenceLength];
+        for (int b = 0; b < batch; b++) {
+            System.arraycopy(encodings[b].getIds(), 0, inputIds, b * sequenceLength, sequenceLength);
+            System.arraycopy(encodings[b].getAttentionMask(), 0, attentionMask, b * sequenceLength, sequenceLength);
+            System.arraycopy(encodings[b].getTypeIds(), 0, tokenTypeIds, b * sequenceLength, sequenceLength);
+        }
+
+        long[] shape = {batch, sequenceLength};
+        Map<String, OnnxTensor> feed = new HashMap<>();
+        try {
+            feed.put("input_ids", OnnxTensor.createTensor(environment, LongBuffer.wrap(inputIds), shape));
+            feed.put("attention_mask", OnnxTensor.createTensor(environment, LongBuffer.wrap(attentionMask), shape));
+            if (needsTokenTypeIds) {
+                feed.put("token_type_ids", OnnxTensor.createTensor(environment, LongBuffer.wrap(tokenTypeIds), shape));
+            }
+
+            inferencePermit.acquireUninterruptibly();
+            try (OrtSession.Result output = session.run(feed)) {
+                // last_hidden_state: [batch, sequence, hidden]
+                OnnxTensor hiddenState = (OnnxTensor) output.get(0);
+                long[] outputShape = hiddenState.getInfo().getShape();
+                float[][] pooled = pool(hiddenState.getFloatBuffer(), attentionMask, batch, sequenceLength, (int) outputShape[2]);
+                for (int b = 0; b < batch; b++) {
+                    results[chunk.get(b)] = new PGvector(pooled[b]);
+                }
+            } finally {
+                inferencePermit.release();
+            }
+        } catch (OrtException e) {
+            throw new IllegalStateException("Local embedding inference failed", e);
+        } finally {
+            feed.values().forEach(OnnxTensor::close);
+        }
+    }
+
+    /**
+     * last_hidden_state [batch, sequence, hidden]를 문장 벡터 batch개로 변환
+     */
+    static float[][] pool(FloatBuffer values, long[] attentionMask, int batch, int sequenceLength, int hidden) {
+        if (hidden > EMBEDDING_DIM) {
+            throw new IllegalStateException("Model hidden size " + hidden + " exceeds embedding column dimension " + EMBEDDING_DIM);
+        }
+        float[][] pooled = new float[batch][];
+        for (int b = 0; b < batch; b++) {
+            pooled[b] = meanPool(values, attentionMask, b, sequenceLength, hidden);
+        }
+        return pooled;
+    }
+
+    /**
+     * attention mask 평균 풀링 + L2 정규화, EMBEDDING_DIM까지 0으로 채움
+     */
+    private static float[] meanPool(FloatBuffer values, long[] attentionMask, int b, int sequenceLength, int hidden) {
+        double[] sum = new double[hidden];
+        int tokens = 0;
+        for (int t = 0; t < sequenceLength; t++) {
+            if (attentionMask[b * sequenceLength + t] == 0) {
+                continue;
+            }
+            int offset = (b * sequenceLength + t) * hidden;
+            for (int h = 0; h < hidden; h++) {
+                sum[h] += values.get(offset + h);
+            }
+            tokens++;
+        }
+
+        double norm = 0.0;
+        for (int h = 0; h < hidden; h++) {
+            sum[h] /= Math.max(tokens, 1);
+            norm += sum[h] * sum[h];
+        }
+        norm = Math.sqrt(norm);
+
+        float[] vector = new float[EMBEDDING_DIM];
+        for (int h = 0; h < hidden; h++) {
+            vector[h] = norm > 0.0 ? (float) (sum[h] / norm) : 0.0f;
+        }
+        return vector;
+    }
+
+    @PreDestroy
+    public void close() throws OrtException {
+        tokenizer.close();
+        session.close();
+    }
+}
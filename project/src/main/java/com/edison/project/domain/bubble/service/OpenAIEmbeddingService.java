@@ -1,17 +1,26 @@
 package com.edison.project.domain.bubble.service;
 
+import com.edison.project.common.exception.GeneralException;
+import com.edison.project.common.status.ErrorStatus;
 import com.pgvector.PGvector;
 import com.google.gson.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Service
+@Qualifier("embeddingProvider")
+@ConditionalOnProperty(name = "embedding.provider", havingValue = "openai", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class OpenAIEmbeddingService implements EmbeddingService {
@@ -19,82 +28,289 @@ public class OpenAIEmbeddingService implements EmbeddingService {
     @Value("${openai.secret_key}")
     private String openaiApiKey;
 
+    // 한 번의 요청에 담을 최대 입력 개수 (API 제한: 2048)
+    @Value("${openai.embedding.max-batch-size:256}")
+    private int maxBatchSize;
+
+    // 한 번의 요청에 담을 추정 토큰(UTF-8 바이트) 합계 (API 제한: 300,000 토큰)
+    @Value("${openai.embedding.max-batch-tokens:200000}")
+    private int maxBatchTokens;
+
+    // 입력 하나의 추정 토큰(UTF-8 바이트) 상한 (API 제한: 8,191 토큰), 넘으면 잘라서 보낸다
+    @Value("${openai.embedding.max-input-tokens:8000}")
+    private int maxInputTokens;
+
+    @Value("${openai.embedding.max-retries:3}")
+    private int maxRetries;
+
     // Best Practice: Reuse the client
-    private final OkHttpClient httpClient = new OkHttpClient();
+    private final OkHttpClient httpClient = new OkHttpClient.Builder()
+            .connectTimeout(10, TimeUnit.SECONDS)
+            .readTimeout(60, TimeUnit.SECONDS)
+            .writeTimeout(30, TimeUnit.SECONDS)
+            .build();
     private final Gson gson = new Gson();
 
     private static final String OPENAI_API_URL = "https://api.openai.com/v1/embeddings";
     private static final String EMBEDDING_MODEL = "text-embedding-3-small";
+    private static final int EMBEDDING_DIM = 1536;
+    private static final long RETRY_BACKOFF_MILLIS = 500L;
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
 
     @Override
     public PGvector embed(String text) {
-        try {
+        if (text == null || text.trim().isEmpty()) {
+            log.warn("Empty text provided for embedding");
+            return createZeroVector();
+        }
+        return embedBatch(new String[]{text})[0];
+    }
+
+    /**
+     * 여러 텍스트를 입력 개수/토큰 예산 단위의 청크로 나누어 청크당 한 번의 요청으로 임베딩
+     * 결과는 입력 순서를 그대로 유지하며, 실패한 청크만 재시도한다.
+     * 입력 하나 때문에 청크 전체가 거절(400/413)되면 청크를 반씩 나눠 다시 보내 그 입력만 실패로 남긴다.
+     * 키/권한/모델 오류(401/403/404)는 어떤 입력으로도 성공하지 않으므로 EMBEDDING_UNAVAILABLE로 호출 전체를 실패시킨다.
+     */
+    @Override
+    public PGvector[] embedBatch(String[] texts) {
+        PGvector[] results = new PGvector[texts.length];
+        // 잘라낸 입력이 있을 때만 복사 (호출자 배열은 건드리지 않음)
+        String[] inputs = texts;
+
+        List<Integer> chunk = new ArrayList<>();
+        int chunkTokens = 0;
+
+        for (int i = 0; i < texts.length; i++) {
+            String text = texts[i];
             if (text == null || text.trim().isEmpty()) {
-                log.warn("Empty text provided for embedding");
-                return createZeroVector();
+                results[i] = createZeroVector();
+                continue;
             }
 
-            JsonObject requestBody = new JsonObject();
-            requestBody.addProperty("model", EMBEDDING_MODEL);
-            requestBody.addProperty("input", text);
+            if (estimateTokens(text) > maxInputTokens) {
+                log.debug("Truncating embedding input {} from {} UTF-8 bytes", i, estimateTokens(text));
+                if (inputs == texts) {
+                    inputs = texts.clone();
+                }
+                text = truncate(text, maxInputTokens);
+                inputs[i] = text;
+            }
 
-            // Create request body
-            RequestBody body = RequestBody.create(gson.toJson(requestBody), JSON);
+            int tokens = estimateTokens(text);
+            if (!chunk.isEmpty() && (chunk.size() >= maxBatchSize || chunkTokens + tokens > maxBatchTokens)) {
+                embedChunkWithRetry(inputs, chunk, results);
+                chunk = new ArrayList<>();
+                chunkTokens = 0;
+            }
+            chunk.add(i);
+            chunkTokens += tokens;
+        }
 
-            Request request = new Request.Builder()
-                    .url(OPENAI_API_URL)
-                    .header("Authorization", "Bearer " + openaiApiKey)
-                    .post(body)
-                    .build();
+        if (!chunk.isEmpty()) {
+            embedChunkWithRetry(inputs, chunk, results);
+        }
+        return results;
+    }
 
-            // Execute call
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    log.error("OpenAI API error: {} - {}", response.code(), response.message());
-                    return createZeroVector();
+    private void embedChunkWithRetry(String[] texts, List<Integer> chunk, PGvector[] results) {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            try {
+                embedChunk(texts, chunk, results);
+                return;
+            } catch (RetryableEmbeddingException e) {
+                if (attempt == maxRetries) {
+                    log.error("OpenAI embedding chunk failed after {} retries (size={})", maxRetries, chunk.size(), e);
+                    break;
+                }
+                log.warn("OpenAI embedding chunk failed, retrying ({}/{}): {}", attempt + 1, maxRetries, e.getMessage());
+                if (!sleepBackoff(attempt)) {
+                    break;
+                }
+            } catch (RejectedInputException e) {
+                if (chunk.size() > 1) {
+                    // 결정적으로 나뉜 청크라 그대로 두면 같은 이웃들이 매번 함께 실패하므로 반으로 나눠 원인 입력만 격리
+                    log.warn("OpenAI rejected embedding chunk (size={}), splitting: {}", chunk.size(), e.getMessage());
+                    int half = chunk.size() / 2;
+                    embedChunkWithRetry(texts, new ArrayList<>(chunk.subList(0, half)), results);
+                    embedChunkWithRetry(texts, new ArrayList<>(chunk.subList(half, chunk.size())), results);
+                    return;
                 }
+                log.error("OpenAI rejected embedding input {}: {}", chunk.get(0), e.getMessage());
+                break;
+            } catch (EmbeddingException e) {
+                log.error("OpenAI embedding chunk failed (size={}): {}", chunk.size(), e.getMessage());
+                break;
+            }
+        }
 
-                if (response.body() == null) return createZeroVector();
+        // 최종 실패한 청크는 기존 단건 동작과 동일하게 zero vector로 채운다
+        for (int index : chunk) {
+            results[index] = createZeroVector();
+        }
+    }
 
-                String responseStr = response.body().string();
-                JsonObject jsonResponse = gson.fromJson(responseStr, JsonObject.class);
+    private void embedChunk(String[] texts, List<Integer> chunk, PGvector[] results) {
+        JsonArray input = new JsonArray();
+        for (int index : chunk) {
+            input.add(texts[index]);
+        }
 
-                JsonArray dataArray = jsonResponse.getAsJsonArray("data");
-                if (dataArray == null || dataArray.isEmpty()) {
-                    return createZeroVector();
+        JsonObject requestBody = new JsonObject();
+        requestBody.addProperty("model", EMBEDDING_MODEL);
+        requestBody.add("input", input);
+
+        // Create request body
+        RequestBody body = RequestBody.create(gson.toJson(requestBody), JSON);
+
+        Request request = new Request.Builder()
+                .url(OPENAI_API_URL)
+                .header("Authorization", "Bearer " + openaiApiKey)
+                .post(body)
+                .build();
+
+        // Execute call
+        try (Response response = httpClient.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                String message = "OpenAI API error: " + response.code() + " - " + response.message();
+                if (response.code() == 429 || response.code() >= 500) {
+                    throw new RetryableEmbeddingException(message);
+                }
+                if (response.code() == 400 || response.code() == 413) {
+                    throw new RejectedInputException(message);
+                }
+                if (response.code() == 401 || response.code() == 403 || response.code() == 404) {
+                    // 청크를 나누거나 다음 청크를 보내도 같은 응답이므로 더 요청하지 않음
+                    log.error("OpenAI embedding request is not authorized or misconfigured: {}", message);
+                    throw new GeneralException(ErrorStatus.EMBEDDING_UNAVAILABLE);
                 }
+                throw new EmbeddingException(message);
+            }
+
+            if (response.body() == null) {
+                throw new RetryableEmbeddingException("OpenAI API returned an empty body");
+            }
 
-                JsonObject firstData = dataArray.get(0).getAsJsonObject();
-                JsonArray embedding = firstData.getAsJsonArray("embedding");
+            JsonObject jsonResponse = gson.fromJson(response.body().string(), JsonObject.class);
+            JsonArray dataArray = jsonResponse.getAsJsonArray("data");
+            if (dataArray == null || dataArray.size() != chunk.size()) {
+                throw new RetryableEmbeddingException("OpenAI API returned "
+                        + (dataArray == null ? 0 : dataArray.size()) + " embeddings for " + chunk.size() + " inputs");
+            }
+
+            // 응답 순서가 아닌 index 필드를 기준으로 원래 위치에 매핑
+            PGvector[] chunkResults = new PGvector[chunk.size()];
+            for (JsonElement element : dataArray) {
+                JsonObject data = element.getAsJsonObject();
+                int position = data.get("index").getAsInt();
+                JsonArray embedding = data.getAsJsonArray("embedding");
 
                 float[] vector = new float[embedding.size()];
                 for (int i = 0; i < embedding.size(); i++) {
                     vector[i] = embedding.get(i).getAsFloat();
                 }
-
-                return new PGvector(vector);
+                chunkResults[position] = new PGvector(vector);
             }
 
+            for (int i = 0; i < chunk.size(); i++) {
+                if (chunkResults[i] == null) {
+                    throw new RetryableEmbeddingException("OpenAI API response is missing embedding index " + i);
+                }
+                results[chunk.get(i)] = chunkResults[i];
+            }
         } catch (IOException e) {
-            log.error("Failed to get embedding from OpenAI", e);
-            return createZeroVector();
+            throw new RetryableEmbeddingException("Failed to get embedding from OpenAI: " + e.getMessage());
+        } catch (JsonParseException | IllegalStateException | IndexOutOfBoundsException | NullPointerException e) {
+            throw new EmbeddingException("Malformed OpenAI embedding response: " + e.getMessage());
         }
-    } // <--- This closing brace was missing in your code!
+    }
 
     @Override
-    public PGvector[] embedBatch(String[] texts) {
-        PGvector[] results = new PGvector[texts.length];
-        for (int i = 0; i < texts.length; i++) {
-            results[i] = embed(texts[i]);
+    public String getModelName() {
+        return EMBEDDING_MODEL;
+    }
+
+    /**
+     * 토큰 수 상한 추정: 바이트 단위 BPE라 토큰 하나는 최소 1바이트이므로 UTF-8 바이트 수를 넘지 않는다
+     * 한글은 글자당 3바이트라 실제보다 2~3배 크게 잡히지만, 글자 수와 달리 API 제한을 넘지 않는 것이 보장된다.
+     */
+    static int estimateTokens(String text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i += charCount(text, i)) {
+            bytes += utf8Length(text, i);
+        }
+        return Math.max(1, bytes);
+    }
+
+    // 추정 토큰(UTF-8 바이트) 기준으로 자르되 서로게이트 쌍은 쪼개지 않음
+    static String truncate(String text, int maxTokens) {
+        int bytes = 0;
+        int end = 0;
+        while (end < text.length()) {
+            int length = utf8Length(text, end);
+            if (bytes + length > maxTokens) {
+                break;
+            }
+            bytes += length;
+            end += charCount(text, end);
+        }
+        return text.substring(0, end);
+    }
+
+    private static boolean isSurrogatePair(String text, int i) {
+        return Character.isHighSurrogate(text.charAt(i)) && i + 1 < text.length()
+                && Character.isLowSurrogate(text.charAt(i + 1));
+    }
+
+    private static int charCount(String text, int i) {
+        return isSurrogatePair(text, i) ? 2 : 1;
+    }
+
+    // i 위치 문자(서로게이트 쌍이면 쌍 전체)의 UTF-8 바이트 수
+    private static int utf8Length(String text, int i) {
+        char c = text.charAt(i);
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800) {
+            return 2;
+        }
+        return isSurrogatePair(text, i) ? 4 : 3;
+    }
+
+    private boolean sleepBackoff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS << attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
-        return results;
     }
 
     private PGvector createZeroVector() {
         // OpenAI text-embedding-3-small is 1536 dimensions
-        float[] zeroVector = new float[1536];
+        float[] zeroVector = new float[EMBEDDING_DIM];
         Arrays.fill(zeroVector, 0f);
         return new PGvector(zeroVector);
     }
-}
\ No newline at end of file
+
+    private static class EmbeddingException extends RuntimeException {
+        EmbeddingException(String message) {
+            super(message);
+        }
+    }
+
+    // 입력 때문에 요청이 거절됨 (400, 413): 같은 입력으로는 재시도해도 실패
+    private static class RejectedInputException extends EmbeddingException {
+        RejectedInputException(String message) {
+            super(message);
+        }
+    }
+
+    private static class RetryableEmbeddingException extends EmbeddingException {
+        RetryableEmbeddingException(String message) {
+            super(message);
+        }
+    }
+}
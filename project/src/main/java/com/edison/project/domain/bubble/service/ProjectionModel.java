@@ -0,0 +1,93 @@
+package com.edison.project.domain.bubble.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별로 학습한 2차원 PCA 투영 모델 (평균 벡터 + 2 x d 기저)
+ * 새 벡터는 재학습 없이 O(d)로 투영하고, 학습 이후 투영 건수와 설명력 변화(drift)를 누적한다.
+ */
+@Getter
+public class ProjectionModel {
+
+    // drift 판단에 필요한 최소 증분 투영 건수 (재학습 대상 조회에도 같은 값을 넘김)
+    static final int MIN_DRIFT_SAMPLES = 5;
+
+    private final double[] mean;
+    private final double[][] basis;
+    private final int fittedCount;
+    private final double explainedRatio;   // 학습 데이터에서 2개 성분이 설명한 에너지 비율
+    private final LocalDateTime fittedAt;
+    private final long version;            // 재학습할 때마다 1씩 증가 (저장소에서 부여)
+
+    private int projectedSinceFit;
+    private double explainedEnergySinceFit;
+    private double totalEnergySinceFit;
+
+    public ProjectionModel(double[] mean, double[][] basis, int fittedCount, double explainedRatio, LocalDateTime fittedAt) {
+        this(mean, basis, fittedCount, explainedRatio, fittedAt, 0L, 0, 0.0, 0.0);
+    }
+
+    // 저장된 모델 복원용
+    public ProjectionModel(double[] mean, double[][] basis, int fittedCount, double explainedRatio, LocalDateTime fittedAt,
+                           long version, int projectedSinceFit, double explainedEnergySinceFit, double totalEnergySinceFit) {
+        this.mean = mean;
+        this.basis = basis;
+        this.fittedCount = fittedCount;
+        this.explainedRatio = explainedRatio;
+        this.fittedAt = fittedAt;
+        this.version = version;
+        this.projectedSinceFit = projectedSinceFit;
+        this.explainedEnergySinceFit = explainedEnergySinceFit;
+        this.totalEnergySinceFit = totalEnergySinceFit;
+    }
+
+    public int getDimension() {
+        return mean.length;
+    }
+
+    /**
+     * 저장된 기저로 벡터를 2차원 좌표로 투영 (O(d))
+     */
+    public double[] project(float[] vector) {
+        double x = 0.0;
+        double y = 0.0;
+        for (int j = 0; j < mean.length; j++) {
+            double centered = vector[j] - mean[j];
+            x += basis[0][j] * centered;
+            y += basis[1][j] * centered;
+        }
+        return new double[]{x, y};
+    }
+
+    /**
+     * 증분 투영 결과를 누적 (drift 계산용)
+     */
+    public synchronized void recordProjection(float[] vector, double[] point) {
+        double norm = 0.0;
+        for (int j = 0; j < mean.length; j++) {
+            double centered = vector[j] - mean[j];
+            norm += centered * centered;
+        }
+        projectedSinceFit++;
+        explainedEnergySinceFit += point[0] * point[0] + point[1] * point[1];
+        totalEnergySinceFit += norm;
+    }
+
+    /**
+     * 학습 이후 추가 투영 건수가 임계치를 넘었거나,
+     * 새 벡터들에 대한 설명력이 학습 시점보다 driftThreshold 비율 이상 떨어졌으면 재학습 필요
+     */
+    public synchronized boolean needsRefit(int refitMinCount, double refitRatio, double driftThreshold) {
+        int countThreshold = Math.max(refitMinCount, (int) Math.ceil(fittedCount * refitRatio));
+        if (projectedSinceFit >= countThreshold) {
+            return true;
+        }
+        if (projectedSinceFit < MIN_DRIFT_SAMPLES || totalEnergySinceFit <= 0.0) {
+            return false;
+        }
+        double recentRatio = explainedEnergySinceFit / totalEnergySinceFit;
+        return recentRatio < explainedRatio * (1.0 - driftThreshold);
+    }
+}
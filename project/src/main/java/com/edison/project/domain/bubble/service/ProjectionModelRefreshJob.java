@@ -0,0 +1,90 @@
+package com.edison.project.domain.bubble.service;
+
+import com.edison.project.domain.bubble.repository.BubbleProjectionModelRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래되었거나 증분 투영이 많이 쌓인 투영 모델을 주기적으로 재학습
+ * 사용자 요청 경로에서 전체 재학습이 일어나는 빈도를 줄인다.
+ * 대상 선정만 advisory lock을 잡은 짧은 트랜잭션에서 하므로 여러 인스턴스 중 한 곳만 고르고,
+ * 재학습 자체는 projectionRefreshExecutor에 넘겨 스케줄러 스레드(TrashPurgeJob과 공유)를 잡지 않는다.
+ * 같은 회원의 요청 경로 재학습과는 BubbleProjectionService.refreshAsync에서 하나로 합쳐진다.
+ */
+@Component
+@Slf4j
+public class ProjectionModelRefreshJob {
+
+    // 임의의 고정 키 (다른 advisory lock과 겹치지 않게)
+    private static final long REFRESH_LOCK_KEY = 0x0B0B_1E70_0002L;
+
+    private final BubbleProjectionModelRepository projectionModelRepository;
+    private final BubbleProjectionService bubbleProjectionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bubble.projection.refresh.enabled:true}")
+    private boolean enabled;
+
+    // 한 번에 재학습할 최대 회원 수
+    @Value("${bubble.projection.refresh.batch-size:20}")
+    private int batchSize;
+
+    // 증분 투영이 이 건수 이상 쌓이면 미리 재학습 (요청 경로의 refit-min-count보다 작게)
+    @Value("${bubble.projection.refresh.min-projected:10}")
+    private int minProjected;
+
+    // 증분 투영이 있었고 학습한 지 이 시간이 지난 모델은 재학습
+    @Value("${bubble.projection.refresh.max-age-hours:24}")
+    private long maxAgeHours;
+
+    @Value("${bubble.projection.drift-threshold:0.3}")
+    private double driftThreshold;
+
+    public ProjectionModelRefreshJob(BubbleProjectionModelRepository projectionModelRepository,
+                                     BubbleProjectionService bubbleProjectionService,
+                                     PlatformTransactionManager transactionManager) {
+        this.projectionModelRepository = projectionModelRepository;
+        this.bubbleProjectionService = bubbleProjectionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${bubble.projection.refresh.interval-ms:600000}",
+            initialDelayString = "${bubble.projection.refresh.initial-delay-ms:60000}")
+    public void refreshStaleModels() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> memberIds = transactionTemplate.execute(status -> {
+            if (!projectionModelRepository.tryRefreshLock(REFRESH_LOCK_KEY)) {
+                return null;
+            }
+            return projectionModelRepository.findStaleMemberIds(
+                    minProjected,
+                    LocalDateTime.now().minusHours(maxAgeHours),
+                    1.0 - driftThreshold,
+                    ProjectionModel.MIN_DRIFT_SAMPLES,
+                    PageRequest.of(0, batchSize)
+            );
+        });
+        if (memberIds == null) {
+            log.info("Projection model refresh is running on another instance, skipping");
+            return;
+        }
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        // 실패는 refreshAsync에서 회원별로 기록되고, 모델이 그대로 남으므로 다음 실행에서 다시 고른다
+        memberIds.forEach(bubbleProjectionService::refreshAsync);
+        log.info("Queued {} stale projection models for refresh", memberIds.size());
+    }
+}
@@ -0,0 +1,191 @@
+package com.edison.project.domain.bubble.service;
+
+import com.edison.project.domain.bubble.entity.BubbleProjectionModel;
+import com.edison.project.domain.bubble.repository.BubbleProjectionModelRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원별 투영 모델 저장소
+ * bubble_projection_model 테이블에 영속화하고, 최근 사용한 모델은 메모리 LRU 캐시에 보관한다.
+ * 트랜잭션은 호출자(BubbleService 등)의 것을 따르고, 캐시는 커밋된 뒤에만 바꾼다 (롤백된 모델이 캐시에 남지 않도록).
+ */
+@Component
+@Slf4j
+public class ProjectionModelStore {
+
+    private final BubbleProjectionModelRepository projectionModelRepository;
+    private final Map<Long, ProjectionModel> cache;
+
+    public ProjectionModelStore(BubbleProjectionModelRepository projectionModelRepository,
+                                @Value("${bubble.projection.cache-size:1000}") int cacheSize) {
+        this.projectionModelRepository = projectionModelRepository;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ProjectionModel> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시 → DB 순으로 모델 조회 (없으면 null)
+     */
+    public ProjectionModel find(Long memberId) {
+        synchronized (cache) {
+            ProjectionModel cached = cache.get(memberId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        ProjectionModel loaded = projectionModelRepository.findById(memberId)
+                .map(this::toModel)
+                .orElse(null);
+
+        if (loaded != null) {
+            synchronized (cache) {
+                // 그 사이 다른 요청이 더 새로운 모델을 넣었으면 그것을 사용
+                ProjectionModel current = cache.get(memberId);
+                if (current != null && current.getVersion() >= loaded.getVersion()) {
+                    return current;
+                }
+                cache.put(memberId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 새로 학습한 모델 저장 (버전 증가, 증분 통계 초기화) 후 저장된 버전의 모델을 반환
+     */
+    public ProjectionModel save(Long memberId, ProjectionModel fitted) {
+        byte[] mean = encode(fitted.getMean());
+        byte[] basis = encode(fitted.getBasis()[0], fitted.getBasis()[1]);
+
+        BubbleProjectionModel entity = projectionModelRepository.findById(memberId)
+                .orElse(null);
+        if (entity == null) {
+            entity = BubbleProjectionModel.builder()
+                    .memberId(memberId)
+                    .dimension(fitted.getDimension())
+                    .meanVector(mean)
+                    .basis(basis)
+                    .fittedCount(fitted.getFittedCount())
+                    .explainedRatio(fitted.getExplainedRatio())
+                    .version(1L)
+                    .fittedAt(fitted.getFittedAt())
+                    .build();
+        } else {
+            entity.refit(fitted.getDimension(), mean, basis, fitted.getFittedCount(),
+                    fitted.getExplainedRatio(), fitted.getFittedAt());
+        }
+        projectionModelRepository.save(entity);
+
+        ProjectionModel saved = new ProjectionModel(fitted.getMean(), fitted.getBasis(), fitted.getFittedCount(),
+                fitted.getExplainedRatio(), fitted.getFittedAt(), entity.getVersion(), 0, 0.0, 0.0);
+        runAfterCommit(() -> {
+            synchronized (cache) {
+                cache.put(memberId, saved);
+            }
+        });
+        return saved;
+    }
+
+    /**
+     * 증분 투영 통계만 DB에 반영 (재시작 후에도 재학습 판단이 이어지도록)
+     */
+    public void saveStats(Long memberId, ProjectionModel model) {
+        int updated;
+        synchronized (model) {
+            updated = projectionModelRepository.updateProjectionStats(memberId, model.getVersion(),
+                    model.getProjectedSinceFit(), model.getExplainedEnergySinceFit(), model.getTotalEnergySinceFit());
+        }
+        if (updated == 0) {
+            // 다른 인스턴스가 먼저 재학습한 경우: 캐시를 비워 다음 조회 때 최신 모델을 읽음
+            log.debug("Projection model of member [{}] was refitted elsewhere, evicting cache", memberId);
+            evict(memberId);
+        }
+    }
+
+    /**
+     * 학습할 데이터가 부족해진 회원의 모델 제거
+     */
+    public void delete(Long memberId) {
+        evict(memberId);
+        if (projectionModelRepository.existsById(memberId)) {
+            projectionModelRepository.deleteById(memberId);
+        }
+        // 커밋 전에 다른 요청이 이전 모델을 다시 읽어 캐시에 넣었을 수 있으므로 한 번 더 비움
+        runAfterCommit(() -> evict(memberId));
+    }
+
+    public void evict(Long memberId) {
+        synchronized (cache) {
+            cache.remove(memberId);
+        }
+    }
+
+    public int cachedCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private ProjectionModel toModel(BubbleProjectionModel entity) {
+        int d = entity.getDimension();
+        double[] mean = decode(entity.getMeanVector(), 0, d);
+        double[][] basis = new double[][]{
+                decode(entity.getBasis(), 0, d),
+                decode(entity.getBasis(), d, d)
+        };
+        return new ProjectionModel(mean, basis, entity.getFittedCount(), entity.getExplainedRatio(),
+                entity.getFittedAt(), entity.getVersion(), entity.getProjectedSinceFit(),
+                entity.getExplainedEnergySinceFit(), entity.getTotalEnergySinceFit());
+    }
+
+    // float32 little-endian 직렬화 (1536차원 기준 평균 6KB, 기저 12KB)
+    private static byte[] encode(double[]... rows) {
+        int length = 0;
+        for (double[] row : rows) {
+            length += row.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (double[] row : rows) {
+            for (double v : row) {
+                buffer.putFloat((float) v);
+            }
+        }
+        return buffer.array();
+    }
+
+    private static double[] decode(byte[] bytes, int offset, int length) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = buffer.getFloat((offset + i) * Float.BYTES);
+        }
+        return values;
+    }
+}
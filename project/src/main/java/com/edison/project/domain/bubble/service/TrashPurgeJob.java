@@ -0,0 +1,112 @@
+package com.edison.project.domain.bubble.service;
+
+import com.edison.project.domain.bubble.repository.BubbleSyncJdbcRepository;
+import com.edison.project.domain.bubble.repository.BubbleTrashJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 휴지통 보관 기간(기본 30일)이 지난 버블을 영구 삭제
+ * 배치마다 짧은 트랜잭션에서 advisory lock을 잡고 id를 골라 집합 단위로 지우므로,
+ * 여러 인스턴스가 동시에 돌아도 한 곳만 진행하고 나머지는 바로 빠진다.
+ * 휴지통 버블은 백링크 그래프에 없으므로 그래프 캐시는 건드리지 않는다.
+ */
+@Component
+@Slf4j
+public class TrashPurgeJob {
+
+    // 임의의 고정 키 (다른 advisory lock과 겹치지 않게)
+    private static final long PURGE_LOCK_KEY = 0x0B0B_1E70_0001L;
+
+    private final BubbleTrashJdbcRepository bubbleTrashJdbcRepository;
+    private final BubbleSyncJdbcRepository bubbleSyncJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter purgedCounter;
+    private final DistributionSummary purgedPerRun;
+    private final Timer runTimer;
+
+    @Value("${bubble.trash.purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bubble.trash.retention-days:30}")
+    private long retentionDays;
+
+    @Value("${bubble.trash.purge.batch-size:500}")
+    private int batchSize;
+
+    // 한 번 실행에서 처리할 최대 배치 수 (남은 버블은 다음 실행에서)
+    @Value("${bubble.trash.purge.max-batches:100}")
+    private int maxBatches;
+
+    public TrashPurgeJob(BubbleTrashJdbcRepository bubbleTrashJdbcRepository,
+                         BubbleSyncJdbcRepository bubbleSyncJdbcRepository,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.bubbleTrashJdbcRepository = bubbleTrashJdbcRepository;
+        this.bubbleSyncJdbcRepository = bubbleSyncJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.purgedCounter = Counter.builder("bubble.trash.purged")
+                .description("Trashed bubbles permanently deleted after the retention period")
+                .register(meterRegistry);
+        this.purgedPerRun = DistributionSummary.builder("bubble.trash.purge.run.rows")
+                .description("Trashed bubbles deleted per purge run")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("bubble.trash.purge.run")
+                .description("Duration of trash purge runs")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${bubble.trash.purge.cron:0 0 4 * * *}")
+    public void purgeExpiredTrash() {
+        if (!enabled) {
+            return;
+        }
+        runTimer.record(this::purge);
+    }
+
+    private void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long purged = 0;
+        int batches = 0;
+
+        while (batches < maxBatches) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                if (!bubbleTrashJdbcRepository.tryPurgeLock(PURGE_LOCK_KEY)) {
+                    return null;
+                }
+                List<Long> ids = bubbleTrashJdbcRepository.findExpiredTrashedBubbleIds(cutoff, batchSize);
+                bubbleSyncJdbcRepository.deleteBubbles(ids, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+                return ids.size();
+            });
+            if (deleted == null) {
+                log.info("Trash purge is running on another instance, skipping");
+                break;
+            }
+            batches++;
+            purged += deleted;
+            purgedCounter.increment(deleted);
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        purgedPerRun.record(purged);
+        if (purged > 0) {
+            log.info("Purged {} trashed bubbles older than {} days in {} batches", purged, retentionDays, batches);
+        }
+    }
+}
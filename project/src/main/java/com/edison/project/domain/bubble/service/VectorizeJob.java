@@ -0,0 +1,106 @@
+package com.edison.project.domain.bubble.service;
+
+import com.edison.project.domain.bubble.dto.BubbleResponseDto;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원 전체 버블 벡터화 작업의 진행 상태 (메모리 보관)
+ * 작업 스레드가 갱신하고 조회 요청 스레드가 읽으므로 상태 필드는 volatile/atomic으로 둔다.
+ */
+@Getter
+public class VectorizeJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    // 응답에 담을 실패 목록 최대 개수
+    private static final int MAX_REPORTED_FAILURES = 500;
+
+    private final String jobId;
+    private final Long memberId;
+    private final LocalDateTime createdAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile int totalCount;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+
+    private final AtomicInteger processedCount = new AtomicInteger();
+    private final AtomicInteger successCount = new AtomicInteger();
+    private final AtomicInteger failureCount = new AtomicInteger();
+    private final List<BubbleResponseDto.VectorizeFailureDto> failures = Collections.synchronizedList(new ArrayList<>());
+
+    public VectorizeJob(String jobId, Long memberId) {
+        this.jobId = jobId;
+        this.memberId = memberId;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean isActive() {
+        return status == Status.QUEUED || status == Status.RUNNING;
+    }
+
+    public void start(int totalCount) {
+        this.totalCount = totalCount;
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void recordSuccess(int count) {
+        successCount.addAndGet(count);
+        processedCount.addAndGet(count);
+    }
+
+    public void recordFailure(String localIdx, String reason) {
+        failureCount.incrementAndGet();
+        processedCount.incrementAndGet();
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.add(new BubbleResponseDto.VectorizeFailureDto(localIdx, reason));
+        }
+    }
+
+    // 처리 도중 삭제/휴지통 이동된 버블은 실패가 아닌 처리 완료로만 집계
+    public void recordSkipped(int count) {
+        processedCount.addAndGet(count);
+    }
+
+    public void complete(String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public BubbleResponseDto.VectorizeJobDto toDto() {
+        List<BubbleResponseDto.VectorizeFailureDto> failureSnapshot;
+        synchronized (failures) {
+            failureSnapshot = new ArrayList<>(failures);
+        }
+        return new BubbleResponseDto.VectorizeJobDto(
+                jobId,
+                status.name(),
+                totalCount,
+                processedCount.get(),
+                successCount.get(),
+                failureCount.get(),
+                failureSnapshot,
+                createdAt,
+                startedAt,
+                finishedAt,
+                message
+        );
+    }
+}
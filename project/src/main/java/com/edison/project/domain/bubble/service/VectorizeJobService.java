@@ -0,0 +1,196 @@
+package com.edison.project.domain.bubble.service;
+
+import com.edison.project.common.exception.GeneralException;
+import com.edison.project.common.status.ErrorStatus;
+import com.edison.project.domain.bubble.entity.Bubble;
+import com.edison.project.domain.bubble.repository.BubbleEmbeddingSourceProjection;
+import com.edison.project.domain.bubble.repository.BubbleRepository;
+import com.pgvector.PGvector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 전체 버블 벡터화를 비동기 작업으로 실행
+ * 청크마다 [읽기 트랜잭션 → 트랜잭션 밖에서 임베딩 → 쓰기 트랜잭션] 순서로 처리해
+ * 외부 임베딩 호출 동안 DB 커넥션을 잡고 있지 않는다. 마지막에 회원 투영 모델을 한 번 재학습한다.
+ */
+@Service
+@Slf4j
+public class VectorizeJobService {
+
+    private final BubbleRepository bubbleRepository;
+    private final EmbeddingService embeddingService;
+    private final BubbleProjectionService bubbleProjectionService;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, VectorizeJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${bubble.vectorize.job.chunk-size:100}")
+    private int chunkSize;
+
+    // 완료된 작업 결과를 보관하는 시간
+    @Value("${bubble.vectorize.job.retention-minutes:60}")
+    private long retentionMinutes;
+
+    public VectorizeJobService(BubbleRepository bubbleRepository,
+                               EmbeddingService embeddingService,
+                               BubbleProjectionService bubbleProjectionService,
+                               @Qualifier("vectorizeJobExecutor") ThreadPoolTaskExecutor executor,
+                               PlatformTransactionManager transactionManager) {
+        this.bubbleRepository = bubbleRepository;
+        this.embeddingService = embeddingService;
+        this.bubbleProjectionService = bubbleProjectionService;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 작업 접수 (회원당 진행 중인 작업은 하나, 이미 있으면 그 작업을 반환)
+     * force가 아니면 내용이 바뀌었거나 임베딩이 없는(stale) 버블만 처리
+     */
+    public VectorizeJob submit(Long memberId, boolean force) {
+        synchronized (jobs) {
+            Optional<VectorizeJob> active = jobs.values().stream()
+                    .filter(job -> job.getMemberId().equals(memberId) && job.isActive())
+                    .findFirst();
+            if (active.isPresent()) {
+                return active.get();
+            }
+
+            VectorizeJob job = new VectorizeJob(UUID.randomUUID().toString(), memberId);
+            jobs.put(job.getJobId(), job);
+            try {
+                executor.execute(() -> run(job, force));
+            } catch (TaskRejectedException e) {
+                jobs.remove(job.getJobId());
+                log.warn("Vectorize job queue is full, rejecting job of member [{}]", memberId);
+                throw new GeneralException(ErrorStatus.VECTORIZE_JOB_REJECTED);
+            }
+            return job;
+        }
+    }
+
+    public VectorizeJob getJob(Long memberId, String jobId) {
+        VectorizeJob job = jobs.get(jobId);
+        if (job == null || !job.getMemberId().equals(memberId)) {
+            throw new GeneralException(ErrorStatus.VECTORIZE_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private void run(VectorizeJob job, boolean force) {
+        Long memberId = job.getMemberId();
+        try {
+            List<Long> bubbleIds = force
+                    ? bubbleRepository.findActiveBubbleIdsByMemberId(memberId)
+                    : bubbleRepository.findStaleBubbleIdsByMemberId(memberId);
+            job.start(bubbleIds.size());
+            log.info("Vectorize job [{}] started for member [{}]: {} bubbles", job.getJobId(), memberId, bubbleIds.size());
+
+            for (int from = 0; from < bubbleIds.size(); from += chunkSize) {
+                processChunk(job, bubbleIds.subList(from, Math.min(from + chunkSize, bubbleIds.size())));
+            }
+
+            if (job.getSuccessCount().get() > 0) {
+                bubbleProjectionService.refresh(memberId);
+            }
+
+            job.complete(job.getFailureCount().get() == 0 ? "Success" : "Completed with failures");
+            log.info("Vectorize job [{}] finished: {} succeeded, {} failed",
+                    job.getJobId(), job.getSuccessCount().get(), job.getFailureCount().get());
+        } catch (Exception e) {
+            log.error("Vectorize job [{}] of member [{}] failed", job.getJobId(), memberId, e);
+            job.fail("Failed: " + e.getMessage());
+        }
+    }
+
+    private void processChunk(VectorizeJob job, List<Long> chunkIds) {
+        // 1. 읽기: 텍스트만 조회 (리포지토리 호출 단위의 짧은 읽기 트랜잭션)
+        List<BubbleEmbeddingSourceProjection> sources = bubbleRepository.findEmbeddingSourcesByBubbleIdIn(chunkIds);
+        job.recordSkipped(chunkIds.size() - sources.size());
+        if (sources.isEmpty()) {
+            return;
+        }
+
+        // 2. 임베딩: 트랜잭션 밖에서 외부 호출
+        String[] texts = sources.stream()
+                .map(source -> BubbleEmbeddingText.of(source.getTitle(), source.getContent()))
+                .toArray(String[]::new);
+
+        PGvector[] embeddings;
+        try {
+            embeddings = embeddingService.embedBatch(texts);
+        } catch (Exception e) {
+            log.error("Embedding failed for a chunk of job [{}]: {}", job.getJobId(), e.getMessage());
+            sources.forEach(source -> job.recordFailure(source.getLocalIdx(), "Failed: " + e.getMessage()));
+            return;
+        }
+
+        Map<Long, float[]> vectors = new HashMap<>();
+        Map<Long, String> fingerprints = new HashMap<>();
+        for (int i = 0; i < sources.size(); i++) {
+            BubbleEmbeddingSourceProjection source = sources.get(i);
+            float[] vector = embeddings[i] != null ? embeddings[i].toArray() : null;
+            if (vector == null || isZeroVector(vector)) {
+                // 제공자가 실패 시 0 벡터를 돌려주므로 저장하지 않고 실패로 보고
+                job.recordFailure(source.getLocalIdx(), "Failed: embedding not returned");
+                continue;
+            }
+            vectors.put(source.getBubbleId(), vector);
+            fingerprints.put(source.getBubbleId(), Bubble.fingerprint(source.getTitle(), source.getContent()));
+        }
+        if (vectors.isEmpty()) {
+            return;
+        }
+
+        // 3. 쓰기: 청크 단위 짧은 쓰기 트랜잭션
+        Integer written = transactionTemplate.execute(status -> {
+            Map<Long, Bubble> bubbles = bubbleRepository.findAllById(vectors.keySet()).stream()
+                    .filter(bubble -> !bubble.isTrashed())
+                    .collect(Collectors.toMap(Bubble::getBubbleId, Function.identity()));
+
+            LocalDateTime now = LocalDateTime.now();
+            bubbles.forEach((bubbleId, bubble) -> {
+                bubble.applyEmbedding(vectors.get(bubbleId), fingerprints.get(bubbleId));
+                bubble.setUpdatedAt(now);
+            });
+            return bubbles.size();
+        });
+
+        int saved = written != null ? written : 0;
+        job.recordSuccess(saved);
+        job.recordSkipped(vectors.size() - saved);
+    }
+
+    private boolean isZeroVector(float[] vector) {
+        for (float v : vector) {
+            if (v != 0.0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 끝난 작업은 보관 시간이 지나면 정리
+    @Scheduled(fixedDelayString = "${bubble.vectorize.job.cleanup-interval-ms:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> !job.isActive()
+                && job.getFinishedAt() != null
+                && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -6,8 +6,10 @@ import com.edison.project.domain.member.entity.Member;
 import com.edison.project.global.common.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 
 @Getter
@@ -17,7 +19,8 @@ import java.util.*;
 @AllArgsConstructor
 @Builder(toBuilder = true)
 @Table(name = "Label", indexes = {
-        @Index(name = "idx_label_local_idx", columnList = "local_idx")})
+        @Index(name = "idx_label_local_idx", columnList = "local_idx"),
+        @Index(name = "idx_label_member_server_updated", columnList = "member_id, server_updated_at, label_id")})
 public class Label {
 
     @Id
@@ -43,6 +46,11 @@ public class Label {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 서버가 기록한 마지막 변경 시각 (증분 sync 커서)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "server_updated_at", nullable = false)
+    private LocalDateTime serverUpdatedAt;
+
     @ManyToOne
     @JoinColumn(name = "member_id")
     private Member member;
@@ -63,6 +71,12 @@ public class Label {
         this.deletedAt = deletedAt;
     }
 
+    @PrePersist
+    @PreUpdate
+    void touchServerUpdatedAt() {
+        this.serverUpdatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
     public void update(String name, int color) {
         this.name = name;
         this.color = color;
@@ -2,10 +2,12 @@ package com.edison.project.domain.label.repository;
 
 import com.edison.project.domain.label.entity.Label;
 import com.edison.project.domain.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -26,4 +28,18 @@ public interface LabelRepository extends JpaRepository<Label, String> {
 
     boolean existsByMemberAndLocalIdx(Member member, String localIdx);
 
+    // 증분 sync: 커서 (serverUpdatedAt, labelId) 이후 변경분
+    @Query("SELECT l FROM Label l " +
+            "WHERE l.member.memberId = :memberId " +
+            "AND l.serverUpdatedAt <= :until " +
+            "AND (l.serverUpdatedAt > :afterTime OR (l.serverUpdatedAt = :afterTime AND l.labelId > :afterId)) " +
+            "ORDER BY l.serverUpdatedAt, l.labelId")
+    List<Label> findChangesAfter(
+            @Param("memberId") Long memberId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until,
+            Pageable pageable
+    );
+
 }
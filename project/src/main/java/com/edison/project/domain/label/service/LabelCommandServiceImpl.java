@@ -8,6 +8,9 @@ import com.edison.project.domain.label.entity.Label;
 import com.edison.project.domain.label.repository.LabelRepository;
 import com.edison.project.domain.member.entity.Member;
 import com.edison.project.domain.member.repository.MemberRepository;
+import com.edison.project.domain.sync.entity.SyncEntityType;
+import com.edison.project.domain.sync.entity.SyncTombstone;
+import com.edison.project.domain.sync.repository.SyncTombstoneRepository;
 import com.edison.project.global.security.CustomUserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,6 +26,7 @@ public class LabelCommandServiceImpl implements LabelCommandService {
 
     private final LabelRepository labelRepository;
     private final MemberRepository memberRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
 
     @Override
     @Transactional
@@ -83,6 +87,7 @@ public class LabelCommandServiceImpl implements LabelCommandService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.LABELS_NOT_FOUND));
 
         labelRepository.delete(label);
+        syncTombstoneRepository.save(SyncTombstone.of(member.getMemberId(), SyncEntityType.LABEL, label.getLocalIdx()));
 
     }
 }
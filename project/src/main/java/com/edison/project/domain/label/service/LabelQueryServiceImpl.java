@@ -12,6 +12,9 @@ import com.edison.project.common.exception.GeneralException;
 import com.edison.project.common.status.ErrorStatus;
 import com.edison.project.domain.member.entity.Member;
 import com.edison.project.domain.member.repository.MemberRepository;
+import com.edison.project.domain.sync.entity.SyncEntityType;
+import com.edison.project.domain.sync.entity.SyncTombstone;
+import com.edison.project.domain.sync.repository.SyncTombstoneRepository;
 import com.edison.project.global.security.CustomUserPrincipal;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +33,7 @@ public class LabelQueryServiceImpl implements LabelQueryService {
     private final LabelRepository labelRepository;
     private final MemberRepository memberRepository;
     private final BubbleLabelRepository bubbleLabelRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
 
     // 라벨 목록 조회
     @Override
@@ -149,6 +153,7 @@ public class LabelQueryServiceImpl implements LabelQueryService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.LABELS_NOT_FOUND));
 
         labelRepository.delete(label);
+        syncTombstoneRepository.save(SyncTombstone.of(member.getMemberId(), SyncEntityType.LABEL, label.getLocalIdx()));
         return buildLabelResponse(request.getLocalIdx(), request.getName(), request.getColor(), request.getIsDeleted(), request.getCreatedAt(), request.getUpdatedAt(), request.getDeletedAt());
     }
 
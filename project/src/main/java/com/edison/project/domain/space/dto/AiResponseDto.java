@@ -15,6 +15,14 @@ public class AiResponseDto {
         private Double y;
     }
 
+    // 새 revision과 좌표가 바뀐 버블(추가/수정된 버블 포함)만 내려옴
+    @Getter
+    @NoArgsConstructor
+    public static class AiIncrementalResponseDto {
+        private String revision;
+        private List<AiVectorResponseDto> positions;
+    }
+
     @Getter
     @NoArgsConstructor
     public static class AiSimilarityResponseDto {
@@ -20,4 +20,5 @@ public class SpaceMapRequestDto {
         private String localIdx;
         private String content;
     }
+
 }
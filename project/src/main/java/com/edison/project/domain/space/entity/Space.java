@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import java.util.List;
 
 @Entity
-@Table(name = "spaces")
+// 버블당 좌표 한 행 (지도 upsert 기준), 지도 조회는 회원 단위
+// bubble_id 유니크 인덱스는 기존 중복 행을 정리해야 만들 수 있으므로 SpaceMapIndexManager에서 관리
+@Table(name = "spaces",
+        indexes = @Index(name = "idx_spaces_member_id", columnList = "member_id"))
 public class Space {
 
     @Id
@@ -0,0 +1,76 @@
+package com.edison.project.domain.space.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * spaces(bubble_id) 유니크 인덱스 관리
+ * 지도 upsert(ON CONFLICT (bubble_id))의 기준이라 반드시 있어야 하는데, 이 키 이전에 만들어진 테이블에는
+ * 버블당 여러 행이 남아 있을 수 있어 ddl-auto로는 만들어지지 않는다. 좌표는 다시 계산할 수 있는 값이므로
+ * 버블마다 가장 최근 행만 남기고 정리한 뒤 CONCURRENTLY로 만든다.
+ */
+@Component
+@Slf4j
+public class SpaceMapIndexManager {
+
+    public static final String BUBBLE_UNIQUE_INDEX = "uq_spaces_bubble_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SpaceMapJdbcRepository spaceMapJdbcRepository;
+    private final boolean enabled;
+
+    public SpaceMapIndexManager(JdbcTemplate jdbcTemplate,
+                                SpaceMapJdbcRepository spaceMapJdbcRepository,
+                                @Value("${space.map.index.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.spaceMapJdbcRepository = spaceMapJdbcRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("Space map index management is disabled");
+            return;
+        }
+        try {
+            ensureIndexes();
+        } catch (Exception e) {
+            // 인덱스가 없어도 지도 저장은 회원 단위 재작성으로 동작하므로 기동은 계속
+            log.error("Failed to ensure {}, space maps will be rewritten instead of upserted", BUBBLE_UNIQUE_INDEX, e);
+        }
+    }
+
+    public void ensureIndexes() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass('spaces') IS NOT NULL", Boolean.class))) {
+            log.warn("spaces table not found, skipping space map index management");
+            return;
+        }
+        if (spaceMapJdbcRepository.hasUniqueBubbleKey()) {
+            return;
+        }
+
+        // CONCURRENTLY 생성이 중간에 실패하면 INVALID 인덱스가 남으므로 먼저 정리
+        jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + BUBBLE_UNIQUE_INDEX);
+
+        int removed = jdbcTemplate.update(
+                "DELETE FROM spaces s USING spaces d WHERE s.bubble_id = d.bubble_id AND s.id < d.id");
+        if (removed > 0) {
+            log.warn("Removed {} duplicated spaces rows before creating {}", removed, BUBBLE_UNIQUE_INDEX);
+        }
+
+        long start = System.currentTimeMillis();
+        jdbcTemplate.execute("CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS " + BUBBLE_UNIQUE_INDEX +
+                " ON spaces (bubble_id)");
+        log.info("Created index {} in {} ms", BUBBLE_UNIQUE_INDEX, System.currentTimeMillis() - start);
+
+        if (!spaceMapJdbcRepository.hasUniqueBubbleKey()) {
+            log.error("{} is still missing or invalid, space maps will be rewritten instead of upserted",
+                    BUBBLE_UNIQUE_INDEX);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.edison.project.domain.space.repository;
+
+import com.edison.project.domain.space.dto.SpaceMapRequestDto;
+import com.edison.project.domain.space.dto.SpaceMapResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 스페이스 지도 좌표 저장소 (spaces 테이블)
+ * AI 서버가 계산한 좌표를 버블당 한 행으로 upsert하고, 지도 조회는 member_id 인덱스로 한 번에 읽는다.
+ * AI 서버로 보낼 버블 내용은 엔티티로 올리지 않고 커서로 한 행씩 넘긴다.
+ */
+@Repository
+@Slf4j
+public class SpaceMapJdbcRepository {
+
+    // 휴지통 버블은 지도에서 빠진다
+    private static final String FIND_MAP_SQL =
+            "SELECT b.local_idx, s.x, s.y FROM spaces s " +
+                    "JOIN bubble b ON b.bubble_id = s.bubble_id " +
+                    "WHERE s.member_id = ? AND b.is_trashed = false " +
+                    "ORDER BY s.bubble_id";
+
+    // 좌표가 그대로인 행은 갱신하지 않아 불필요한 행 버전을 만들지 않는다
+    private static final String UPSERT_SQL =
+            "INSERT INTO spaces (member_id, bubble_id, x, y) " +
+                    "SELECT b.member_id, b.bubble_id, u.x, u.y " +
+                    "FROM unnest(?::varchar[], ?::float8[], ?::float8[]) AS u(local_idx, x, y) " +
+                    "JOIN bubble b ON b.member_id = ? AND b.local_idx = u.local_idx " +
+                    "ON CONFLICT (bubble_id) DO UPDATE SET x = EXCLUDED.x, y = EXCLUDED.y " +
+                    "WHERE spaces.x IS DISTINCT FROM EXCLUDED.x OR spaces.y IS DISTINCT FROM EXCLUDED.y";
+
+    // 유니크 키가 없을 때: 회원 좌표를 모두 지우고 다시 넣는다
+    private static final String DELETE_MEMBER_SQL =
+            "DELETE FROM spaces WHERE member_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO spaces (member_id, bubble_id, x, y) " +
+                    "SELECT b.member_id, b.bubble_id, u.x, u.y " +
+                    "FROM unnest(?::varchar[], ?::float8[], ?::float8[]) AS u(local_idx, x, y) " +
+                    "JOIN bubble b ON b.member_id = ? AND b.local_idx = u.local_idx";
+
+    // ON CONFLICT (bubble_id)에 쓸 수 있는 단일 컬럼 유니크 인덱스 (제약 포함)
+    private static final String HAS_UNIQUE_BUBBLE_KEY_SQL =
+            "SELECT EXISTS (SELECT 1 FROM pg_index i " +
+                    "JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0] " +
+                    "WHERE i.indrelid = to_regclass('spaces') AND i.indisunique AND i.indisvalid " +
+                    "AND i.indnatts = 1 AND i.indpred IS NULL AND a.attname = 'bubble_id')";
+
+    // 이번 결과에 없는 버블(삭제, 휴지통)의 좌표 정리
+    private static final String DELETE_MISSING_SQL =
+            "DELETE FROM spaces s USING bubble b " +
+                    "WHERE s.bubble_id = b.bubble_id AND s.member_id = ? " +
+                    "AND b.local_idx <> ALL(?::varchar[])";
+
+    private static final String MEMO_SQL =
+            "SELECT local_idx, title, content FROM bubble " +
+                    "WHERE member_id = ? AND is_trashed = false";
+
+    // 트랜잭션 안에서만 유효 (커밋/롤백 시 원래 값으로)
+    private static final String SET_IDLE_TIMEOUT_SQL =
+            "SELECT set_config('idle_in_transaction_session_timeout', ?, true)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int memoFetchSize;
+    private final long memoIdleTimeoutMs;
+
+    // 한 번 확인되면 유지 (인덱스는 지우지 않으므로)
+    private volatile boolean uniqueBubbleKey;
+
+    public SpaceMapJdbcRepository(JdbcTemplate jdbcTemplate,
+                                  @Value("${space.map.memo.fetch-size:500}") int memoFetchSize,
+                                  @Value("${space.map.memo.idle-timeout-ms:15000}") long memoIdleTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.memoFetchSize = memoFetchSize;
+        this.memoIdleTimeoutMs = memoIdleTimeoutMs;
+    }
+
+    /**
+     * 회원의 휴지통 밖 버블을 한 행씩 action에 넘김 (AI 요청 본문용)
+     * PostgreSQL 드라이버는 autocommit이 꺼져 있을 때만 fetch size 단위 커서로 읽으므로 트랜잭션 안에서 호출해야 한다.
+     * 행 사이에 소켓 쓰기가 끼므로, 받는 쪽이 멈추면 서버가 idle 트랜잭션을 끊어 커넥션이 묶여 있지 않게 한다.
+     */
+    public void forEachMemo(Long memberId, Consumer<SpaceMapRequestDto.MapRequestDto> action) {
+        jdbcTemplate.queryForObject(SET_IDLE_TIMEOUT_SQL, String.class, memoIdleTimeoutMs + "ms");
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(MEMO_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(memoFetchSize);
+            ps.setLong(1, memberId);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(SpaceMapRequestDto.MapRequestDto.builder()
+                .localIdx(rs.getString("local_idx"))
+                .content(rs.getString("title") + rs.getString("content"))
+                .build()));
+    }
+
+    public List<SpaceMapResponseDto.MapResponseDto> findMap(Long memberId) {
+        return jdbcTemplate.query(FIND_MAP_SQL, (rs, rowNum) -> SpaceMapResponseDto.MapResponseDto.builder()
+                .localIdx(rs.getString("local_idx"))
+                .x(rs.getDouble("x"))
+                .y(rs.getDouble("y"))
+                .build(), memberId);
+    }
+
+    public boolean hasUniqueBubbleKey() {
+        if (!uniqueBubbleKey) {
+            uniqueBubbleKey = Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_UNIQUE_BUBBLE_KEY_SQL, Boolean.class));
+        }
+        return uniqueBubbleKey;
+    }
+
+    /**
+     * 회원의 지도를 map으로 맞춤 (호출하는 쪽 트랜잭션에서 실행)
+     * spaces(bubble_id) 유니크 인덱스가 아직 없으면 upsert 대신 회원 좌표를 통째로 다시 쓴다.
+     */
+    public void replaceMap(Long memberId, List<SpaceMapResponseDto.MapResponseDto> map) {
+        boolean upsert = hasUniqueBubbleKey();
+        if (!upsert) {
+            log.warn("spaces has no unique index on bubble_id, rewriting the map of member [{}] instead of upserting",
+                    memberId);
+        }
+
+        String[] localIdxs = new String[map.size()];
+        Double[] xs = new Double[map.size()];
+        Double[] ys = new Double[map.size()];
+        for (int i = 0; i < map.size(); i++) {
+            localIdxs[i] = map.get(i).getLocalIdx();
+            xs[i] = map.get(i).getX();
+            ys[i] = map.get(i).getY();
+        }
+
+        if (upsert) {
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(DELETE_MISSING_SQL);
+                ps.setLong(1, memberId);
+                ps.setArray(2, con.createArrayOf("varchar", localIdxs));
+                return ps;
+            });
+        } else {
+            jdbcTemplate.update(DELETE_MEMBER_SQL, memberId);
+        }
+        if (map.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(upsert ? UPSERT_SQL : INSERT_SQL);
+            ps.setArray(1, con.createArrayOf("varchar", localIdxs));
+            ps.setArray(2, con.createArrayOf("float8", xs));
+            ps.setArray(3, con.createArrayOf("float8", ys));
+            ps.setLong(4, memberId);
+            return ps;
+        });
+    }
+}
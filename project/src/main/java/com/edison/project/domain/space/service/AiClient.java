@@ -1,64 +1,269 @@
 package com.edison.project.domain.space.service;
 
+import com.edison.project.common.exception.GeneralException;
+import com.edison.project.common.status.ErrorStatus;
 import com.edison.project.domain.space.dto.AiResponseDto;
 import com.edison.project.domain.space.dto.SpaceMapRequestDto;
-import com.edison.project.domain.space.dto.SpaceMapResponseDto;
 import com.edison.project.domain.space.dto.SpaceSimilarityRequestDto;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.*;
-import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.*;
+import okio.BufferedSink;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+/**
+ * AI 서버(좌표 계산, 키워드 유사도) 호출
+ * 커넥션 풀을 공유하는 OkHttp 클라이언트를 엔드포인트별 읽기 타임아웃으로 나눠 쓰고,
+ * 동시 호출 수를 세마포어로 제한해 AI 서버가 느려져도 요청 스레드가 무한정 묶이지 않게 한다.
+ * 요청 본문은 Jackson 생성기로 소켓에 바로 써서, 버블 수만큼의 목록이나 직렬화 버퍼를 힙에 두지 않는다.
+ */
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class AiClient {
 
-    private final RestTemplate restTemplate;
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final String MAP_PATH = "ai";
+    private static final String SIMILARITY_PATH = "similarity";
+    private static final String INCREMENTAL_MAP_PATH = "ai/incremental";
+    // 서버가 baseRevision 상태를 갖고 있지 않음 (재시작, 만료 등)
+    private static final int BASE_REVISION_UNKNOWN = 409;
+
+    private final HttpUrl baseUrl;
+    private final OkHttpClient mapClient;
+    private final OkHttpClient similarityClient;
     private final ObjectMapper objectMapper;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentCalls;
+    private final long acquireTimeoutMs;
+    private final MeterRegistry meterRegistry;
 
-    public List<AiResponseDto.AiVectorResponseDto> sendToAiServer(List<SpaceMapRequestDto.MapRequestDto> requestDtoList) {
-        String aiServerUrl = "http://43.200.55.253:8000/ai";
+    public AiClient(ObjectMapper objectMapper,
+                    MeterRegistry meterRegistry,
+                    @Value("${ai.server.base-url:http://43.200.55.253:8000}") String baseUrl,
+                    @Value("${ai.server.connect-timeout-ms:2000}") long connectTimeoutMs,
+                    @Value("${ai.server.write-timeout-ms:10000}") long writeTimeoutMs,
+                    @Value("${ai.server.map.read-timeout-ms:30000}") long mapReadTimeoutMs,
+                    @Value("${ai.server.similarity.read-timeout-ms:10000}") long similarityReadTimeoutMs,
+                    @Value("${ai.server.pool.max-idle:10}") int maxIdleConnections,
+                    @Value("${ai.server.pool.keep-alive-seconds:60}") long keepAliveSeconds,
+                    @Value("${ai.server.max-concurrent-calls:8}") int maxConcurrentCalls,
+                    @Value("${ai.server.acquire-timeout-ms:500}") long acquireTimeoutMs) {
+        this.baseUrl = HttpUrl.get(baseUrl);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(maxConcurrentCalls, true);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        // AI 서버는 평문 HTTP라 h2c 협상이 없으므로 HTTP/1.1 keep-alive 풀로 재사용
+        OkHttpClient base = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
+                .protocols(List.of(Protocol.HTTP_1_1))
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .writeTimeout(Duration.ofMillis(writeTimeoutMs))
+                .retryOnConnectionFailure(false)
+                .build();
+        this.mapClient = base.newBuilder().readTimeout(Duration.ofMillis(mapReadTimeoutMs)).build();
+        this.similarityClient = base.newBuilder().readTimeout(Duration.ofMillis(similarityReadTimeoutMs)).build();
+
+        Gauge.builder("ai.client.in.flight", bulkhead, b -> maxConcurrentCalls - b.availablePermits())
+                .description("AI server calls currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 본문에 memos 배열을 흘려 쓸 버블 공급원 (DB 커서 등)
+     * 본문을 쓰는 동안 호출 스레드에서 한 번만 순회되므로, 커서를 여는 쪽 트랜잭션이 호출 내내 살아 있어야 한다.
+     */
+    @FunctionalInterface
+    public interface MemoSource {
+        void forEach(Consumer<SpaceMapRequestDto.MapRequestDto> action);
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<List<SpaceMapRequestDto.MapRequestDto>> entity = new HttpEntity<>(requestDtoList, headers);
+    @FunctionalInterface
+    private interface BodyWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    public List<AiResponseDto.AiVectorResponseDto> sendToAiServer(List<SpaceMapRequestDto.MapRequestDto> requestDtoList) {
+        return sendToAiServer(requestDtoList::forEach);
+    }
 
-        ResponseEntity<AiResponseDto.AiVectorResponseDto[]> response = restTemplate.postForEntity(
-                aiServerUrl,
-                entity,
-                AiResponseDto.AiVectorResponseDto[].class
-        );
+    public List<AiResponseDto.AiVectorResponseDto> sendToAiServer(MemoSource memos) {
+        AiResponseDto.AiVectorResponseDto[] response = post(mapClient, MAP_PATH,
+                generator -> writeMemos(generator, memos),
+                AiResponseDto.AiVectorResponseDto[].class, false);
 
-        if (response.getBody() == null) {
+        if (response == null) {
             return Collections.emptyList();
         }
 
-        return Arrays.asList(response.getBody());
+        return Arrays.asList(response);
     }
 
     // ✅ 키워드 기반 유사도 상위 ID 요청용
     public AiResponseDto.AiSimilarityResponseDto sendToSimilarityServer(SpaceSimilarityRequestDto.MapRequestDto requestDto) {
-        String similarityUrl = "http://43.200.55.253:8000/similarity";
+        List<SpaceMapRequestDto.MapRequestDto> memos = requestDto.getMemos() != null ? requestDto.getMemos() : List.of();
+        return sendToSimilarityServer(requestDto.getKeyword(), memos::forEach);
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<SpaceSimilarityRequestDto.MapRequestDto> entity = new HttpEntity<>(requestDto, headers);
+    public AiResponseDto.AiSimilarityResponseDto sendToSimilarityServer(String keyword, MemoSource memos) {
+        return post(similarityClient, SIMILARITY_PATH, generator -> {
+            generator.writeStartObject();
+            generator.writeStringField("keyword", keyword);
+            generator.writeFieldName("memos");
+            writeMemos(generator, memos);
+            generator.writeEndObject();
+        }, AiResponseDto.AiSimilarityResponseDto.class, false);
+    }
 
-        ResponseEntity<AiResponseDto.AiSimilarityResponseDto> response = restTemplate.postForEntity(
-                similarityUrl,
-                entity,
-                AiResponseDto.AiSimilarityResponseDto.class
-        );
+    /**
+     * 바뀐 버블만 보내는 지도 요청, 서버가 baseRevision을 모르면 null (전체 요청으로 다시 보내야 함)
+     * 본문: {"memberKey", "baseRevision"(null이면 전체 재계산), "upserts": [버블], "removed": [localIdx]}
+     */
+    public AiResponseDto.AiIncrementalResponseDto sendIncrementalToAiServer(String memberKey, String baseRevision,
+                                                                            MemoSource upserts, List<String> removed) {
+        return post(mapClient, INCREMENTAL_MAP_PATH, generator -> {
+            generator.writeStartObject();
+            generator.writeStringField("memberKey", memberKey);
+            generator.writeStringField("baseRevision", baseRevision);
+            generator.writeFieldName("upserts");
+            writeMemos(generator, upserts);
+            generator.writeArrayFieldStart("removed");
+            for (String localIdx : removed) {
+                generator.writeString(localIdx);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }, AiResponseDto.AiIncrementalResponseDto.class, true);
+    }
 
-        return response.getBody();
+    private <T> T post(OkHttpClient client, String path, BodyWriter body, Class<T> responseType, boolean conflictAsNull) {
+        if (!acquire()) {
+            record(path, "rejected", 0L);
+            log.warn("AI server call to /{} rejected, {} calls already in flight", path, maxConcurrentCalls);
+            throw new GeneralException(ErrorStatus.AI_SERVER_BUSY);
+        }
+
+        long start = System.nanoTime();
+        String outcome = "io_error";
+        try {
+            Request request = new Request.Builder()
+                    .url(baseUrl.newBuilder().addPathSegments(path).build())
+                    .post(streamingBody(body))
+                    .build();
+
+            try (Response response = client.newCall(request).execute()) {
+                if (conflictAsNull && response.code() == BASE_REVISION_UNKNOWN) {
+                    outcome = "stale_base";
+                    return null;
+                }
+                if (!response.isSuccessful()) {
+                    outcome = "http_" + response.code();
+                    log.error("AI server /{} responded {}", path, response.code());
+                    throw new GeneralException(ErrorStatus.AI_SERVER_UNAVAILABLE);
+                }
+                ResponseBody responseBody = response.body();
+                T result = responseBody == null || responseBody.contentLength() == 0
+                        ? null
+                        : lenientReader(responseType).readValue(responseBody.byteStream());
+                outcome = "success";
+                return result;
+            }
+        } catch (IOException e) {
+            log.error("AI server call to /{} failed: {}", path, e.toString());
+            throw new GeneralException(ErrorStatus.AI_SERVER_UNAVAILABLE);
+        } finally {
+            bulkhead.release();
+            record(path, outcome, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 본문을 메모리에 모으지 않고 소켓으로 바로 쓰는 chunked 본문
+     * 공급원을 다시 순회할 수 없으므로 one-shot으로 두어 OkHttp가 재전송하지 않게 한다.
+     */
+    private RequestBody streamingBody(BodyWriter body) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON;
+            }
+
+            @Override
+            public boolean isOneShot() {
+                return true;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                // 중간에 실패하면 열린 배열을 닫아 멀쩡한 JSON처럼 보내지 않도록 자동 닫기는 끈다
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(sink.outputStream())
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                try {
+                    body.write(generator);
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                generator.close();
+            }
+        };
     }
 
+    private static void writeMemos(JsonGenerator generator, MemoSource memos) throws IOException {
+        generator.writeStartArray();
+        memos.forEach(memo -> {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("localIdx", memo.getLocalIdx());
+                generator.writeStringField("content", memo.getContent());
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndArray();
+    }
+
+    private boolean acquire() {
+        try {
+            return bulkhead.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 응답에 DTO에 없는 필드가 추가돼도 깨지지 않도록
+    private ObjectReader lenientReader(Class<?> responseType) {
+        return objectMapper.readerFor(responseType).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private void record(String path, String outcome, long nanos) {
+        Timer.builder("ai.client.requests")
+                .description("AI server call latency")
+                .tag("endpoint", path)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
 }
@@ -0,0 +1,108 @@
+package com.edison.project.domain.space.service;
+
+import com.edison.project.domain.bubble.service.BubbleCorpusVersionService;
+import com.edison.project.domain.space.dto.SpaceMapResponseDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원별 스페이스 지도 캐시 (Redis)
+ * 값은 "코퍼스 버전\n지도 JSON" 형태로 저장하고, 버전 키와 함께 MGET 한 번으로 읽어
+ * 저장된 버전이 현재 코퍼스 버전과 같을 때만 사용한다.
+ */
+@Component
+@Slf4j
+public class SpaceMapCache {
+
+    private static final String KEY_PREFIX = "space:map:";
+    private static final TypeReference<List<SpaceMapResponseDto.MapResponseDto>> MAP_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public SpaceMapCache(RedisTemplate<String, String> redisTemplate,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${space.map.cache.ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.hits = cacheCounter(meterRegistry, "hit");
+        this.misses = cacheCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * @param version 조회 시점의 코퍼스 버전, Redis를 쓸 수 없으면 null
+     * @param map     현재 버전으로 캐시된 지도, 없으면 null
+     */
+    public record Lookup(String version, List<SpaceMapResponseDto.MapResponseDto> map) {}
+
+    public Lookup get(Long memberId) {
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(
+                    List.of(BubbleCorpusVersionService.versionKey(memberId), mapKey(memberId)));
+        } catch (Exception e) {
+            log.warn("Space map cache lookup failed: {}", e.getMessage());
+            return new Lookup(null, null);
+        }
+        if (values == null) {
+            return new Lookup(null, null);
+        }
+
+        String version = BubbleCorpusVersionService.versionOf(values.get(0));
+        String cached = values.get(1);
+        if (cached != null) {
+            int separator = cached.indexOf('\n');
+            if (separator > 0 && cached.substring(0, separator).equals(version)) {
+                try {
+                    List<SpaceMapResponseDto.MapResponseDto> map =
+                            objectMapper.readValue(cached.substring(separator + 1), MAP_TYPE);
+                    hits.increment();
+                    return new Lookup(version, map);
+                } catch (Exception e) {
+                    log.warn("Discarding unreadable space map cache of member [{}]: {}", memberId, e.getMessage());
+                }
+            }
+        }
+        misses.increment();
+        return new Lookup(version, null);
+    }
+
+    /**
+     * 계산을 시작하기 전에 읽은 버전으로 저장 (계산 중 버블이 바뀌면 버전이 올라가 다음 조회에서 버려진다)
+     */
+    public void put(Long memberId, String version, List<SpaceMapResponseDto.MapResponseDto> map) {
+        if (version == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(mapKey(memberId), version + "\n" + objectMapper.writeValueAsString(map), ttl);
+        } catch (Exception e) {
+            log.warn("Space map cache store failed: {}", e.getMessage());
+        }
+    }
+
+    private static String mapKey(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("space.map.cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,162 @@
+package com.edison.project.domain.space.service;
+
+import com.edison.project.common.exception.GeneralException;
+import com.edison.project.common.status.ErrorStatus;
+import com.edison.project.domain.space.dto.AiResponseDto;
+import com.edison.project.domain.space.dto.SpaceMapResponseDto;
+import com.edison.project.domain.space.service.SpaceMapSnapshotStore.Entry;
+import com.edison.project.domain.space.service.SpaceMapSnapshotStore.Snapshot;
+import com.edison.project.global.util.HashUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 스페이스 지도 좌표 계산
+ * 증분 모드에서는 AI 서버가 마지막 revision의 좌표를 기억하고 있다고 보고, 추가/수정/삭제된 버블만 보낸 뒤
+ * 돌아온 좌표를 저장해 둔 좌표와 합친다. 서버가 revision을 모르면(409) 전체를 다시 보낸다.
+ */
+@Service
+@Slf4j
+public class SpaceMapLayoutService {
+
+    private final AiClient aiClient;
+    private final SpaceMapSnapshotStore snapshotStore;
+    private final boolean incrementalEnabled;
+
+    private final DistributionSummary sentBubbles;
+
+    public SpaceMapLayoutService(AiClient aiClient,
+                                 SpaceMapSnapshotStore snapshotStore,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${ai.server.incremental.enabled:false}") boolean incrementalEnabled) {
+        this.aiClient = aiClient;
+        this.snapshotStore = snapshotStore;
+        this.incrementalEnabled = incrementalEnabled;
+        this.sentBubbles = DistributionSummary.builder("space.map.layout.sent.bubbles")
+                .description("Bubbles sent to the AI layout server per map computation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param memos 버블 공급원, 증분 모드에서는 지문 계산과 바뀐 버블 전송으로 두 번 순회한다
+     *              두 순회는 서로 다른 트랜잭션이라 그 사이 바뀐 버블은 저장된 지문이 실제 내용과 어긋날 수 있지만,
+     *              지문이 다르면 다음 계산에서 다시 보내고 버블 변경은 코퍼스 버전을 올려 재계산을 부르므로 저절로 맞춰진다.
+     */
+    public List<SpaceMapResponseDto.MapResponseDto> layout(Long memberId, AiClient.MemoSource memos) {
+        if (!incrementalEnabled) {
+            int[] count = {0};
+            List<SpaceMapResponseDto.MapResponseDto> map = aiClient.sendToAiServer(action -> memos.forEach(memo -> {
+                        count[0]++;
+                        action.accept(memo);
+                    })).stream()
+                    .map(result -> toDto(result.getLocalIdx(), result.getX(), result.getY()))
+                    .collect(Collectors.toList());
+            sentBubbles.record(count[0]);
+            return map;
+        }
+
+        // 내용은 들고 있지 않고 지문만 남긴다
+        Map<String, String> hashes = new LinkedHashMap<>();
+        memos.forEach(memo -> hashes.put(memo.getLocalIdx(),
+                HashUtil.sha256Hex(memo.getContent() != null ? memo.getContent() : "")));
+
+        Snapshot base = snapshotStore.load(memberId);
+        Snapshot next = base != null ? sendChanges(memberId, memos, hashes, base) : null;
+        if (next == null) {
+            next = sendChanges(memberId, memos, hashes, new Snapshot(null, Map.of()));
+        }
+        if (next == null) {
+            // 기준 없이 보낸 전체 요청까지 거절되면 서버 쪽 문제
+            throw new GeneralException(ErrorStatus.AI_SERVER_UNAVAILABLE);
+        }
+
+        Map<String, Entry> entries = next.entries();
+        return hashes.keySet().stream()
+                .filter(entries::containsKey)
+                .map(localIdx -> toDto(localIdx, entries.get(localIdx).x(), entries.get(localIdx).y()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * base 이후 바뀐 버블만 보내고 새 상태를 저장해 반환, 서버가 base revision을 모르면 null
+     */
+    private Snapshot sendChanges(Long memberId, AiClient.MemoSource memos,
+                                 Map<String, String> hashes, Snapshot base) {
+        Map<String, Entry> previous = base.entries() != null ? base.entries() : Map.of();
+
+        Set<String> upserts = hashes.entrySet().stream()
+                .filter(hash -> {
+                    Entry entry = previous.get(hash.getKey());
+                    return entry == null || !entry.hash().equals(hash.getValue());
+                })
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        List<String> removed = previous.keySet().stream()
+                .filter(localIdx -> !hashes.containsKey(localIdx))
+                .collect(Collectors.toList());
+
+        if (base.revision() != null && upserts.isEmpty() && removed.isEmpty()) {
+            return base;
+        }
+
+        sentBubbles.record(upserts.size());
+        AiResponseDto.AiIncrementalResponseDto response = aiClient.sendIncrementalToAiServer(
+                String.valueOf(memberId),
+                base.revision(),
+                action -> memos.forEach(memo -> {
+                    if (upserts.contains(memo.getLocalIdx())) {
+                        action.accept(memo);
+                    }
+                }),
+                removed);
+        if (response == null) {
+            log.info("AI layout server lost revision {} of member [{}], resending all bubbles", base.revision(), memberId);
+            return null;
+        }
+
+        // 저장된 좌표에서 삭제분을 빼고 서버가 돌려준 좌표로 덮어쓴다
+        Map<String, Entry> merged = new HashMap<>();
+        previous.forEach((localIdx, entry) -> {
+            if (hashes.containsKey(localIdx)) {
+                merged.put(localIdx, new Entry(hashes.get(localIdx), entry.x(), entry.y()));
+            }
+        });
+        Set<String> returned = new HashSet<>();
+        if (response.getPositions() != null) {
+            for (AiResponseDto.AiVectorResponseDto position : response.getPositions()) {
+                if (hashes.containsKey(position.getLocalIdx()) && position.getX() != null && position.getY() != null) {
+                    merged.put(position.getLocalIdx(),
+                            new Entry(hashes.get(position.getLocalIdx()), position.getX(), position.getY()));
+                    returned.add(position.getLocalIdx());
+                }
+            }
+        }
+        // 좌표를 받지 못한 수정분은 다음 계산에서 다시 보내도록 지문을 비워 둔다
+        for (String localIdx : upserts) {
+            Entry entry = merged.get(localIdx);
+            if (entry != null && !returned.contains(localIdx)) {
+                merged.put(localIdx, new Entry("", entry.x(), entry.y()));
+            }
+        }
+
+        Snapshot next = new Snapshot(response.getRevision(), merged);
+        snapshotStore.save(memberId, next);
+        log.debug("Incremental map of member [{}]: {} upserts, {} removed, revision {}",
+                memberId, upserts.size(), removed.size(), response.getRevision());
+        return next;
+    }
+
+    private static SpaceMapResponseDto.MapResponseDto toDto(String localIdx, double x, double y) {
+        return SpaceMapResponseDto.MapResponseDto.builder()
+                .localIdx(localIdx)
+                .x(x)
+                .y(y)
+                .build();
+    }
+}
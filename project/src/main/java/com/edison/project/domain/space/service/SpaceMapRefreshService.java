@@ -0,0 +1,93 @@
+package com.edison.project.domain.space.service;
+
+import com.edison.project.domain.space.dto.SpaceMapResponseDto;
+import com.edison.project.domain.space.repository.SpaceMapJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스페이스 지도 재계산
+ * AI 서버로 좌표를 계산해 spaces 테이블에 반영하고 코퍼스 버전과 함께 캐시한다.
+ * 저장된 지도가 있으면 그 지도를 먼저 내려주고 재계산은 회원당 하나씩 백그라운드에서 돌린다.
+ */
+@Service
+@Slf4j
+public class SpaceMapRefreshService {
+
+    private final SpaceMapLayoutService spaceMapLayoutService;
+    private final SpaceMapJdbcRepository spaceMapJdbcRepository;
+    private final SpaceMapCache spaceMapCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate cursorTransactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    // 재계산 중인 회원 (같은 회원의 중복 요청은 하나로)
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+
+    public SpaceMapRefreshService(SpaceMapLayoutService spaceMapLayoutService,
+                                  SpaceMapJdbcRepository spaceMapJdbcRepository,
+                                  SpaceMapCache spaceMapCache,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier("spaceMapRefreshExecutor") ThreadPoolTaskExecutor executor,
+                                  @Value("${space.map.memo.transaction-timeout-seconds:30}") int cursorTimeoutSeconds) {
+        this.spaceMapLayoutService = spaceMapLayoutService;
+        this.spaceMapJdbcRepository = spaceMapJdbcRepository;
+        this.spaceMapCache = spaceMapCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cursorTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.cursorTransactionTemplate.setReadOnly(true);
+        this.cursorTransactionTemplate.setTimeout(cursorTimeoutSeconds);
+        this.executor = executor;
+    }
+
+    /**
+     * @param version 계산 시작 전에 읽은 코퍼스 버전 (캐시 저장용)
+     */
+    public List<SpaceMapResponseDto.MapResponseDto> compute(Long memberId, String version) {
+        List<SpaceMapResponseDto.MapResponseDto> map = spaceMapLayoutService.layout(memberId, memos(memberId));
+        transactionTemplate.executeWithoutResult(status -> spaceMapJdbcRepository.replaceMap(memberId, map));
+        spaceMapCache.put(memberId, version, map);
+        return map;
+    }
+
+    /**
+     * AI 요청 본문용 버블 공급원
+     * 순회할 때마다 짧은 읽기 트랜잭션을 열어 커서를 읽고 닫으므로, 커넥션은 본문을 올리는 동안만 잡히고
+     * AI 서버가 계산하는 동안에는 풀로 돌아간다. 호출하는 쪽은 트랜잭션 밖이어야 한다 (안이면 그 트랜잭션에 합류).
+     */
+    public AiClient.MemoSource memos(Long memberId) {
+        return action -> cursorTransactionTemplate.executeWithoutResult(status ->
+                spaceMapJdbcRepository.forEachMemo(memberId, action));
+    }
+
+    public void refreshAsync(Long memberId, String version) {
+        if (!refreshing.add(memberId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    compute(memberId, version);
+                } catch (Exception e) {
+                    // AI 서버 장애 중에는 저장된 지도를 계속 쓴다
+                    log.warn("Background space map refresh of member [{}] failed: {}", memberId, e.getMessage());
+                } finally {
+                    refreshing.remove(memberId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshing.remove(memberId);
+            log.warn("Space map refresh queue is full, skipping member [{}]", memberId);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.edison.project.domain.space.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 증분 지도 계산의 기준 상태 (Redis)
+ * AI 서버에 마지막으로 반영된 revision과 버블별 내용 지문/좌표를 저장해 두고,
+ * 다음 계산 때 지문이 달라진 버블과 사라진 버블만 골라 보내는 데 쓴다.
+ */
+@Component
+@Slf4j
+public class SpaceMapSnapshotStore {
+
+    private static final String KEY_PREFIX = "space:map:snapshot:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public SpaceMapSnapshotStore(RedisTemplate<String, String> redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${space.map.snapshot.ttl-days:30}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    public record Entry(String hash, double x, double y) {}
+
+    public record Snapshot(String revision, Map<String, Entry> entries) {}
+
+    /**
+     * 저장된 상태가 없거나 읽을 수 없으면 null (전체 계산)
+     */
+    public Snapshot load(Long memberId) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(memberId));
+            return value != null ? objectMapper.readValue(value, Snapshot.class) : null;
+        } catch (Exception e) {
+            log.warn("Space map snapshot of member [{}] could not be loaded: {}", memberId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void save(Long memberId, Snapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(key(memberId), objectMapper.writeValueAsString(snapshot), ttl);
+        } catch (Exception e) {
+            log.warn("Space map snapshot of member [{}] could not be saved: {}", memberId, e.getMessage());
+        }
+    }
+
+    private static String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
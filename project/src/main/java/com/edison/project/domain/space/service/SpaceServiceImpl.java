@@ -10,6 +10,7 @@ import com.edison.project.domain.space.dto.*;
 import com.edison.project.domain.space.entity.Dataset;
 import org.springframework.http.HttpHeaders;
 import com.edison.project.domain.space.repository.DatasetRepository;
+import com.edison.project.domain.space.repository.SpaceMapJdbcRepository;
 import com.edison.project.domain.space.repository.SpaceRepository;
 import com.edison.project.domain.bubble.entity.Bubble;
 import com.edison.project.domain.bubble.repository.BubbleRepository;
@@ -21,6 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
@@ -45,9 +47,13 @@ public class SpaceServiceImpl implements SpaceService {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final MemberRepository memberRepository;
     private final AiClient aiClient;
+    private final SpaceMapCache spaceMapCache;
+    private final SpaceMapJdbcRepository spaceMapJdbcRepository;
+    private final SpaceMapRefreshService spaceMapRefreshService;
 
     public SpaceServiceImpl(RestTemplate restTemplate, SpaceRepository spaceRepository, DatasetRepository datasetRepository, BubbleRepository bubbleRepository,
-                            MemberRepository memberRepository, MemberService memberService, AiClient aiClient) {
+                            MemberRepository memberRepository, MemberService memberService, AiClient aiClient, SpaceMapCache spaceMapCache,
+                            SpaceMapJdbcRepository spaceMapJdbcRepository, SpaceMapRefreshService spaceMapRefreshService) {
         this.restTemplate = restTemplate;
         this.spaceRepository = spaceRepository;
         this.datasetRepository = datasetRepository;
@@ -55,34 +61,21 @@ public class SpaceServiceImpl implements SpaceService {
         this.memberRepository = memberRepository;
         this.memberService = memberService;
         this.aiClient = aiClient;
+        this.spaceMapCache = spaceMapCache;
+        this.spaceMapJdbcRepository = spaceMapJdbcRepository;
+        this.spaceMapRefreshService = spaceMapRefreshService;
     }
 
-    private SpaceMapRequestDto.MapRequestDto convertToBubbleRequestDto(Bubble bubble) {
-        return SpaceMapRequestDto.MapRequestDto.builder()
-                .localIdx(bubble.getLocalIdx())
-                .content(bubble.getTitle() + bubble.getContent())
-                .build();
-    };
-
+    // AI 서버 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (버블 커서는 본문 업로드 동안만 열림)
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<SpaceMapResponseDto.KeywordResponseDto> mapKeywordBubbles(CustomUserPrincipal userPrincipal, String keyword) {
         Member member = memberRepository.findById(userPrincipal.getMemberId())
                 .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
 
-        List<Bubble> bubbles = bubbleRepository.findByMember_MemberIdAndIsTrashedFalse(member.getMemberId());
-
-        List<SpaceMapRequestDto.MapRequestDto> dtoList = bubbles.stream()
-                .map(this::convertToBubbleRequestDto)
-                .collect(Collectors.toList());
-
-        SpaceSimilarityRequestDto.MapRequestDto request = SpaceSimilarityRequestDto.MapRequestDto
-                .builder()
-                .keyword(keyword)
-                .memos(dtoList)
-                .build();
-
-        AiResponseDto.AiSimilarityResponseDto response = aiClient.sendToSimilarityServer(request);
+        // 버블 목록을 모으지 않고 커서에서 바로 요청 본문으로 흘려 보낸다
+        AiResponseDto.AiSimilarityResponseDto response = aiClient.sendToSimilarityServer(keyword,
+                spaceMapRefreshService.memos(member.getMemberId()));
 
         if (response == null || response.getResults() == null || response.getResults().isEmpty()) {
             throw new GeneralException(ErrorStatus.SIMILAR_BUBBLE_NOT_FOUND);
@@ -97,27 +90,26 @@ public class SpaceServiceImpl implements SpaceService {
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<SpaceMapResponseDto.MapResponseDto> mapBubbles(CustomUserPrincipal userPrincipal) {
 
+        // 버블이 바뀌지 않았으면 캐시된 지도를 그대로 (AI 서버 호출 없음)
+        SpaceMapCache.Lookup cached = spaceMapCache.get(userPrincipal.getMemberId());
+        if (cached.map() != null) {
+            return cached.map();
+        }
+
         Member member = memberRepository.findById(userPrincipal.getMemberId())
                 .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
 
-        List<Bubble> bubbles = bubbleRepository.findByMember_MemberIdAndIsTrashedFalse(member.getMemberId());
-
-        List<SpaceMapRequestDto.MapRequestDto> dtoList = bubbles.stream()
-                .map(this::convertToBubbleRequestDto)
-                .collect(Collectors.toList());
-
-        List<AiResponseDto.AiVectorResponseDto> aiResults = aiClient.sendToAiServer(dtoList);
+        // 저장된 지도가 있으면 바로 내려주고 최신 버블 기준 재계산은 백그라운드로 (AI 서버 장애 중에도 지도 유지)
+        List<SpaceMapResponseDto.MapResponseDto> stored = spaceMapJdbcRepository.findMap(member.getMemberId());
+        if (!stored.isEmpty()) {
+            spaceMapRefreshService.refreshAsync(member.getMemberId(), cached.version());
+            return stored;
+        }
 
-        return aiResults.stream()
-                .map(result -> SpaceMapResponseDto.MapResponseDto.builder()
-                        .localIdx(result.getLocalIdx())
-                        .x(result.getX())
-                        .y(result.getY())
-                        .build())
-                .collect(Collectors.toList());
+        return spaceMapRefreshService.compute(member.getMemberId(), cached.version());
     }
 
     @Override
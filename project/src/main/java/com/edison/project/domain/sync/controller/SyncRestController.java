@@ -0,0 +1,33 @@
+package com.edison.project.domain.sync.controller;
+
+import com.edison.project.common.response.Response;
+import com.edison.project.common.status.SuccessStatus;
+import com.edison.project.domain.sync.dto.SyncResponseDto;
+import com.edison.project.domain.sync.service.SyncService;
+import com.edison.project.global.security.CustomUserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Sync", description = "증분 sync API")
+@RestController
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+public class SyncRestController {
+    private final SyncService syncService;
+
+    @Operation(summary = "변경분 조회", description = "cursor 이후 서버에서 바뀐 버블, 라벨과 하드 삭제 기록을 조회합니다. cursor 없이 호출하면 전체를 처음부터 받고, 응답의 nextCursor를 다음 요청에 전달합니다. hasMore가 false가 될 때까지 반복합니다.")
+    @GetMapping("/changes")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Response> getChanges(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        SyncResponseDto.ChangesResultDto result = syncService.getChanges(userPrincipal, cursor, size);
+        return Response.onSuccess(SuccessStatus._OK, result);
+    }
+}
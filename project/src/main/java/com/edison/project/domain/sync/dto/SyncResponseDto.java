@@ -0,0 +1,30 @@
+package com.edison.project.domain.sync.dto;
+
+import com.edison.project.domain.bubble.dto.BubbleResponseDto;
+import com.edison.project.domain.label.dto.LabelResponseDTO;
+import com.edison.project.domain.sync.entity.SyncEntityType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SyncResponseDto {
+
+    public record TombstoneDto(
+            SyncEntityType entityType,
+            String localIdx,
+            LocalDateTime deletedAt
+    ) {}
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChangesResultDto {
+        private List<BubbleResponseDto.SyncResultDto> bubbles;       // 생성/수정/휴지통 이동된 버블
+        private List<LabelResponseDTO.LabelSyncResponseDTO> labels;
+        private List<TombstoneDto> tombstones;                       // 하드 삭제된 버블/라벨
+        private String nextCursor;                                   // 다음 요청에 그대로 전달
+        private boolean hasMore;
+    }
+}
@@ -0,0 +1,5 @@
+package com.edison.project.domain.sync.entity;
+
+public enum SyncEntityType {
+    BUBBLE, LABEL
+}
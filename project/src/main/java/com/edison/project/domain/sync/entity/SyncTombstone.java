@@ -0,0 +1,53 @@
+package com.edison.project.domain.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 하드 삭제 기록, 증분 sync에서 클라이언트에 삭제를 전달하는 데 사용
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "sync_tombstone", indexes = {
+        @Index(name = "idx_sync_tombstone_member_deleted", columnList = "member_id, deleted_at, tombstone_id")})
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tombstone_id")
+    private Long tombstoneId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(name = "local_idx", nullable = false, length = 50)
+    private String localIdx;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Builder
+    public SyncTombstone(Long memberId, SyncEntityType entityType, String localIdx, LocalDateTime deletedAt) {
+        this.memberId = memberId;
+        this.entityType = entityType;
+        this.localIdx = localIdx;
+        this.deletedAt = deletedAt;
+    }
+
+    public static SyncTombstone of(Long memberId, SyncEntityType entityType, String localIdx) {
+        return SyncTombstone.builder()
+                .memberId(memberId)
+                .entityType(entityType)
+                .localIdx(localIdx)
+                .deletedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .build();
+    }
+}
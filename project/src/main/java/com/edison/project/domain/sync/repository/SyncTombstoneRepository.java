@@ -0,0 +1,39 @@
+package com.edison.project.domain.sync.repository;
+
+import com.edison.project.domain.sync.entity.SyncTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    // 커서 이후 삭제 기록 (같은 localIdx로 다시 만들어진 엔티티는 제외)
+    @Query(value = "SELECT t.* FROM sync_tombstone t " +
+            "WHERE t.member_id = :memberId " +
+            "AND t.deleted_at <= :until " +
+            "AND (t.deleted_at > :afterTime OR (t.deleted_at = :afterTime AND t.tombstone_id > :afterId)) " +
+            "AND NOT (t.entity_type = 'BUBBLE' AND EXISTS (" +
+            "SELECT 1 FROM bubble b WHERE b.member_id = t.member_id AND b.local_idx = t.local_idx)) " +
+            "AND NOT (t.entity_type = 'LABEL' AND EXISTS (" +
+            "SELECT 1 FROM label l WHERE l.member_id = t.member_id AND l.local_idx = t.local_idx)) " +
+            "ORDER BY t.deleted_at, t.tombstone_id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<SyncTombstone> findChanges(
+            @Param("memberId") Long memberId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until,
+            @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :threshold")
+    int deleteByDeletedAtBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,12 @@
+package com.edison.project.domain.sync.service;
+
+import com.edison.project.domain.sync.dto.SyncResponseDto;
+import com.edison.project.global.security.CustomUserPrincipal;
+
+public interface SyncService {
+
+    /**
+     * 커서 이후 서버에서 바뀐 버블, 라벨, 삭제 기록 조회 (cursor가 없으면 처음부터)
+     */
+    SyncResponseDto.ChangesResultDto getChanges(CustomUserPrincipal userPrincipal, String cursor, int size);
+}
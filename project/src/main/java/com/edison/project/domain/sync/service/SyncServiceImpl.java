@@ -0,0 +1,168 @@
+package com.edison.project.domain.sync.service;
+
+import com.edison.project.common.exception.GeneralException;
+import com.edison.project.common.status.ErrorStatus;
+import com.edison.project.domain.bubble.dto.BubbleResponseDto;
+import com.edison.project.domain.bubble.entity.Bubble;
+import com.edison.project.domain.bubble.entity.BubbleBacklink;
+import com.edison.project.domain.bubble.repository.BubbleRepository;
+import com.edison.project.domain.label.dto.LabelResponseDTO;
+import com.edison.project.domain.label.entity.Label;
+import com.edison.project.domain.label.repository.LabelRepository;
+import com.edison.project.domain.sync.dto.SyncResponseDto;
+import com.edison.project.domain.sync.entity.SyncTombstone;
+import com.edison.project.domain.sync.repository.SyncTombstoneRepository;
+import com.edison.project.global.security.CustomUserPrincipal;
+import com.edison.project.global.util.CursorUtil;
+import com.edison.project.global.util.CursorUtil.Position;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 증분 sync: 버블, 라벨, 삭제 기록을 각각 (서버 변경 시각, id) keyset으로 읽고 세 위치를 하나의 커서로 묶어 돌려준다.
+ * 늦게 커밋되는 트랜잭션의 변경을 건너뛰지 않도록 commit-lag 이전까지만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncServiceImpl implements SyncService {
+
+    private static final int CURSOR_POSITIONS = 3;
+
+    private final BubbleRepository bubbleRepository;
+    private final LabelRepository labelRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+
+    @Value("${sync.changes.max-size:500}")
+    private int maxSize;
+
+    // 이 시간보다 최근 변경은 아직 커밋되지 않은 트랜잭션과 순서가 섞일 수 있어 다음 요청으로 미룸
+    // 쓰는 쪽은 sync 시각을 커밋 직전에 찍으므로 (JPA flush, BubbleBatchSyncService) 찍은 뒤 커밋까지의 간격만 덮으면 된다
+    @Value("${sync.changes.commit-lag-ms:2000}")
+    private long commitLagMs;
+
+    @Value("${sync.tombstone.retention-days:90}")
+    private long retentionDays;
+
+    @Override
+    public SyncResponseDto.ChangesResultDto getChanges(CustomUserPrincipal userPrincipal, String cursor, int size) {
+        Long memberId = userPrincipal.getMemberId();
+        int limit = Math.max(1, Math.min(size, maxSize));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(commitLagMs, ChronoUnit.MILLIS).truncatedTo(ChronoUnit.MICROS);
+
+        Position bubblePosition;
+        Position labelPosition;
+        Position tombstonePosition;
+        if (cursor == null || cursor.isBlank()) {
+            // 처음 받는 클라이언트는 삭제 기록이 필요 없으므로 지금부터 추적
+            bubblePosition = Position.START;
+            labelPosition = Position.START;
+            tombstonePosition = new Position(until, 0L);
+        } else {
+            List<Position> positions = decodeCursor(cursor);
+            bubblePosition = positions.get(0);
+            labelPosition = positions.get(1);
+            tombstonePosition = positions.get(2);
+            if (tombstonePosition.time().isBefore(now.minusDays(retentionDays))) {
+                // 보관 기간이 지난 삭제 기록은 정리되었으므로 전체를 다시 받아야 함
+                throw new GeneralException(ErrorStatus.SYNC_CURSOR_EXPIRED);
+            }
+        }
+
+        List<Bubble> bubbles = bubbleRepository.findChangesAfter(
+                memberId, bubblePosition.time(), bubblePosition.id(), until, PageRequest.of(0, limit + 1));
+        List<Label> labels = labelRepository.findChangesAfter(
+                memberId, labelPosition.time(), labelPosition.id(), until, PageRequest.of(0, limit + 1));
+        List<SyncTombstone> tombstones = syncTombstoneRepository.findChanges(
+                memberId, tombstonePosition.time(), tombstonePosition.id(), until, limit + 1);
+
+        boolean moreTombstones = tombstones.size() > limit;
+        boolean hasMore = bubbles.size() > limit || labels.size() > limit || moreTombstones;
+        bubbles = bubbles.subList(0, Math.min(bubbles.size(), limit));
+        labels = labels.subList(0, Math.min(labels.size(), limit));
+        tombstones = tombstones.subList(0, Math.min(tombstones.size(), limit));
+
+        if (!bubbles.isEmpty()) {
+            Bubble last = bubbles.get(bubbles.size() - 1);
+            bubblePosition = new Position(last.getServerUpdatedAt(), last.getBubbleId());
+        }
+        if (!labels.isEmpty()) {
+            Label last = labels.get(labels.size() - 1);
+            labelPosition = new Position(last.getServerUpdatedAt(), last.getLabelId());
+        }
+        if (!tombstones.isEmpty()) {
+            SyncTombstone last = tombstones.get(tombstones.size() - 1);
+            tombstonePosition = new Position(last.getDeletedAt(), last.getTombstoneId());
+        }
+        if (!moreTombstones && tombstonePosition.time().isBefore(until)) {
+            // until까지의 삭제 기록은 모두 받았으므로 처음 커서처럼 until로 옮긴다
+            // (삭제가 없는 회원의 커서가 첫 sync 시각에 머물러 보관 기간 뒤 만료로 판정되지 않도록)
+            tombstonePosition = new Position(until, 0L);
+        }
+
+        return SyncResponseDto.ChangesResultDto.builder()
+                .bubbles(bubbles.stream().map(this::toBubbleDto).collect(Collectors.toList()))
+                .labels(labels.stream().map(this::toLabelDto).collect(Collectors.toList()))
+                .tombstones(tombstones.stream()
+                        .map(t -> new SyncResponseDto.TombstoneDto(t.getEntityType(), t.getLocalIdx(), t.getDeletedAt()))
+                        .collect(Collectors.toList()))
+                .nextCursor(CursorUtil.encode(bubblePosition, labelPosition, tombstonePosition))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private List<Position> decodeCursor(String cursor) {
+        try {
+            return CursorUtil.decode(cursor, CURSOR_POSITIONS);
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(ErrorStatus.INVALID_SYNC_CURSOR);
+        }
+    }
+
+    private BubbleResponseDto.SyncResultDto toBubbleDto(Bubble bubble) {
+        return BubbleResponseDto.SyncResultDto.builder()
+                .localIdx(bubble.getLocalIdx())
+                .title(bubble.getTitle())
+                .content(bubble.getContent())
+                .mainImageUrl(bubble.getMainImg())
+                .labels(bubble.getLabels().stream()
+                        .map(bl -> LabelResponseDTO.LabelSimpleInfoDto.builder()
+                                .localIdx(bl.getLabel().getLocalIdx())
+                                .name(bl.getLabel().getName())
+                                .color(bl.getLabel().getColor())
+                                .build())
+                        .collect(Collectors.toList()))
+                .backlinkIdxs(bubble.getBacklinks().stream()
+                        .map(BubbleBacklink::getBacklinkBubble)
+                        .map(Bubble::getLocalIdx)
+                        .collect(Collectors.toSet()))
+                .isTrashed(bubble.isTrashed())
+                .isDeleted(false)
+                .createdAt(bubble.getCreatedAt())
+                .updatedAt(bubble.getUpdatedAt())
+                .deletedAt(bubble.getDeletedAt())
+                .build();
+    }
+
+    private LabelResponseDTO.LabelSyncResponseDTO toLabelDto(Label label) {
+        return LabelResponseDTO.LabelSyncResponseDTO.builder()
+                .localIdx(label.getLocalIdx())
+                .name(label.getName())
+                .color(label.getColor())
+                .isDeleted(false)
+                .createdAt(label.getCreatedAt())
+                .updatedAt(label.getUpdatedAt())
+                .deletedAt(label.getDeletedAt())
+                .build();
+    }
+}
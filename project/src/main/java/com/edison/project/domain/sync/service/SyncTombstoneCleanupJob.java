@@ -0,0 +1,35 @@
+package com.edison.project.domain.sync.service;
+
+import com.edison.project.domain.sync.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 삭제 기록 정리
+ * 이보다 오래된 커서로 요청하면 SYNC_CURSOR_EXPIRED로 전체 재동기화를 안내한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyncTombstoneCleanupJob {
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+
+    @Value("${sync.tombstone.retention-days:90}")
+    private long retentionDays;
+
+    @Scheduled(cron = "${sync.tombstone.cleanup-cron:0 30 4 * * *}")
+    @Transactional
+    public void purgeExpiredTombstones() {
+        int deleted = syncTombstoneRepository.deleteByDeletedAtBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} expired sync tombstones", deleted);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.edison.project.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${bubble.vectorize.job.pool-size:2}")
+    private int poolSize;
+
+    @Value("${bubble.vectorize.job.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${space.map.refresh.pool-size:2}")
+    private int mapRefreshPoolSize;
+
+    @Value("${space.map.refresh.queue-capacity:50}")
+    private int mapRefreshQueueCapacity;
+
+    @Value("${bubble.projection.refresh.pool-size:1}")
+    private int projectionRefreshPoolSize;
+
+    @Value("${bubble.projection.refresh.queue-capacity:50}")
+    private int projectionRefreshQueueCapacity;
+
+    // 전체 벡터화 작업 전용 스레드 풀 (요청 스레드와 분리)
+    // 대기열이 가득 차면 RejectedExecutionException → 작업 접수 거절
+    @Bean(name = "vectorizeJobExecutor")
+    public ThreadPoolTaskExecutor vectorizeJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("vectorize-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 스페이스 지도 백그라운드 재계산 (AI 서버 호출이 요청 스레드를 잡지 않도록)
+    // 대기열이 가득 차면 재계산을 건너뛰고 저장된 지도를 계속 사용
+    @Bean(name = "spaceMapRefreshExecutor")
+    public ThreadPoolTaskExecutor spaceMapRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mapRefreshPoolSize);
+        executor.setMaxPoolSize(mapRefreshPoolSize);
+        executor.setQueueCapacity(mapRefreshQueueCapacity);
+        executor.setThreadNamePrefix("space-map-refresh-");
+        return executor;
+    }
+
+    // 버블 좌표 전체 재학습 (PCA + 링크 배치가 요청 트랜잭션을 잡지 않도록)
+    // 대기열이 가득 차면 건너뛰고 주기 작업에서 다시 재학습
+    @Bean(name = "projectionRefreshExecutor")
+    public ThreadPoolTaskExecutor projectionRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(projectionRefreshPoolSize);
+        executor.setMaxPoolSize(projectionRefreshPoolSize);
+        executor.setQueueCapacity(projectionRefreshQueueCapacity);
+        executor.setThreadNamePrefix("projection-refresh-");
+        return executor;
+    }
+}
@@ -0,0 +1,42 @@
+package com.edison.project.global.config;
+
+import com.edison.project.domain.bubble.service.CachingEmbeddingService;
+import com.edison.project.domain.bubble.service.EmbeddingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class EmbeddingConfig {
+
+    @Value("${embedding.cache.local-max-entries:10000}")
+    private int localMaxEntries;
+
+    @Value("${embedding.cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${embedding.cache.redis.ttl-days:30}")
+    private long redisTtlDays;
+
+    // 서비스에서 주입받는 EmbeddingService는 캐시 데코레이터
+    // 실제 제공자는 embedding.provider(openai | local)로 선택
+    @Bean
+    @Primary
+    public EmbeddingService embeddingService(@Qualifier("embeddingProvider") EmbeddingService embeddingProvider,
+                                             RedisTemplate<String, String> redisTemplate,
+                                             MeterRegistry meterRegistry) {
+        return new CachingEmbeddingService(
+                embeddingProvider,
+                localMaxEntries,
+                redisEnabled ? redisTemplate : null,
+                Duration.ofDays(redisTtlDays),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package com.edison.project.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * keyset 페이지네이션 커서 (시각, id) 목록을 불투명한 문자열로 인코딩
+ * 시각은 DB timestamp 정밀도에 맞춰 마이크로초 단위로 저장한다.
+ */
+public final class CursorUtil {
+
+    private CursorUtil() {
+    }
+
+    public record Position(LocalDateTime time, long id) {
+        public static final Position START = new Position(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+    }
+
+    public static String encode(Position... positions) {
+        StringBuilder raw = new StringBuilder();
+        for (Position position : positions) {
+            if (!raw.isEmpty()) {
+                raw.append(',');
+            }
+            raw.append(ChronoUnit.MICROS.between(Position.START.time(), position.time()))
+                    .append(':')
+                    .append(position.id());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식이 맞지 않으면 IllegalArgumentException
+    public static List<Position> decode(String cursor, int expectedCount) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split(",");
+        if (parts.length != expectedCount) {
+            throw new IllegalArgumentException("Unexpected cursor length: " + parts.length);
+        }
+
+        List<Position> positions = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            String[] fields = part.split(":");
+            if (fields.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor position: " + part);
+            }
+            long micros = Long.parseLong(fields[0]);
+            LocalDateTime time = LocalDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC);
+            positions.add(new Position(time, Long.parseLong(fields[1])));
+        }
+        return positions;
+    }
+}
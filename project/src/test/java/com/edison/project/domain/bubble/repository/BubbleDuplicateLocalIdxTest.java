@@ -0,0 +1,112 @@
+package com.edison.project.domain.bubble.repository;
+
+import com.edison.project.domain.bubble.entity.Bubble;
+import com.edison.project.domain.member.entity.Member;
+import com.edison.project.support.PgvectorContainerSupport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * JPA 저장 경로에서 중복 local_idx가 어떤 예외로 번역되는지 확인
+ * JdbcTemplate과 달리 DuplicateKeyException이 아니라 DataIntegrityViolationException으로 오므로
+ * 제약 이름으로 중복을 구분해야 createBubble이 BUBBLE_ALREADY_EXISTS를 돌려줄 수 있다.
+ */
+class BubbleDuplicateLocalIdxTest extends PgvectorContainerSupport {
+
+    private static EntityManagerFactory entityManagerFactory;
+    private static long memberId;
+
+    @BeforeAll
+    static void setUp() {
+        DataSource dataSource = createDataSource();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS vector");
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.edison.project");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        new BubbleQueryIndexManager(jdbcTemplate, true).ensureIndexes();
+        memberId = jdbcTemplate.queryForObject(
+                "INSERT INTO member (email, role, is_deleted, created_at, updated_at) " +
+                        "VALUES ('dup@edison.test', 'ROLE_USER', false, now(), now()) RETURNING member_id",
+                Long.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void duplicateLocalIdxThroughJpaIsRecognised() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Member member = entityManager.getReference(Member.class, memberId);
+            entityManager.persist(bubble(member, "b-1"));
+
+            // IDENTITY 키라 persist 시점에 INSERT가 나간다
+            Throwable thrown = catchThrowable(() -> entityManager.persist(bubble(member, "b-1")));
+            DataAccessException translated = new HibernateJpaDialect().translateExceptionIfPossible((RuntimeException) thrown);
+
+            assertThat(translated).isInstanceOf(DataIntegrityViolationException.class)
+                    .isNotInstanceOf(DuplicateKeyException.class);
+            assertThat(BubbleQueryIndexManager.isDuplicateLocalIdx(translated)).isTrue();
+        } finally {
+            entityManager.getTransaction().rollback();
+            entityManager.close();
+        }
+    }
+
+    @Test
+    void otherIntegrityViolationsAreNotDuplicates() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            // 없는 회원을 가리키는 외래 키 위반
+            Member missing = entityManager.getReference(Member.class, memberId + 1_000);
+
+            Throwable thrown = catchThrowable(() -> entityManager.persist(bubble(missing, "b-2")));
+            DataAccessException translated = new HibernateJpaDialect().translateExceptionIfPossible((RuntimeException) thrown);
+
+            assertThat(translated).isInstanceOf(DataIntegrityViolationException.class);
+            assertThat(BubbleQueryIndexManager.isDuplicateLocalIdx(translated)).isFalse();
+        } finally {
+            entityManager.getTransaction().rollback();
+            entityManager.close();
+        }
+    }
+
+    private static Bubble bubble(Member member, String localIdx) {
+        return Bubble.builder()
+                .member(member)
+                .localIdx(localIdx)
+                .title("title " + localIdx)
+                .content("content")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.edison.project.domain.bubble.repository;
+
+import com.edison.project.support.PgvectorContainerSupport;
+import com.edison.project.support.StatementCountingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * sync 수정 경로의 백링크/라벨 diff가 링크 수와 관계없이 일정한 수의 SQL만 보내는지 확인
+ */
+class BubbleLinkDiffStatementCountTest extends PgvectorContainerSupport {
+
+    private static final long MEMBER_ID = 1L;
+    private static final int BUBBLES = 400;
+    private static final int LABELS = 6;
+    private static final int MAX_STATEMENTS = 6;
+
+    private StatementCountingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private BubbleSyncJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new StatementCountingDataSource(createDataSource());
+        runScript(dataSource, "sql/bubble-link-schema.sql");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new BubbleSyncJdbcRepository(jdbcTemplate);
+
+        jdbcTemplate.update("INSERT INTO bubble (local_idx, member_id, title) " +
+                "SELECT 'b' || g, ?, 'bubble ' || g FROM generate_series(1, ?) g", MEMBER_ID, BUBBLES);
+        jdbcTemplate.update("INSERT INTO label (local_idx, member_id) " +
+                "SELECT 'l' || g, ? FROM generate_series(1, ?) g", MEMBER_ID, LABELS);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithLinkCount() {
+        long small = 1L;
+        linkTo(small, range(10, 15));
+        dataSource.reset();
+        repository.applyLinkDiff(small, range(12, 20), Set.of(1L, 2L));
+        int smallDiff = dataSource.getExecutionCount();
+
+        long large = 2L;
+        linkTo(large, range(10, 200));
+        dataSource.reset();
+        repository.applyLinkDiff(large, range(100, 400), Set.of(1L, 2L, 3L));
+        int largeDiff = dataSource.getExecutionCount();
+
+        assertThat(smallDiff).isEqualTo(largeDiff);
+        assertThat(largeDiff).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(backlinkTargets(large)).isEqualTo(range(100, 400));
+        assertThat(labelIds(large)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void unchangedLinksOnlyReadAndRefresh() {
+        long bubbleId = 3L;
+        linkTo(bubbleId, range(50, 80));
+        repository.applyLinkDiff(bubbleId, range(50, 80), Set.of(4L));
+
+        dataSource.reset();
+        repository.applyLinkDiff(bubbleId, range(50, 80), Set.of(4L));
+
+        assertThat(dataSource.getExecutionCount()).isEqualTo(2);
+        assertThat(backlinkTargets(bubbleId)).isEqualTo(range(50, 80));
+    }
+
+    @Test
+    void removesAllLinksWhenRequestIsEmpty() {
+        long bubbleId = 4L;
+        linkTo(bubbleId, range(20, 30));
+        repository.applyLinkDiff(bubbleId, range(20, 30), Set.of(1L, 5L));
+
+        repository.applyLinkDiff(bubbleId, Set.of(), Set.of());
+
+        assertThat(backlinkTargets(bubbleId)).isEmpty();
+        assertThat(labelIds(bubbleId)).isEmpty();
+    }
+
+    @Test
+    void linkTrashFlagFollowsBothEnds() {
+        long source = 5L;
+        long trashedTarget = 6L;
+        long liveTarget = 7L;
+        long referrer = 8L;
+        jdbcTemplate.update("UPDATE bubble SET is_trashed = true WHERE bubble_id IN (?, ?)", trashedTarget, source);
+        jdbcTemplate.update("INSERT INTO bubble_backlink (bubble_id, backlink_bubble_id, is_trashed) VALUES (?, ?, false)",
+                referrer, source);
+
+        repository.applyLinkDiff(source, Set.of(trashedTarget, liveTarget), Set.of());
+
+        assertThat(isTrashed(source, trashedTarget)).isTrue();
+        assertThat(isTrashed(source, liveTarget)).isTrue();
+        assertThat(isTrashed(referrer, source)).isTrue();
+
+        jdbcTemplate.update("UPDATE bubble SET is_trashed = false WHERE bubble_id = ?", source);
+        repository.applyLinkDiff(source, Set.of(trashedTarget, liveTarget), Set.of());
+
+        assertThat(isTrashed(source, trashedTarget)).isTrue();
+        assertThat(isTrashed(source, liveTarget)).isFalse();
+        assertThat(isTrashed(referrer, source)).isFalse();
+    }
+
+    @Test
+    void batchReplaceBacklinksMatchesSingleDiff() {
+        long single = 9L;
+        long batchA = 10L;
+        long batchB = 11L;
+        linkTo(single, range(20, 40));
+        linkTo(batchA, range(20, 40));
+        linkTo(batchB, range(50, 60));
+
+        repository.applyLinkDiff(single, range(30, 45), Set.of());
+        dataSource.reset();
+        repository.replaceBacklinks(Map.of(batchA, range(30, 45), batchB, Set.of()));
+
+        assertThat(dataSource.getExecutionCount()).isLessThanOrEqualTo(2);
+        assertThat(backlinkTargets(batchA)).isEqualTo(backlinkTargets(single)).isEqualTo(range(30, 45));
+        assertThat(backlinkTargets(batchB)).isEmpty();
+    }
+
+    private void linkTo(long bubbleId, Set<Long> targets) {
+        List<Object[]> rows = targets.stream()
+                .map(target -> new Object[]{bubbleId, target})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO bubble_backlink (bubble_id, backlink_bubble_id, is_trashed) VALUES (?, ?, false)", rows);
+    }
+
+    private Set<Long> backlinkTargets(long bubbleId) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT backlink_bubble_id FROM bubble_backlink WHERE bubble_id = ?", Long.class, bubbleId));
+    }
+
+    private List<Long> labelIds(long bubbleId) {
+        return jdbcTemplate.queryForList("SELECT label_id FROM bubble_label WHERE bubble_id = ?", Long.class, bubbleId);
+    }
+
+    private boolean isTrashed(long bubbleId, long targetId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT is_trashed FROM bubble_backlink WHERE bubble_id = ? AND backlink_bubble_id = ?",
+                Boolean.class, bubbleId, targetId));
+    }
+
+    private static Set<Long> range(long fromInclusive, long toExclusive) {
+        return LongStream.range(fromInclusive, toExclusive).boxed().collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,144 @@
+package com.edison.project.domain.bubble.repository;
+
+import com.edison.project.support.PgvectorContainerSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 자주 쓰는 bubble 조회가 BubbleQueryIndexManager의 인덱스를 타는지 EXPLAIN으로 확인
+ * 인덱스나 쿼리 조건이 바뀌어 순차 탐색으로 돌아가면 실패한다.
+ */
+class BubbleQueryIndexPlanTest extends PgvectorContainerSupport {
+
+    private static final int MEMBERS = 200;
+    private static final int BUBBLES = 50_000;
+    private static final long MEMBER_ID = 7L;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        DataSource dataSource = createDataSource();
+        runScript(dataSource, "sql/bubble-query-index-schema.sql");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 회원당 250개씩 연속 구간, 10%는 휴지통, 5%는 임베딩 갱신 대상, 1/3은 2D 좌표 있음
+        jdbcTemplate.update(
+                "INSERT INTO bubble (local_idx, member_id, title, content, is_trashed, created_at, updated_at, " +
+                        "deleted_at, embedding_2d_x, embedding_2d_y, embedding_stale) " +
+                        "SELECT 'b-' || g, (g / ?) + 1, 'title ' || g, 'content ' || g, g % 10 = 0, " +
+                        "now() - (g % 1000) * interval '1 hour', now() - (g % 500) * interval '1 hour', " +
+                        "CASE WHEN g % 10 = 0 THEN now() - (g % 60) * interval '1 day' END, " +
+                        "CASE WHEN g % 3 = 0 THEN g * 0.001 END, CASE WHEN g % 3 = 0 THEN g * 0.002 END, " +
+                        "g % 20 = 1 " +
+                        "FROM generate_series(0, ? - 1) g",
+                BUBBLES / MEMBERS, BUBBLES);
+
+        new BubbleQueryIndexManager(jdbcTemplate, true).ensureIndexes();
+        jdbcTemplate.execute("ANALYZE bubble");
+    }
+
+    @Test
+    void singleBubbleLookupUsesUniqueIndex() {
+        assertUsesIndex(BubbleQueryIndexManager.MEMBER_LOCAL_IDX_UNIQUE,
+                "SELECT * FROM bubble WHERE member_id = ? AND local_idx = ? AND is_trashed = false",
+                MEMBER_ID, "b-1506");
+    }
+
+    @Test
+    void activeListByCreatedAtUsesTrashedCreatedIndex() {
+        assertUsesIndex(BubbleQueryIndexManager.MEMBER_TRASHED_CREATED_INDEX,
+                "SELECT bubble_id, title FROM bubble WHERE member_id = ? AND is_trashed = false " +
+                        "ORDER BY created_at DESC, bubble_id DESC LIMIT 20 OFFSET 0",
+                MEMBER_ID);
+    }
+
+    @Test
+    void trashListByDeletedAtUsesPartialIndex() {
+        assertUsesIndex(BubbleQueryIndexManager.MEMBER_DELETED_INDEX,
+                "SELECT bubble_id, title FROM bubble WHERE member_id = ? AND is_trashed = true " +
+                        "ORDER BY deleted_at ASC, bubble_id ASC LIMIT 20 OFFSET 0",
+                MEMBER_ID);
+    }
+
+    @Test
+    void staleBubbleIdsUsePartialIndex() {
+        assertUsesIndex(BubbleQueryIndexManager.MEMBER_STALE_INDEX,
+                "SELECT bubble_id FROM bubble WHERE member_id = ? AND is_trashed = false " +
+                        "AND embedding_stale = true ORDER BY bubble_id",
+                MEMBER_ID);
+    }
+
+    @Test
+    void projectedBubblesUsePartialIndex() {
+        assertUsesIndex(BubbleQueryIndexManager.MEMBER_PROJECTED_INDEX,
+                "SELECT local_idx, title, embedding_2d_x, embedding_2d_y, created_at FROM bubble " +
+                        "WHERE member_id = ? AND is_trashed = false " +
+                        "AND embedding_2d_x IS NOT NULL AND embedding_2d_y IS NOT NULL LIMIT 100",
+                MEMBER_ID);
+    }
+
+    @Test
+    void expiredTrashLookupUsesExpiryIndex() {
+        assertUsesIndex(BubbleQueryIndexManager.TRASH_EXPIRY_INDEX,
+                "SELECT bubble_id FROM bubble WHERE is_trashed = true AND deleted_at < ? " +
+                        "ORDER BY deleted_at, bubble_id LIMIT 500 FOR UPDATE SKIP LOCKED",
+                LocalDateTime.now().minusDays(30));
+    }
+
+    @Test
+    void supersededIndexesAreDropped() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'bubble'", String.class);
+
+        assertThat(indexes).doesNotContain(
+                "idx_bubble_member_id", "idx_bubble_local_idx",
+                "idx_bubble_member_embedding_stale", "idx_bubble_trashed_deleted_at");
+    }
+
+    @Test
+    void duplicateLocalIdxIsRejected() {
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO bubble (local_idx, member_id, title, created_at, updated_at) " +
+                        "VALUES (?, ?, 'dup', now(), now())",
+                "b-1506", MEMBER_ID))
+                .isInstanceOf(DuplicateKeyException.class)
+                .satisfies(e -> assertThat(BubbleQueryIndexManager.isDuplicateLocalIdx(e)).isTrue());
+    }
+
+    private static void assertUsesIndex(String indexName, String sql, Object... params) {
+        String json = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, params);
+        List<JsonNode> nodes = new ArrayList<>();
+        try {
+            collectPlanNodes(OBJECT_MAPPER.readTree(json).get(0).get("Plan"), nodes);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan: " + json, e);
+        }
+
+        assertThat(nodes)
+                .as("plan of [%s]: %s", sql, json)
+                .anySatisfy(node -> assertThat(node.path("Index Name").asText()).isEqualTo(indexName))
+                .noneSatisfy(node -> assertThat(node.path("Node Type").asText()).isEqualTo("Seq Scan"));
+    }
+
+    private static void collectPlanNodes(JsonNode plan, List<JsonNode> nodes) {
+        nodes.add(plan);
+        for (JsonNode child : plan.path("Plans")) {
+            collectPlanNodes(child, nodes);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.edison.project.domain.bubble.repository;
+
+import com.edison.project.support.PgvectorContainerSupport;
+import com.pgvector.PGvector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ANN 인덱스(HNSW / IVFFlat) 검색 결과의 재현율을 정확 탐색(전수 코사인 비교)과 비교
+ */
+class BubbleVectorSearchRecallTest extends PgvectorContainerSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(BubbleVectorSearchRecallTest.class);
+
+    private static final int DIMENSION = 1536;
+    private static final long LARGE_MEMBER = 1L;
+    private static final long SMALL_MEMBER = 2L;
+    private static final int LARGE_MEMBER_BUBBLES = 2000;
+    private static final int SMALL_MEMBER_BUBBLES = 30;
+    private static final int CLUSTERS = 40;
+    private static final int QUERIES = 30;
+    private static final int K = 10;
+    private static final double MIN_RECALL = 0.9;
+
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static Map<Long, List<float[]>> vectorsByMember;
+    private static List<float[]> queries;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = createDataSource();
+        runScript(dataSource, "sql/bubble-vector-schema.sql");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        SplittableRandom random = new SplittableRandom(20240601L);
+        float[][] centers = new float[CLUSTERS][];
+        for (int c = 0; c < CLUSTERS; c++) {
+            centers[c] = randomUnitVector(random, null, 0.0);
+        }
+
+        vectorsByMember = new HashMap<>();
+        vectorsByMember.put(LARGE_MEMBER, insertBubbles(LARGE_MEMBER, LARGE_MEMBER_BUBBLES, centers, random));
+        vectorsByMember.put(SMALL_MEMBER, insertBubbles(SMALL_MEMBER, SMALL_MEMBER_BUBBLES, centers, random));
+
+        queries = new ArrayList<>();
+        for (int q = 0; q < QUERIES; q++) {
+            queries.add(randomUnitVector(random, centers[random.nextInt(CLUSTERS)], 0.6));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"hnsw", "ivfflat"})
+    void annSearchRecallAgainstExactSearch(String indexType) {
+        BubbleVectorSearchRepository repository = prepare(indexType);
+
+        double recall = averageRecall(LARGE_MEMBER, q -> repository.findNearestByEmbedding(LARGE_MEMBER, q, K));
+        log.info("[{}] recall@{} over {} queries: {}", indexType, K, QUERIES, String.format("%.3f", recall));
+
+        assertThat(recall).isGreaterThanOrEqualTo(MIN_RECALL);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"hnsw", "ivfflat"})
+    void memberFilterStillReturnsFullResultForSmallMember(String indexType) {
+        BubbleVectorSearchRepository repository = prepare(indexType);
+
+        double recall = averageRecall(SMALL_MEMBER, q -> repository.findNearestByEmbedding(SMALL_MEMBER, q, K));
+        log.info("[{}] small member recall@{}: {}", indexType, K, String.format("%.3f", recall));
+
+        for (float[] query : queries) {
+            List<BubbleVectorSearchRepository.BubbleSimilarityRow> rows =
+                    inTransaction(() -> repository.findNearestByEmbedding(SMALL_MEMBER, query, K));
+            assertThat(rows).hasSize(K);
+            assertThat(rows).allMatch(row -> row.localIdx().startsWith("m" + SMALL_MEMBER + "-"));
+        }
+        assertThat(recall).isGreaterThanOrEqualTo(MIN_RECALL);
+    }
+
+    @Test
+    void similarToBubbleExcludesItself() {
+        BubbleVectorSearchRepository repository = prepare("hnsw");
+        Long bubbleId = jdbcTemplate.queryForObject(
+                "SELECT bubble_id FROM bubble WHERE local_idx = ?", Long.class, "m" + LARGE_MEMBER + "-0");
+
+        List<BubbleVectorSearchRepository.BubbleSimilarityRow> rows =
+                inTransaction(() -> repository.findNearestToBubble(LARGE_MEMBER, bubbleId, K));
+
+        assertThat(rows).hasSize(K);
+        assertThat(rows).noneMatch(row -> row.localIdx().equals("m" + LARGE_MEMBER + "-0"));
+        assertThat(rows).isSortedAccordingTo(Comparator.comparingDouble(BubbleVectorSearchRepository.BubbleSimilarityRow::distance));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"hnsw", "ivfflat"})
+    void zeroVectorBubblesAreExcluded(String indexType) {
+        BubbleVectorSearchRepository repository = prepare(indexType);
+
+        for (float[] query : queries) {
+            List<BubbleVectorSearchRepository.BubbleSimilarityRow> rows =
+                    inTransaction(() -> repository.findNearestByEmbedding(SMALL_MEMBER, query, SMALL_MEMBER_BUBBLES + 5));
+            assertThat(rows).isNotEmpty().hasSizeLessThanOrEqualTo(SMALL_MEMBER_BUBBLES);
+            assertThat(rows).noneMatch(row -> row.localIdx().equals("m" + SMALL_MEMBER + "-zero"));
+            assertThat(rows).allMatch(row -> Double.isFinite(row.distance()));
+        }
+
+        Long bubbleId = jdbcTemplate.queryForObject(
+                "SELECT bubble_id FROM bubble WHERE local_idx = ?", Long.class, "m" + SMALL_MEMBER + "-0");
+        List<BubbleVectorSearchRepository.BubbleSimilarityRow> similar =
+                inTransaction(() -> repository.findNearestToBubble(SMALL_MEMBER, bubbleId, SMALL_MEMBER_BUBBLES + 5));
+        assertThat(similar).isNotEmpty().hasSizeLessThanOrEqualTo(SMALL_MEMBER_BUBBLES - 1);
+        assertThat(similar).allMatch(row -> Double.isFinite(row.distance()));
+    }
+
+    @Test
+    void zeroVectorReferenceHasNoNeighbors() {
+        BubbleVectorSearchRepository repository = prepare("hnsw");
+        Long zeroBubbleId = jdbcTemplate.queryForObject(
+                "SELECT bubble_id FROM bubble WHERE local_idx = ?", Long.class, "m" + LARGE_MEMBER + "-zero");
+
+        assertThat(inTransaction(() -> repository.findNearestToBubble(LARGE_MEMBER, zeroBubbleId, K))).isEmpty();
+    }
+
+    private BubbleVectorSearchRepository prepare(String indexType) {
+        new BubbleVectorIndexManager(jdbcTemplate, true, indexType, DIMENSION, true, 16, 64, 20).ensureIndexes();
+        jdbcTemplate.execute("ANALYZE bubble");
+        return new BubbleVectorSearchRepository(jdbcTemplate, indexType, 40, 5, "relaxed_order");
+    }
+
+    private double averageRecall(long memberId,
+                                 Function<float[], List<BubbleVectorSearchRepository.BubbleSimilarityRow>> search) {
+        List<float[]> corpus = vectorsByMember.get(memberId);
+        double total = 0.0;
+        for (float[] query : queries) {
+            Set<String> expected = exactNearest(memberId, corpus, query);
+            Set<String> actual = inTransaction(() -> search.apply(query)).stream()
+                    .map(BubbleVectorSearchRepository.BubbleSimilarityRow::localIdx)
+                    .collect(Collectors.toSet());
+            actual.retainAll(expected);
+            total += (double) actual.size() / expected.size();
+        }
+        return total / queries.size();
+    }
+
+    private static Set<String> exactNearest(long memberId, List<float[]> corpus, float[] query) {
+        Integer[] order = new Integer[corpus.size()];
+        double[] distances = new double[corpus.size()];
+        for (int i = 0; i < corpus.size(); i++) {
+            order[i] = i;
+            distances[i] = 1.0 - dot(corpus.get(i), query);
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> distances[i]));
+
+        Set<String> nearest = new HashSet<>();
+        for (int i = 0; i < Math.min(K, order.length); i++) {
+            nearest.add("m" + memberId + "-" + order[i]);
+        }
+        return nearest;
+    }
+
+    private static List<float[]> insertBubbles(long memberId, int count, float[][] centers, SplittableRandom random) {
+        List<float[]> vectors = new ArrayList<>(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            float[] vector = randomUnitVector(random, centers[random.nextInt(centers.length)], 0.5);
+            vectors.add(vector);
+            rows.add(new Object[]{"m" + memberId + "-" + i, memberId, "bubble " + i, new PGvector(vector).toString()});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO bubble (local_idx, member_id, title, embedding) VALUES (?, ?, ?, CAST(? AS vector))", rows);
+
+        // 휴지통 버블은 결과에 나오면 안 됨
+        jdbcTemplate.update("INSERT INTO bubble (local_idx, member_id, title, is_trashed, embedding) VALUES (?, ?, ?, true, CAST(? AS vector))",
+                "m" + memberId + "-trashed", memberId, "trashed", new PGvector(vectors.get(0)).toString());
+        // 영벡터는 코사인 거리가 NaN이라 결과에 나오면 안 됨
+        jdbcTemplate.update("INSERT INTO bubble (local_idx, member_id, title, embedding) VALUES (?, ?, ?, CAST(? AS vector))",
+                "m" + memberId + "-zero", memberId, "zero", new PGvector(new float[DIMENSION]).toString());
+        return vectors;
+    }
+
+    // center 주변에 noise 크기만큼 흩어진 단위 벡터 (center가 없으면 균등 무작위 방향)
+    private static float[] randomUnitVector(SplittableRandom random, float[] center, double noise) {
+        float[] vector = new float[DIMENSION];
+        double norm = 0.0;
+        for (int j = 0; j < DIMENSION; j++) {
+            double gaussian = gaussian(random);
+            double value = center == null ? gaussian : center[j] + noise * gaussian / Math.sqrt(DIMENSION);
+            vector[j] = (float) value;
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+        for (int j = 0; j < DIMENSION; j++) {
+            vector[j] /= (float) norm;
+        }
+        return vector;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u1 = random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(1.0 - u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0.0;
+        for (int j = 0; j < a.length; j++) {
+            sum += a[j] * b[j];
+        }
+        return sum;
+    }
+
+    private static <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
@@ -0,0 +1,72 @@
+package com.edison.project.domain.bubble.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BubbleGraph의 링크 교체/노드 제거가 나가는·들어오는 링크를 함께 맞추는지 확인
+ * 이웃 탐색(neighbors)은 방향을 무시한 인접 목록(out ∪ in)을 그대로 쓴다.
+ */
+class BubbleGraphTest {
+
+    private BubbleGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        // 1 -> 2 -> 3, 4는 고립 (자기 링크와 그래프 밖 버블로 가는 링크는 무시)
+        graph = BubbleGraph.build(
+                Map.of(1L, "a", 2L, "b", 3L, "c", 4L, "d"),
+                new long[]{1, 2, 4, 1},
+                new long[]{2, 3, 4, 99});
+    }
+
+    @Test
+    void buildIgnoresSelfAndDanglingLinks() {
+        assertThat(graph.edgesAmong(new long[]{1, 2, 3, 4})).isDeepEqualTo(new int[][]{{0, 1}, {1, 2}});
+        assertThat(graph.neighbors(4, 1, 10)).isEmpty();
+    }
+
+    @Test
+    void adjacentMergesBothDirectionsWithoutDuplicates() {
+        graph.setOutLinks(2, "b", new long[]{3, 1});
+
+        assertThat(graph.neighbors(2, 1, 10)).extracting(BubbleGraph.Neighbor::bubbleId).containsExactly(1L, 3L);
+        assertThat(graph.neighbors(1, 1, 10)).extracting(BubbleGraph.Neighbor::bubbleId).containsExactly(2L);
+    }
+
+    @Test
+    void setOutLinksReplacesLinksAndUpdatesIncoming() {
+        graph.setOutLinks(1, "a", new long[]{3, 3, 1, 99});
+
+        assertThat(graph.edgesAmong(new long[]{1, 2, 3})).isDeepEqualTo(new int[][]{{0, 1}, {2, 2}});
+        // 1 -> 2가 빠졌으므로 2의 이웃은 3뿐
+        assertThat(graph.neighbors(2, 1, 10)).extracting(BubbleGraph.Neighbor::bubbleId).containsExactly(3L);
+        assertThat(graph.neighbors(3, 1, 10)).extracting(BubbleGraph.Neighbor::bubbleId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void setOutLinksAddsNodeAndTracksLocalIdxChange() {
+        graph.setOutLinks(5, "e", new long[]{4});
+        assertThat(graph.findId("e")).contains(5L);
+        assertThat(graph.neighbors(4, 1, 10)).extracting(BubbleGraph.Neighbor::localIdx).containsExactly("e");
+
+        graph.setOutLinks(5, "e2", new long[0]);
+        assertThat(graph.findId("e")).isEmpty();
+        assertThat(graph.findId("e2")).contains(5L);
+        assertThat(graph.neighbors(4, 1, 10)).isEmpty();
+    }
+
+    @Test
+    void removeNodeDropsLinksInBothDirections() {
+        graph.removeNode(2);
+
+        assertThat(graph.findId("b")).isEmpty();
+        assertThat(graph.edgesAmong(new long[]{1, 2, 3})).isDeepEqualTo(new int[][]{{}, {}});
+        assertThat(graph.neighbors(1, 1, 10)).isEmpty();
+        assertThat(graph.neighbors(3, 1, 10)).isEmpty();
+    }
+}
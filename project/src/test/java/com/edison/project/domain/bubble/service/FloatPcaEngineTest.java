@@ -0,0 +1,101 @@
+package com.edison.project.domain.bubble.service;
+
+import org.junit.jupiter.api.Test;
+import smile.feature.extraction.PCA;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * FloatPcaEngine 결과를 Smile PCA(공분산 고유분해)와 비교
+ * 고정 시드로 두 방향에 분산이 몰린 행렬을 만들어, 기저(부호 제외)/설명력/좌표가 일치하는지 확인
+ */
+class FloatPcaEngineTest {
+
+    private static final int N = 200;
+    private static final int D = 16;
+
+    @Test
+    void matchesSmileOnFixedRandomMatrix() {
+        float[] data = randomMatrix(new Random(7));
+        double[][] rows = new double[N][D];
+        for (int i = 0; i < N; i++) {
+            for (int j = 0; j < D; j++) {
+                rows[i][j] = data[i * D + j];
+            }
+        }
+
+        FloatPcaEngine.Result result = FloatPcaEngine.fit(data, N, D);
+        PCA pca = PCA.fit(rows);
+        double[] center = pca.center();
+        var loadings = pca.loadings();
+
+        for (int j = 0; j < D; j++) {
+            assertThat(result.mean()[j]).isCloseTo(center[j], within(1e-6));
+        }
+
+        for (int k = 0; k < 2; k++) {
+            double[] expected = new double[D];
+            for (int j = 0; j < D; j++) {
+                expected[j] = loadings.get(j, k);
+            }
+            double cosine = dot(result.basis()[k], expected);
+            assertThat(Math.abs(cosine)).as("component %d", k).isCloseTo(1.0, within(1e-6));
+
+            double sign = Math.signum(cosine);
+            for (int i = 0; i < N; i++) {
+                double projected = 0.0;
+                for (int j = 0; j < D; j++) {
+                    projected += (rows[i][j] - center[j]) * expected[j];
+                }
+                assertThat(result.coordinates()[i][k]).isCloseTo(sign * projected, within(1e-3));
+            }
+        }
+
+        assertThat(result.explainedRatio()).isCloseTo(pca.cumulativeVarianceProportion()[1], within(1e-4));
+    }
+
+    // 분산이 큰 두 잠재 방향 + 작은 잡음, 평균이 0이 아니도록 오프셋
+    private static float[] randomMatrix(Random random) {
+        double[] first = unit(random);
+        double[] second = unit(random);
+        double[] offset = new double[D];
+        for (int j = 0; j < D; j++) {
+            offset[j] = random.nextGaussian();
+        }
+
+        float[] data = new float[N * D];
+        for (int i = 0; i < N; i++) {
+            double a = 3.0 * random.nextGaussian();
+            double b = 1.5 * random.nextGaussian();
+            for (int j = 0; j < D; j++) {
+                data[i * D + j] = (float) (offset[j] + a * first[j] + b * second[j] + 0.1 * random.nextGaussian());
+            }
+        }
+        return data;
+    }
+
+    private static double[] unit(Random random) {
+        double[] v = new double[D];
+        double norm = 0.0;
+        for (int j = 0; j < D; j++) {
+            v[j] = random.nextGaussian();
+            norm += v[j] * v[j];
+        }
+        norm = Math.sqrt(norm);
+        for (int j = 0; j < D; j++) {
+            v[j] /= norm;
+        }
+        return v;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int j = 0; j < a.length; j++) {
+            sum += a[j] * b[j];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,111 @@
+package com.edison.project.domain.bubble.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 작은 고정 입력으로 ForceLayoutEngine의 배치 성질 확인
+ * 시간 예산을 넉넉히 줘서 반복 횟수로만 끝나게 하므로 결과가 실행마다 같다.
+ */
+class ForceLayoutEngineTest {
+
+    // 운영 기본값 (bubble.layout.*)에서 시간 예산만 늘림
+    private static final ForceLayoutEngine.Options OPTIONS =
+            new ForceLayoutEngine.Options(300, 60_000, 0.8, 0.5, 1e-4);
+
+    @Test
+    void linkedNodesEndUpCloserThanSeeds() {
+        double[][] seeds = grid(5, 4, 10.0, 100.0, -50.0);
+        // 대각선 반대편 모서리끼리 연결
+        int[] sources = {0, 0, 1};
+        int[] targets = {19, 18, 19};
+
+        ForceLayoutEngine.Result result = ForceLayoutEngine.layout(seeds, sources, targets, OPTIONS);
+
+        assertThat(distance(result.coordinates(), 0, 19)).isLessThan(distance(seeds, 0, 19));
+        assertThat(distance(result.coordinates(), 1, 18)).isLessThan(distance(seeds, 1, 18));
+        assertThat(result.iterations()).isPositive();
+    }
+
+    @Test
+    void outputKeepsInputScale() {
+        double[][] seeds = grid(5, 4, 10.0, 100.0, -50.0);
+        int[] sources = {0, 5, 10, 3};
+        int[] targets = {19, 6, 11, 16};
+
+        ForceLayoutEngine.Result result = ForceLayoutEngine.layout(seeds, sources, targets, OPTIONS);
+
+        double[] seedCenter = center(seeds);
+        double[] resultCenter = center(result.coordinates());
+        double seedRadius = rmsRadius(seeds, seedCenter);
+        assertThat(resultCenter[0]).isCloseTo(seedCenter[0], within(0.2 * seedRadius));
+        assertThat(resultCenter[1]).isCloseTo(seedCenter[1], within(0.2 * seedRadius));
+        assertThat(rmsRadius(result.coordinates(), resultCenter)).isBetween(0.5 * seedRadius, 1.5 * seedRadius);
+    }
+
+    @Test
+    void emptyEdgeListReturnsSeedsUnchanged() {
+        double[][] seeds = grid(3, 3, 2.0, 1.0, 1.0);
+
+        ForceLayoutEngine.Result result = ForceLayoutEngine.layout(seeds, new int[0], new int[0], OPTIONS);
+
+        assertThat(result.coordinates()).isDeepEqualTo(seeds).isNotSameAs(seeds);
+        assertThat(result.iterations()).isZero();
+        assertThat(result.converged()).isTrue();
+    }
+
+    @Test
+    void invalidEdgesAndDuplicatePointsAreTolerated() {
+        double[][] seeds = {{1.0, 1.0}, {1.0, 1.0}, {1.0, 1.0}, {4.0, 5.0}};
+        // 자기 링크와 범위 밖 인덱스는 무시
+        int[] sources = {0, 2, 1, -1};
+        int[] targets = {3, 2, 7, 0};
+
+        ForceLayoutEngine.Result result = ForceLayoutEngine.layout(seeds, sources, targets, OPTIONS);
+
+        for (double[] point : result.coordinates()) {
+            assertThat(point[0]).isFinite();
+            assertThat(point[1]).isFinite();
+        }
+        assertThat(distance(result.coordinates(), 0, 1)).isPositive();
+    }
+
+    @Test
+    void mismatchedEdgeArraysAreRejected() {
+        assertThatThrownBy(() -> ForceLayoutEngine.layout(grid(2, 2, 1.0, 0.0, 0.0), new int[]{0, 1}, new int[]{1}, OPTIONS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static double[][] grid(int columns, int rows, double spacing, double offsetX, double offsetY) {
+        double[][] points = new double[columns * rows][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new double[]{offsetX + (i % columns) * spacing, offsetY + (i / columns) * spacing};
+        }
+        return points;
+    }
+
+    private static double distance(double[][] points, int a, int b) {
+        return Math.hypot(points[a][0] - points[b][0], points[a][1] - points[b][1]);
+    }
+
+    private static double[] center(double[][] points) {
+        double x = 0.0;
+        double y = 0.0;
+        for (double[] point : points) {
+            x += point[0];
+            y += point[1];
+        }
+        return new double[]{x / points.length, y / points.length};
+    }
+
+    private static double rmsRadius(double[][] points, double[] center) {
+        double sum = 0.0;
+        for (double[] point : points) {
+            sum += Math.pow(point[0] - center[0], 2) + Math.pow(point[1] - center[1], 2);
+        }
+        return Math.sqrt(sum / points.length);
+    }
+}
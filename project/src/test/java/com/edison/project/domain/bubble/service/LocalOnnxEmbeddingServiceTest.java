@@ -0,0 +1,87 @@
+package com.edison.project.domain.bubble.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 모델 출력(last_hidden_state)을 직접 만들어 LocalOnnxEmbeddingService의 풀링 단계 확인
+ * ONNX 세션과 토크나이저는 모델 파일이 필요하므로 세션 출력 이후 단계만 검증한다.
+ */
+class LocalOnnxEmbeddingServiceTest {
+
+    private static final int HIDDEN = 4;
+
+    @Test
+    void outputIsZeroPaddedToColumnDimension() {
+        // batch 1, 토큰 2개 모두 유효
+        float[] hiddenState = {
+                1, 2, 3, 4,
+                3, 2, 1, 0
+        };
+
+        float[][] pooled = LocalOnnxEmbeddingService.pool(FloatBuffer.wrap(hiddenState), new long[]{1, 1}, 1, 2, HIDDEN);
+
+        assertThat(pooled).hasNumberOfRows(1);
+        assertThat(pooled[0]).hasSize(LocalOnnxEmbeddingService.EMBEDDING_DIM);
+        for (int i = HIDDEN; i < pooled[0].length; i++) {
+            assertThat(pooled[0][i]).isZero();
+        }
+        // 평균 (2, 2, 2, 2)을 L2 정규화
+        for (int h = 0; h < HIDDEN; h++) {
+            assertThat(pooled[0][h]).isCloseTo(0.5f, within(1e-6f));
+        }
+    }
+
+    @Test
+    void poolingIgnoresMaskedTokens() {
+        // batch 2, sequence 3: 첫 문장은 마지막 토큰이 패딩, 두 번째 문장은 첫 토큰만 유효
+        float[] hiddenState = {
+                1, 0, 0, 0,
+                0, 1, 0, 0,
+                100, -100, 100, -100,
+
+                0, 0, 3, 0,
+                50, 50, 50, 50,
+                -7, 8, 9, -10
+        };
+        long[] attentionMask = {
+                1, 1, 0,
+                1, 0, 0
+        };
+
+        float[][] pooled = LocalOnnxEmbeddingService.pool(FloatBuffer.wrap(hiddenState), attentionMask, 2, 3, HIDDEN);
+
+        float expected = (float) (1.0 / Math.sqrt(2.0));
+        assertThat(pooled[0][0]).isCloseTo(expected, within(1e-6f));
+        assertThat(pooled[0][1]).isCloseTo(expected, within(1e-6f));
+        assertThat(pooled[0][2]).isZero();
+        assertThat(pooled[0][3]).isZero();
+
+        assertThat(pooled[1][0]).isZero();
+        assertThat(pooled[1][1]).isZero();
+        assertThat(pooled[1][2]).isCloseTo(1.0f, within(1e-6f));
+        assertThat(pooled[1][3]).isZero();
+    }
+
+    @Test
+    void fullyMaskedRowBecomesZeroVector() {
+        float[] hiddenState = {5, 5, 5, 5};
+
+        float[][] pooled = LocalOnnxEmbeddingService.pool(FloatBuffer.wrap(hiddenState), new long[]{0}, 1, 1, HIDDEN);
+
+        assertThat(pooled[0]).hasSize(LocalOnnxEmbeddingService.EMBEDDING_DIM).containsOnly(0.0f);
+    }
+
+    @Test
+    void hiddenSizeLargerThanColumnIsRejected() {
+        int hidden = LocalOnnxEmbeddingService.EMBEDDING_DIM + 1;
+
+        assertThatThrownBy(() -> LocalOnnxEmbeddingService.pool(FloatBuffer.allocate(hidden), new long[]{1}, 1, 1, hidden))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,36 @@
+package com.edison.project.domain.bubble.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입력 토큰 추정(UTF-8 바이트)과 자르기 확인
+ */
+class OpenAIEmbeddingServiceTest {
+
+    @Test
+    void estimateIsUtf8ByteLength() {
+        assertThat(OpenAIEmbeddingService.estimateTokens("abc")).isEqualTo(3);
+        // 한글 3바이트, 이모지(서로게이트 쌍) 4바이트
+        assertThat(OpenAIEmbeddingService.estimateTokens("가나")).isEqualTo(6);
+        assertThat(OpenAIEmbeddingService.estimateTokens("a😀")).isEqualTo(5);
+        String mixed = "버블 bubble 😀 é";
+        assertThat(OpenAIEmbeddingService.estimateTokens(mixed))
+                .isEqualTo(mixed.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void truncateKeepsWithinByteBudgetWithoutSplittingCharacters() {
+        String korean = "가".repeat(10_000);
+        String truncated = OpenAIEmbeddingService.truncate(korean, 8000);
+        assertThat(truncated).hasSize(2666);
+        assertThat(truncated.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(8000);
+
+        // 이모지 앞에서 끊길 때 서로게이트 쌍을 반만 남기지 않음
+        assertThat(OpenAIEmbeddingService.truncate("ab😀", 5)).isEqualTo("ab");
+        assertThat(OpenAIEmbeddingService.truncate("ab😀", 6)).isEqualTo("ab😀");
+    }
+}
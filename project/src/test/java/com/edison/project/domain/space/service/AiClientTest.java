@@ -0,0 +1,165 @@
+package com.edison.project.domain.space.service;
+
+import com.edison.project.common.exception.GeneralException;
+import com.edison.project.common.status.ErrorStatus;
+import com.edison.project.domain.space.dto.AiResponseDto;
+import com.edison.project.domain.space.dto.SpaceMapRequestDto;
+import com.edison.project.domain.space.dto.SpaceSimilarityRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MockWebServer를 AI 서버 대신 띄워 AiClient의 타임아웃, 동시 호출 제한, 지표를 확인
+ */
+class AiClientTest {
+
+    private MockWebServer server;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    void postsMemosAndReadsCoordinates() throws Exception {
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("[{\"localIdx\":\"b1\",\"x\":0.5,\"y\":-1.0,\"cluster\":3}]"));
+        AiClient client = client(1_000, 1_000, 4, 0);
+
+        List<AiResponseDto.AiVectorResponseDto> result = client.sendToAiServer(List.of(memo("b1", "hello")));
+
+        assertThat(result).singleElement().satisfies(r -> {
+            assertThat(r.getLocalIdx()).isEqualTo("b1");
+            assertThat(r.getX()).isEqualTo(0.5);
+            assertThat(r.getY()).isEqualTo(-1.0);
+        });
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getPath()).isEqualTo("/ai");
+        assertThat(request.getHeader("Content-Type")).startsWith("application/json");
+        assertThat(request.getBody().readUtf8()).contains("\"localIdx\":\"b1\"");
+        assertThat(meterRegistry.get("ai.client.requests")
+                .tags("endpoint", "ai", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void streamsMemosFromSourceAsChunkedBody() throws Exception {
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"results\":[]}"));
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"revision\":\"r2\",\"positions\":[]}"));
+        AiClient client = client(1_000, 1_000, 4, 0);
+
+        client.sendToSimilarityServer("cat", action -> {
+            action.accept(memo("b1", "a \"cat\""));
+            action.accept(memo("b2", null));
+        });
+        AiResponseDto.AiIncrementalResponseDto incremental =
+                client.sendIncrementalToAiServer("7", null, action -> action.accept(memo("b3", "new")), List.of("b0"));
+
+        RecordedRequest similarity = server.takeRequest();
+        assertThat(similarity.getPath()).isEqualTo("/similarity");
+        assertThat(similarity.getHeader("Transfer-Encoding")).isEqualTo("chunked");
+        assertThat(new ObjectMapper().readTree(similarity.getBody().readUtf8())).isEqualTo(new ObjectMapper().readTree(
+                "{\"keyword\":\"cat\",\"memos\":[{\"localIdx\":\"b1\",\"content\":\"a \\\"cat\\\"\"},"
+                        + "{\"localIdx\":\"b2\",\"content\":null}]}"));
+
+        RecordedRequest incrementalRequest = server.takeRequest();
+        assertThat(incrementalRequest.getPath()).isEqualTo("/ai/incremental");
+        assertThat(new ObjectMapper().readTree(incrementalRequest.getBody().readUtf8())).isEqualTo(new ObjectMapper().readTree(
+                "{\"memberKey\":\"7\",\"baseRevision\":null,"
+                        + "\"upserts\":[{\"localIdx\":\"b3\",\"content\":\"new\"}],\"removed\":[\"b0\"]}"));
+        assertThat(incremental.getRevision()).isEqualTo("r2");
+    }
+
+    @Test
+    void slowSimilarityServerTimesOut() {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        AiClient client = client(5_000, 200, 4, 0);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.sendToSimilarityServer(similarity("cat")))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus").isEqualTo(ErrorStatus.AI_SERVER_UNAVAILABLE);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(3_000);
+        assertThat(meterRegistry.get("ai.client.requests")
+                .tags("endpoint", "similarity", "outcome", "io_error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void serverErrorIsReportedAsUnavailable() {
+        server.enqueue(new MockResponse().setResponseCode(502));
+        AiClient client = client(1_000, 1_000, 4, 0);
+
+        assertThatThrownBy(() -> client.sendToAiServer(List.of(memo("b1", "hello"))))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus").isEqualTo(ErrorStatus.AI_SERVER_UNAVAILABLE);
+        assertThat(meterRegistry.get("ai.client.requests")
+                .tags("endpoint", "ai", "outcome", "http_502").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondLimit() throws Exception {
+        server.enqueue(new MockResponse().setBody("[]").setHeadersDelay(1, TimeUnit.SECONDS));
+        AiClient client = client(5_000, 5_000, 1, 0);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<AiResponseDto.AiVectorResponseDto>> first =
+                    executor.submit(() -> client.sendToAiServer(List.of(memo("b1", "slow"))));
+            server.takeRequest(2, TimeUnit.SECONDS);
+
+            assertThatThrownBy(() -> client.sendToAiServer(List.of(memo("b2", "second"))))
+                    .isInstanceOf(GeneralException.class)
+                    .extracting("errorStatus").isEqualTo(ErrorStatus.AI_SERVER_BUSY);
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(server.getRequestCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.client.requests")
+                .tags("endpoint", "ai", "outcome", "rejected").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.client.in.flight").gauge().value()).isZero();
+    }
+
+    private AiClient client(long mapReadTimeoutMs, long similarityReadTimeoutMs, int maxConcurrentCalls, long acquireTimeoutMs) {
+        return new AiClient(new ObjectMapper(), meterRegistry, server.url("/").toString(),
+                1_000, 1_000, mapReadTimeoutMs, similarityReadTimeoutMs, 2, 30, maxConcurrentCalls, acquireTimeoutMs);
+    }
+
+    private static SpaceMapRequestDto.MapRequestDto memo(String localIdx, String content) {
+        return SpaceMapRequestDto.MapRequestDto.builder().localIdx(localIdx).content(content).build();
+    }
+
+    private static SpaceSimilarityRequestDto.MapRequestDto similarity(String keyword) {
+        return SpaceSimilarityRequestDto.MapRequestDto.builder()
+                .keyword(keyword)
+                .memos(List.of(memo("b1", "a cat")))
+                .build();
+    }
+}
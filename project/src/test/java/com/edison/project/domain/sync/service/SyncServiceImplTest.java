@@ -0,0 +1,113 @@
+package com.edison.project.domain.sync.service;
+
+import com.edison.project.common.exception.GeneralException;
+import com.edison.project.common.status.ErrorStatus;
+import com.edison.project.domain.bubble.repository.BubbleRepository;
+import com.edison.project.domain.label.repository.LabelRepository;
+import com.edison.project.domain.sync.dto.SyncResponseDto;
+import com.edison.project.domain.sync.entity.SyncEntityType;
+import com.edison.project.domain.sync.entity.SyncTombstone;
+import com.edison.project.domain.sync.repository.SyncTombstoneRepository;
+import com.edison.project.global.security.CustomUserPrincipal;
+import com.edison.project.global.util.CursorUtil;
+import com.edison.project.global.util.CursorUtil.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 증분 sync 커서 중 삭제 기록 위치가 어떻게 움직이는지 확인 (저장소는 mock)
+ */
+class SyncServiceImplTest {
+
+    private static final CustomUserPrincipal USER = new CustomUserPrincipal(1L, "sync@edison.test");
+    private static final int LIMIT = 2;
+
+    private SyncTombstoneRepository syncTombstoneRepository;
+    private SyncServiceImpl syncService;
+
+    @BeforeEach
+    void setUp() {
+        BubbleRepository bubbleRepository = mock(BubbleRepository.class);
+        LabelRepository labelRepository = mock(LabelRepository.class);
+        syncTombstoneRepository = mock(SyncTombstoneRepository.class);
+        when(bubbleRepository.findChangesAfter(anyLong(), any(), anyLong(), any(), any())).thenReturn(List.of());
+        when(labelRepository.findChangesAfter(anyLong(), any(), anyLong(), any(), any())).thenReturn(List.of());
+        when(syncTombstoneRepository.findChanges(anyLong(), any(), anyLong(), any(), anyInt())).thenReturn(List.of());
+
+        syncService = new SyncServiceImpl(bubbleRepository, labelRepository, syncTombstoneRepository);
+        ReflectionTestUtils.setField(syncService, "maxSize", 500);
+        ReflectionTestUtils.setField(syncService, "commitLagMs", 2000L);
+        ReflectionTestUtils.setField(syncService, "retentionDays", 90L);
+    }
+
+    @Test
+    void quietMemberCursorFollowsUntil() {
+        // 첫 sync 이후 하드 삭제가 한 번도 없었던 회원
+        LocalDateTime firstSync = LocalDateTime.now().minusDays(89);
+        String cursor = CursorUtil.encode(Position.START, Position.START, new Position(firstSync, 0L));
+
+        LocalDateTime before = LocalDateTime.now().minusSeconds(5);
+        SyncResponseDto.ChangesResultDto result = syncService.getChanges(USER, cursor, LIMIT);
+
+        Position tombstonePosition = tombstonePosition(result.getNextCursor());
+        assertThat(tombstonePosition.time()).isAfter(before).isBefore(LocalDateTime.now());
+        assertThat(tombstonePosition.id()).isZero();
+    }
+
+    @Test
+    void fullTombstonePageKeepsLastReturnedPosition() {
+        LocalDateTime base = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.MICROS);
+        List<SyncTombstone> page = new ArrayList<>();
+        for (int i = 0; i <= LIMIT; i++) {
+            page.add(tombstone(10L + i, base.plusSeconds(i)));
+        }
+        when(syncTombstoneRepository.findChanges(anyLong(), any(), anyLong(), any(), anyInt())).thenReturn(page);
+
+        SyncResponseDto.ChangesResultDto result = syncService.getChanges(USER,
+                CursorUtil.encode(Position.START, Position.START, new Position(base.minusDays(1), 0L)), LIMIT);
+
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getTombstones()).hasSize(LIMIT);
+        assertThat(tombstonePosition(result.getNextCursor())).isEqualTo(new Position(base.plusSeconds(LIMIT - 1), 10L + LIMIT - 1));
+    }
+
+    @Test
+    void cursorOlderThanRetentionIsExpired() {
+        String cursor = CursorUtil.encode(Position.START, Position.START,
+                new Position(LocalDateTime.now().minusDays(91), 0L));
+
+        assertThatThrownBy(() -> syncService.getChanges(USER, cursor, LIMIT))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.SYNC_CURSOR_EXPIRED);
+    }
+
+    private static Position tombstonePosition(String cursor) {
+        return CursorUtil.decode(cursor, 3).get(2);
+    }
+
+    private static SyncTombstone tombstone(long id, LocalDateTime deletedAt) {
+        SyncTombstone tombstone = SyncTombstone.builder()
+                .memberId(USER.getMemberId())
+                .entityType(SyncEntityType.BUBBLE)
+                .localIdx("b-" + id)
+                .deletedAt(deletedAt)
+                .build();
+        ReflectionTestUtils.setField(tombstone, "tombstoneId", id);
+        return tombstone;
+    }
+}
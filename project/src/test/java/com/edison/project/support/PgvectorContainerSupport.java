@@ -0,0 +1,33 @@
+package com.edison.project.support;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+
+/**
+ * pgvector가 설치된 PostgreSQL 컨테이너를 쓰는 테스트 공통 설정 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PgvectorContainerSupport {
+
+    @Container
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("pgvector/pgvector:pg16").asCompatibleSubstituteFor("postgres"));
+
+    protected static DataSource createDataSource() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        dataSource.setDriverClassName(POSTGRES.getDriverClassName());
+        return dataSource;
+    }
+
+    protected static void runScript(DataSource dataSource, String classpathLocation) {
+        new ResourceDatabasePopulator(new ClassPathResource(classpathLocation)).execute(dataSource);
+    }
+}
@@ -0,0 +1,32 @@
+-- 백링크/라벨 diff 테스트용 최소 스키마
+DROP TABLE IF EXISTS bubble_backlink;
+DROP TABLE IF EXISTS bubble_label;
+DROP TABLE IF EXISTS label;
+DROP TABLE IF EXISTS bubble CASCADE;
+
+CREATE TABLE bubble (
+    bubble_id  BIGSERIAL PRIMARY KEY,
+    local_idx  VARCHAR(50) NOT NULL,
+    member_id  BIGINT      NOT NULL,
+    title      VARCHAR(200),
+    is_trashed BOOLEAN     NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE label (
+    label_id  BIGSERIAL PRIMARY KEY,
+    local_idx VARCHAR(50),
+    member_id BIGINT
+);
+
+CREATE TABLE bubble_label (
+    bubble_label_id BIGSERIAL PRIMARY KEY,
+    bubble_id       BIGINT NOT NULL REFERENCES bubble (bubble_id),
+    label_id        BIGINT NOT NULL REFERENCES label (label_id)
+);
+
+CREATE TABLE bubble_backlink (
+    id                 BIGSERIAL PRIMARY KEY,
+    bubble_id          BIGINT  NOT NULL REFERENCES bubble (bubble_id),
+    backlink_bubble_id BIGINT  NOT NULL REFERENCES bubble (bubble_id),
+    is_trashed         BOOLEAN NOT NULL DEFAULT FALSE
+);
@@ -0,0 +1,29 @@
+-- 조회 인덱스 실행 계획 테스트용 스키마 (ddl-auto가 만드는 컬럼/@Index와 같게, 예전 인덱스 포함)
+DROP TABLE IF EXISTS bubble CASCADE;
+
+CREATE TABLE bubble (
+    bubble_id         BIGSERIAL PRIMARY KEY,
+    local_idx         VARCHAR(50),
+    member_id         BIGINT           NOT NULL,
+    title             VARCHAR(200)     NOT NULL,
+    content           TEXT,
+    is_deleted        BOOLEAN          NOT NULL DEFAULT FALSE,
+    is_trashed        BOOLEAN          NOT NULL DEFAULT FALSE,
+    created_at        TIMESTAMP(6)     NOT NULL,
+    updated_at        TIMESTAMP(6)     NOT NULL,
+    deleted_at        TIMESTAMP(6),
+    embedding_2d_x    DOUBLE PRECISION,
+    embedding_2d_y    DOUBLE PRECISION,
+    embedding_stale   BOOLEAN          NOT NULL DEFAULT TRUE,
+    server_updated_at TIMESTAMP(6)     NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_bubble_member_server_updated ON bubble (member_id, server_updated_at, bubble_id);
+CREATE INDEX idx_bubble_member_trashed_updated ON bubble (member_id, is_trashed, updated_at, bubble_id);
+CREATE INDEX idx_bubble_member_updated ON bubble (member_id, updated_at, bubble_id);
+
+-- BubbleQueryIndexManager가 지워야 하는 예전 인덱스
+CREATE INDEX idx_bubble_member_id ON bubble (member_id);
+CREATE INDEX idx_bubble_local_idx ON bubble (local_idx);
+CREATE INDEX idx_bubble_member_embedding_stale ON bubble (member_id, embedding_stale);
+CREATE INDEX idx_bubble_trashed_deleted_at ON bubble (is_trashed, deleted_at);
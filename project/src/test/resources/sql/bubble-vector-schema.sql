@@ -0,0 +1,13 @@
+-- 벡터 검색 테스트용 최소 스키마 (embedding은 typmod 없이 만들어 인덱스 관리자가 vector(n)으로 맞추는지 확인)
+CREATE EXTENSION IF NOT EXISTS vector;
+
+DROP TABLE IF EXISTS bubble;
+
+CREATE TABLE bubble (
+    bubble_id  BIGSERIAL PRIMARY KEY,
+    local_idx  VARCHAR(255) NOT NULL,
+    member_id  BIGINT       NOT NULL,
+    title      VARCHAR(255),
+    is_trashed BOOLEAN      NOT NULL DEFAULT FALSE,
+    embedding  vector
+);